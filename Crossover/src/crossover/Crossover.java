@@ -1,33 +1,48 @@
 package crossover;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.henshin.interpreter.Change;
 import org.eclipse.emf.henshin.interpreter.EGraph;
 import org.eclipse.emf.henshin.interpreter.Engine;
 import org.eclipse.emf.henshin.interpreter.Match;
-import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
 import org.eclipse.emf.henshin.interpreter.impl.MatchImpl;
-import org.eclipse.emf.henshin.model.Edge;
 import org.eclipse.emf.henshin.model.Mapping;
 import org.eclipse.emf.henshin.model.Node;
 import org.eclipse.emf.henshin.model.Rule;
 import org.eclipse.emf.henshin.model.impl.MappingImpl;
 import org.eclipse.emf.henshin.model.impl.RuleImpl;
 
+import view.ProblemPartCache;
 import view.View;
 import view.ViewFactory;
 import view.ViewSetOperationException;
@@ -38,28 +53,44 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	 * The default strategy used in splitting up the search space elements. 
 	 * It uses a depth first search in order to find all of the elements from 
 	 * the solution part which are in connected components with the first part of the problem split.
+	 * As the result doesn't depend on the order in which the connected components are found, it doesn't use random numbers.
+	 * It is stateless, i.e. it can be used by crossovers created on different threads at the same time,
+	 * see {@link SearchSpaceElementSplitStrategy#apply(View, View)}.
 	 */
-	public static final SearchSpaceElementSplitStrategy DEFAULT_STRATEGY = new SearchSpaceElementSplitStrategy () {
-		@Override
-		public void apply (View searchSpaceElementOne) throws ViewSetOperationException {
-			
-			searchSpaceElementOne.removeDangling();
-			
-			View tempProblemSplitOne = super.problemSplitPart.copy();
-			View tempSearchSpaceElementOne = new View(searchSpaceElementOne.getResource());
-			
-			while (!tempProblemSplitOne.isEmpty()) {
-				EObject randomNode = tempProblemSplitOne.getObject(tempProblemSplitOne.getRandomNode());
-				View connectedComponentOfSearchSpaceElementOne = ViewFactory.doDFS(searchSpaceElementOne, searchSpaceElementOne.getNode(randomNode));
-				tempProblemSplitOne.subtract(connectedComponentOfSearchSpaceElementOne);
-				tempSearchSpaceElementOne.union(connectedComponentOfSearchSpaceElementOne);
-			}
-			
-			searchSpaceElementOne.clear();
-			searchSpaceElementOne.union(tempSearchSpaceElementOne);
-			
+	public static final SearchSpaceElementSplitStrategy DEFAULT_STRATEGY = SearchSpaceElementSplitStrategy.of((View searchSpaceElementOne, View problemSplitPart) -> {
+		
+		searchSpaceElementOne.removeDangling();
+		
+		View tempProblemSplitOne = problemSplitPart.copy();
+		View tempSearchSpaceElementOne = new View(searchSpaceElementOne.getResource());
+		
+		while (!tempProblemSplitOne.isEmpty()) {
+			EObject startNode = tempProblemSplitOne.getObject(tempProblemSplitOne.getGraph().getNodes().get(0));
+			View connectedComponentOfSearchSpaceElementOne = ViewFactory.doDFS(searchSpaceElementOne, searchSpaceElementOne.getNode(startNode));
+			tempProblemSplitOne.subtract(connectedComponentOfSearchSpaceElementOne);
+			tempSearchSpaceElementOne.union(connectedComponentOfSearchSpaceElementOne);
 		}
-	};
+		
+		searchSpaceElementOne.clear();
+		searchSpaceElementOne.union(tempSearchSpaceElementOne);
+		
+	});
+	
+	/**
+	 * Provides the Henshin {@link Engine engines} used to apply the crossover rules, one for each thread.
+	 * It is shared by all {@link Crossover crossovers} unless {@link Crossover#setEngineProvider(EngineProvider)} is used.
+	 */
+	private static final EngineProvider ENGINE_PROVIDER = new EngineProvider(EngineProvider.DEFAULT_MAX_USES);
+	
+	/**
+	 * The {@link CrossoverContext context}, {@link Resource searchSpaceElements}, strategies and {@link ProblemPartCache cache}
+	 * the {@link Crossover} was created with, see {@link Crossover#Crossover(Crossover, Resource, Collection)}.
+	 */
+	private CrossoverContext context;
+	private Pair<Resource, Resource> searchSpaceElements;
+	private Strategy problemPartSplitStrategy;
+	private SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy;
+	private ProblemPartCache problemPartCache;
 	
 	/**
 	 * The {@link View view} over the {@link View#resource resource} that represents
@@ -121,6 +152,28 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	 * The intersection of both {@link Crossover#splitOfSSETwo} {@link View views}.
 	 */
 	private View intersectionOfSSETwo;
+	
+	/**
+	 * A map from the {@link EObject eObjects} of the {@link Crossover#problemPartIntersection} to the corresponding
+	 * {@link EObject eObjects} of the {@link Crossover#problemPartSSETwo}. It only depends on the problem parts and is
+	 * computed once by {@link Crossover#getProblemPartIntersectionIdentity()}.
+	 */
+	private Map<EObject, EObject> problemPartIntersectionIdentity;
+	
+	/**
+	 * The {@link ForkJoinPool pool} used to find the spans in parallel or null to find them sequentially.
+	 */
+	private ForkJoinPool matchPool;
+	
+	/**
+	 * The {@link EngineProvider provider} of the {@link Engine engines} this {@link Crossover} applies its rules with.
+	 */
+	private EngineProvider engineProvider = ENGINE_PROVIDER;
+	
+	/**
+	 * The parts of the search space element two outside of its second and first split element, see {@link Crossover#getRemovedParts()}.
+	 */
+	private Pair<OffspringDelta.RemovedPart, OffspringDelta.RemovedPart> removedParts;
 
 	/**
 	 * Default constructor for testing purposes.
@@ -142,7 +195,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	public Crossover (Resource metamodel, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
 			List<EClass> problemPartEClasses, List<EReference> problemPartEReferences,
 			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy) throws CrossoverUsageException, ViewSetOperationException {
-		init(metamodel, searchSpaceElements, problemPartSplitStrategy, problemPartEClasses, problemPartEReferences, searchSpaceElementSplitStrategy, new View(metamodel));
+		init(new CrossoverContext(metamodel, problemPartEClasses, problemPartEReferences), searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, null);
 	}
 	
 	/**
@@ -163,26 +216,246 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 			List<EClass> problemPartEClasses, List<EReference> problemPartEReferences,
 			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy,
 			View subMetaModelOfIntersection) throws CrossoverUsageException, ViewSetOperationException {
-		init(metamodel, searchSpaceElements, problemPartSplitStrategy, problemPartEClasses, problemPartEReferences, searchSpaceElementSplitStrategy, subMetaModelOfIntersection);
+		init(new CrossoverContext(metamodel, problemPartEClasses, problemPartEReferences, subMetaModelOfIntersection, ViewFactory.NO_KEY), searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, null);
 	}
 	
-	private void init (Resource metamodel, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
+	/**
+	 * Creates a new Crossover between the given {@link Resource searchSpaceElements}.
+	 * @param metamodel the meta-model for the {@link Resource searchSpaceElements}.
+	 * @param searchSpaceElements the search space elements to do the crossover on
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part
+	 * @param problemPartEClasses a {@link List list} of all non-abstract {@link EClass eClasses} describing the problem part
+	 * @param problemPartEReferences a {@link List list} of {@link EReference eReferences} describing the problem part
+	 * @param searchSpaceElementSplitStrategy the strategy usedto split up the search space elements
+	 * @param subMetaModelOfIntersection a {@link View view} on the {@literal metamodel} used to create the splits </br>
+	 * All instances of the elements contained by this view are part of the intersections of the problem split and search space
+	 * element split respectively. 
+	 * @param problemPartKey a stable identifier of the {@link EObject eObjects} in the problem part used to map the problem parts
+	 * of the {@link Resource searchSpaceElements} onto each other, see {@link ViewFactory#buildViewMapping(View, View, List, List, Function)}
+	 * @throws CrossoverUsageException if one of the parameters is null or the metamodel or searchSpaceElements are empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover (Resource metamodel, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
 			List<EClass> problemPartEClasses, List<EReference> problemPartEReferences,
 			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy,
-			View subMetaModelOfIntersection) throws CrossoverUsageException, ViewSetOperationException {
+			View subMetaModelOfIntersection, Function<EObject, ?> problemPartKey) throws CrossoverUsageException, ViewSetOperationException {
+		init(new CrossoverContext(metamodel, problemPartEClasses, problemPartEReferences, subMetaModelOfIntersection, problemPartKey), searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, null);
+	}
+	
+	/**
+	 * Creates a new Crossover between the given {@link Resource searchSpaceElements}.
+	 * @param metamodel the meta-model for the {@link Resource searchSpaceElements}.
+	 * @param searchSpaceElements the search space elements to do the crossover on
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part
+	 * @param problemPartEClasses a {@link List list} of all non-abstract {@link EClass eClasses} describing the problem part
+	 * @param problemPartEReferences a {@link List list} of {@link EReference eReferences} describing the problem part
+	 * @param searchSpaceElementSplitStrategy the strategy usedto split up the search space elements
+	 * @param subMetaModelOfIntersection a {@link View view} on the {@literal metamodel} used to create the splits </br>
+	 * All instances of the elements contained by this view are part of the intersections of the problem split and search space
+	 * element split respectively. 
+	 * @param problemPartKey a stable identifier of the {@link EObject eObjects} in the problem part used to map the problem parts
+	 * of the {@link Resource searchSpaceElements} onto each other, see {@link ViewFactory#buildViewMapping(View, View, List, List, Function)}
+	 * @param problemPartCache a {@link ProblemPartCache cache} shared between crossovers of the same population
+	 * @throws CrossoverUsageException if one of the parameters is null or the metamodel or searchSpaceElements are empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover (Resource metamodel, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
+			List<EClass> problemPartEClasses, List<EReference> problemPartEReferences,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy,
+			View subMetaModelOfIntersection, Function<EObject, ?> problemPartKey, ProblemPartCache problemPartCache) throws CrossoverUsageException, ViewSetOperationException {
+		if(problemPartCache == null)
+			throw new CrossoverUsageException("The problemPartCache must not be null.");
+		init(new CrossoverContext(metamodel, problemPartEClasses, problemPartEReferences, subMetaModelOfIntersection, problemPartKey), searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, problemPartCache);
+	}
+	
+	/**
+	 * Creates a new Crossover between the given {@link Resource searchSpaceElements}.
+	 * @param context the {@link CrossoverContext context} holding the meta-model and the specification of the problem part,
+	 * it may be shared with other crossovers
+	 * @param searchSpaceElements the search space elements to do the crossover on
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part
+	 * @param searchSpaceElementSplitStrategy the strategy usedto split up the search space elements
+	 * @throws CrossoverUsageException if one of the parameters is null or the searchSpaceElements are empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover (CrossoverContext context, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy) throws CrossoverUsageException, ViewSetOperationException {
+		init(context, searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, null);
+	}
+	
+	/**
+	 * Creates a new Crossover between the given {@link Resource searchSpaceElements}.
+	 * @param context the {@link CrossoverContext context} holding the meta-model and the specification of the problem part,
+	 * it may be shared with other crossovers
+	 * @param searchSpaceElements the search space elements to do the crossover on
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part
+	 * @param searchSpaceElementSplitStrategy the strategy usedto split up the search space elements
+	 * @param problemPartCache a {@link ProblemPartCache cache} shared between crossovers of the same population
+	 * @throws CrossoverUsageException if one of the parameters is null or the searchSpaceElements are empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover (CrossoverContext context, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy, ProblemPartCache problemPartCache) throws CrossoverUsageException, ViewSetOperationException {
+		if(problemPartCache == null)
+			throw new CrossoverUsageException("The problemPartCache must not be null.");
+		init(context, searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, problemPartCache);
+	}
+	
+	/**
+	 * Rebuilds a {@link Crossover} after one of its search space elements has been changed slightly, e.g. by a mutation. </br>
+	 * The changes are described by the {@link Notification notifications} recorded on the changed search space element, e.g. by an
+	 * {@link org.eclipse.emf.ecore.util.EContentAdapter EContentAdapter}. If none of them affects the problem part, the problem parts,
+	 * their mapping and split as well as the split of the unchanged search space element are taken from the previous {@link Crossover}
+	 * and the split and intersection of the changed search space element are recomputed. The rebuild works per search space element:
+	 * the split of the changed search space element is recomputed as a whole, not only for the changed elements, and a change of
+	 * the problem part creates the {@link Crossover} from scratch with the same arguments as the previous one. </br>
+	 * The split of the unchanged search space element is copied, as its graphs become part of the rules, so that the previous
+	 * {@link Crossover} isn't altered. Its views of the changed search space element are outdated though.
+	 * @param previous the {@link Crossover} before the change
+	 * @param changedSearchSpaceElement the search space element of the previous {@link Crossover} that has been changed
+	 * @param notifications all {@link Notification notifications} of the changes of the changed search space element
+	 * @throws CrossoverUsageException if one of the parameters is null or the changedSearchSpaceElement isn't a search space element of the previous {@link Crossover}.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover (Crossover previous, Resource changedSearchSpaceElement, Collection<? extends Notification> notifications) throws CrossoverUsageException, ViewSetOperationException {
+		
+		if(previous == null || previous.context == null)
+			throw new CrossoverUsageException("The previous crossover must not be null.");
+		if(changedSearchSpaceElement == null)
+			throw new CrossoverUsageException("The changedSearchSpaceElement must not be null.");
+		if(changedSearchSpaceElement != previous.searchSpaceElements.getFirst() && changedSearchSpaceElement != previous.searchSpaceElements.getSecond())
+			throw new CrossoverUsageException("The changedSearchSpaceElement must be a search space element of the previous crossover.");
+		if(notifications == null)
+			throw new CrossoverUsageException("The notifications must not be null.");
+		
+		if (notifications.stream().anyMatch(previous::affectsProblemPart)) {
+			init(previous.context, previous.searchSpaceElements, previous.problemPartSplitStrategy, previous.searchSpaceElementSplitStrategy, previous.problemPartCache);
+			return;
+		}
+		
+		this.context = previous.context;
+		this.searchSpaceElements = previous.searchSpaceElements;
+		this.problemPartSplitStrategy = previous.problemPartSplitStrategy;
+		this.searchSpaceElementSplitStrategy = previous.searchSpaceElementSplitStrategy;
+		this.problemPartCache = previous.problemPartCache;
+		this.matchPool = previous.matchPool;
+		this.engineProvider = previous.engineProvider;
+		
+		this.problemPartSSEOne = previous.problemPartSSEOne;
+		this.problemPartSSETwo = previous.problemPartSSETwo;
+		this.problemPartMappings = previous.problemPartMappings;
+		this.problemSplitSSEOne = previous.problemSplitSSEOne;
+		this.problemSplitSSETwo = previous.problemSplitSSETwo;
+		this.intersectionOfSSEOne = previous.intersectionOfSSEOne;
+		this.intersectionOfSSETwo = previous.intersectionOfSSETwo;
+		
+		// the split of the changed search space element is recomputed, the graphs of the other split become the right hand sides of the rules
+		
+		if (problemPartSSEOne.getResource() == changedSearchSpaceElement) {
+			this.splitOfSSEOne = splitSearchSpaceElement(problemPartSSEOne, problemSplitSSEOne, searchSpaceElementSplitStrategy, context.subMetaModelOfIntersection);
+			this.splitOfSSETwo = Pair.of(previous.splitOfSSETwo.getFirst().copy(), previous.splitOfSSETwo.getSecond().copy());
+			this.intersectionOfSSEOne = splitOfSSEOne.getFirst().copy();
+			this.intersectionOfSSEOne.intersect(splitOfSSEOne.getSecond());
+		} else {
+			this.splitOfSSEOne = Pair.of(previous.splitOfSSEOne.getFirst().copy(), previous.splitOfSSEOne.getSecond().copy());
+			this.splitOfSSETwo = splitSearchSpaceElement(problemPartSSETwo, problemSplitSSETwo, searchSpaceElementSplitStrategy, context.subMetaModelOfIntersection);
+			this.intersectionOfSSETwo = splitOfSSETwo.getFirst().copy();
+			this.intersectionOfSSETwo.intersect(splitOfSSETwo.getSecond());
+		}
+		
+		if (this.intersectionOfSSETwo.getGraph().getNodes().size() < this.intersectionOfSSEOne.getGraph().getNodes().size()) {
+			swapSearchSpaceElements();
+			this.problemPartIntersection = problemSplitSSEOne.getFirst().copy();
+			this.problemPartIntersection.intersect(problemSplitSSEOne.getSecond());
+		} else {
+			this.problemPartIntersection = previous.problemPartIntersection;
+			this.problemPartIntersectionIdentity = previous.problemPartIntersectionIdentity;
+		}
+		
+	}
+	
+	/**
+	 * Creates a new Crossover between the elite of the given {@link EliteCrossover} and the partner.
+	 * The problem part, problem split and split of the elite are taken from the {@link EliteCrossover}.
+	 * @param elite the {@link EliteCrossover} holding the split of the elite
+	 * @param partner the search space element to cross the elite with
+	 * @throws CrossoverUsageException if the partner is null.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	Crossover (EliteCrossover elite, Resource partner) throws CrossoverUsageException, ViewSetOperationException {
+		
+		if(partner == null)
+			throw new CrossoverUsageException("The partner must not be null.");
+		
+		this.context = elite.context;
+		this.searchSpaceElements = Pair.of(elite.getElite(), partner);
+		this.problemPartSplitStrategy = elite.problemPartSplitStrategy;
+		this.searchSpaceElementSplitStrategy = elite.searchSpaceElementSplitStrategy;
+		this.problemPartCache = elite.problemPartCache;
+		
+		List<EClass> problemPartEClasses = context.getProblemPartEClasses();
+		List<EReference> problemPartEReferences = context.getProblemPartEReferences();
+		Function<EObject, ?> problemPartKey = context.getProblemPartKey();
+		
+		// only the problem part of the partner is built and mapped onto the problem part of the elite
+		
+		this.problemPartSSEOne = elite.problemPart;
+		this.problemPartSSETwo = new View(partner);
+		
+		if (problemPartCache == null) {
+			problemPartEClasses.forEach(problemPartSSETwo::extend);
+			problemPartEReferences.forEach(problemPartSSETwo::extend);
+			problemPartMappings = ViewFactory.findViewMapping(problemPartSSEOne, problemPartSSETwo, problemPartKey);
+		} else {
+			View cachedProblemPartOfElite = new View(elite.getElite());
+			problemPartMappings = MappingUtil.mapByOrigin(
+					problemPartCache.buildViewMapping(cachedProblemPartOfElite, problemPartSSETwo, problemPartEClasses, problemPartEReferences, problemPartKey),
+					origin -> problemPartSSEOne.getNode(cachedProblemPartOfElite.getObject(origin))
+			);
+		}
+		
+		this.problemSplitSSEOne = elite.problemSplit;
+		this.problemSplitSSETwo = mapProblemSplit();
+		
+		// the graphs of the split become the right hand sides of the rules, the crossovers with other partners may run on other threads
+		this.splitOfSSEOne = Pair.of(elite.split.getFirst().copy(), elite.split.getSecond().copy());
+		this.splitOfSSETwo = splitSearchSpaceElement(problemPartSSETwo, problemSplitSSETwo, searchSpaceElementSplitStrategy, context.subMetaModelOfIntersection);
+		
+		this.intersectionOfSSEOne = elite.intersection;
+		this.intersectionOfSSETwo = splitOfSSETwo.getFirst().copy();
+		this.intersectionOfSSETwo.intersect(splitOfSSETwo.getSecond());
+		
+		if (this.intersectionOfSSETwo.getGraph().getNodes().size() < this.intersectionOfSSEOne.getGraph().getNodes().size()) {
+			swapSearchSpaceElements();
+		}
+		
+		this.problemPartIntersection = problemSplitSSEOne.getFirst().copy();
+		this.problemPartIntersection.intersect(problemSplitSSEOne.getSecond());
+		
+	}
+	
+	private void init (CrossoverContext context, Pair<Resource, Resource> searchSpaceElements, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy, ProblemPartCache problemPartCache) throws CrossoverUsageException, ViewSetOperationException {
 		
 		// checking parameters
 		
-		if(metamodel == null || metamodel.getContents().isEmpty())
-			throw new CrossoverUsageException("The metamodel must not be null or empty.");
+		if(context == null)
+			throw new CrossoverUsageException("The context must not be null.");
 		if(searchSpaceElements == null || searchSpaceElements.getFirst() == null || searchSpaceElements.getSecond() == null)
 			throw new CrossoverUsageException("The searchSpaceElements must not be null.");
 		if(problemPartSplitStrategy == null)
 			throw new CrossoverUsageException("The strategy must not be null.");
-		if(problemPartEClasses == null)
-			throw new CrossoverUsageException("The problemPartEClasses must not be null.");
-		if(problemPartEReferences == null)
-			throw new CrossoverUsageException("The problemPartEReferences must not be null.");
+		
+		this.context = context;
+		this.searchSpaceElements = searchSpaceElements;
+		this.problemPartSplitStrategy = problemPartSplitStrategy;
+		this.searchSpaceElementSplitStrategy = searchSpaceElementSplitStrategy;
+		this.problemPartCache = problemPartCache;
+		
+		List<EClass> problemPartEClasses = context.getProblemPartEClasses();
+		List<EReference> problemPartEReferences = context.getProblemPartEReferences();
+		Function<EObject, ?> problemPartKey = context.getProblemPartKey();
+		View subMetaModelOfIntersection = context.subMetaModelOfIntersection;
 		
 		// find the problem part of each search space element
 		
@@ -193,23 +466,16 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		 * A set of {@link Mapping mappings}  from {@link View problemPartSSEOne} to {@link problemPartSSETwo}.
 		 * This mapping represents a graph isomorphism between the problem parts of each search space element.
 		 */
-		problemPartMappings = ViewFactory.buildViewMapping(problemPartSSEOne, problemPartSSETwo, problemPartEClasses, problemPartEReferences);
+		if (problemPartCache == null) {
+			problemPartMappings = ViewFactory.buildViewMapping(problemPartSSEOne, problemPartSSETwo, problemPartEClasses, problemPartEReferences, problemPartKey);
+		} else {
+			problemPartMappings = problemPartCache.buildViewMapping(problemPartSSEOne, problemPartSSETwo, problemPartEClasses, problemPartEReferences, problemPartKey);
+		}
 		
 		// split the problem part
 		
-		View problemBorder = findBorder(metamodel, problemPartEClasses, problemPartEReferences);
-		
-		this.problemSplitSSEOne = splitProblemPart(problemPartSSEOne, problemBorder, problemPartSplitStrategy, subMetaModelOfIntersection);
-		this.problemSplitSSETwo = new Pair<View, View> (
-				ViewFactory.intersectByMapping(this.problemSplitSSEOne.getFirst(), this.problemPartSSETwo, 
-						MappingUtil.mapByOrigin(problemPartMappings, origin -> this.problemSplitSSEOne.getFirst().
-																				getNode(problemPartSSEOne.getObject(origin)))
-						),
-				ViewFactory.intersectByMapping(this.problemSplitSSEOne.getSecond(), this.problemPartSSETwo, 
-						MappingUtil.mapByOrigin(problemPartMappings, origin -> this.problemSplitSSEOne.getSecond().
-																				getNode(problemPartSSEOne.getObject(origin)))
-					)
-		);
+		this.problemSplitSSEOne = splitProblemPart(problemPartSSEOne, context.problemBorder, problemPartSplitStrategy, subMetaModelOfIntersection);
+		this.problemSplitSSETwo = mapProblemSplit();
 		
 		// split the search space elements according to the problem split
 		
@@ -224,36 +490,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		this.intersectionOfSSETwo.intersect(splitOfSSETwo.getSecond());
 		
 		if (this.intersectionOfSSETwo.getGraph().getNodes().size() < this.intersectionOfSSEOne.getGraph().getNodes().size()) {
-			
-			// switch references
-			View tempView;
-			Pair<View, View> tempPair;
-			
-			tempView = problemPartSSEOne;
-			this.problemPartSSEOne = this.problemPartSSETwo;
-			this.problemPartSSETwo = tempView;
-			
-			tempPair = this.problemSplitSSEOne;
-			this.problemSplitSSEOne = this.problemSplitSSETwo;
-			this.problemSplitSSETwo = tempPair;
-			
-			tempPair = this.splitOfSSEOne;
-			this.splitOfSSEOne = this.splitOfSSETwo;
-			this.splitOfSSETwo = tempPair;
-			
-			tempView = this.intersectionOfSSEOne;
-			this.intersectionOfSSEOne = this.intersectionOfSSETwo;
-			this.intersectionOfSSETwo = tempView;
-			
-			Set<Mapping> tmpMappings = new HashSet<Mapping>();
-			problemPartMappings.forEach(mapping -> {
-				Mapping inverseMapping = new MappingImpl();
-				inverseMapping.setOrigin(mapping.getImage());
-				inverseMapping.setImage(mapping.getOrigin());
-				tmpMappings.add(inverseMapping);
-			});
-			this.problemPartMappings = tmpMappings;
-			
+			swapSearchSpaceElements();
 		}
 		
 		this.problemPartIntersection = problemSplitSSEOne.getFirst().copy();
@@ -261,6 +498,110 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		
 	}
 	
+	/**
+	 * @return Returns the split of the {@link Crossover#problemPartSSETwo} corresponding to the {@link Crossover#problemSplitSSEOne}
+	 * according to the {@link Crossover#problemPartMappings}.
+	 */
+	private Pair<View, View> mapProblemSplit () {
+		return new Pair<View, View> (
+				ViewFactory.intersectByMapping(this.problemSplitSSEOne.getFirst(), this.problemPartSSETwo, 
+						MappingUtil.mapByOrigin(problemPartMappings, origin -> this.problemSplitSSEOne.getFirst().
+																				getNode(problemPartSSEOne.getObject(origin)))
+						),
+				ViewFactory.intersectByMapping(this.problemSplitSSEOne.getSecond(), this.problemPartSSETwo, 
+						MappingUtil.mapByOrigin(problemPartMappings, origin -> this.problemSplitSSEOne.getSecond().
+																				getNode(problemPartSSEOne.getObject(origin)))
+					)
+		);
+	}
+	
+	/**
+	 * Switches the roles of the search space elements, so that the search space element two is the one with the larger intersection.
+	 */
+	private void swapSearchSpaceElements () {
+		
+		// switch references
+		View tempView;
+		Pair<View, View> tempPair;
+		
+		tempView = problemPartSSEOne;
+		this.problemPartSSEOne = this.problemPartSSETwo;
+		this.problemPartSSETwo = tempView;
+		
+		tempPair = this.problemSplitSSEOne;
+		this.problemSplitSSEOne = this.problemSplitSSETwo;
+		this.problemSplitSSETwo = tempPair;
+		
+		tempPair = this.splitOfSSEOne;
+		this.splitOfSSEOne = this.splitOfSSETwo;
+		this.splitOfSSETwo = tempPair;
+		
+		tempView = this.intersectionOfSSEOne;
+		this.intersectionOfSSEOne = this.intersectionOfSSETwo;
+		this.intersectionOfSSETwo = tempView;
+		
+		Set<Mapping> tmpMappings = new HashSet<Mapping>();
+		problemPartMappings.forEach(mapping -> {
+			Mapping inverseMapping = new MappingImpl();
+			inverseMapping.setOrigin(mapping.getImage());
+			inverseMapping.setImage(mapping.getOrigin());
+			tmpMappings.add(inverseMapping);
+		});
+		this.problemPartMappings = tmpMappings;
+		
+	}
+	
+	/**
+	 * @param notification a {@link Notification notification} of a change of a search space element
+	 * @return Returns true if the change may alter the problem part of the search space element, i.e. if it adds or removes
+	 * instances of the problem part {@link EClass eClasses} or changes instances of the problem part {@link EReference eReferences}.
+	 * If the problem part is mapped by a key, changes of the attributes of the problem part are considered too.
+	 */
+	private boolean affectsProblemPart (Notification notification) {
+		
+		if (notification.isTouch()) return false;
+		
+		Object feature = notification.getFeature();
+		
+		if (feature instanceof EReference) {
+			EReference eReference = (EReference) feature;
+			if (context.isProblemPartEReference(eReference)) return true;
+			if (!eReference.isContainment() && !eReference.isContainer()) return false;
+		} else if (feature instanceof EAttribute) {
+			return context.getProblemPartKey() != ViewFactory.NO_KEY && notification.getNotifier() instanceof EObject && 
+					context.isProblemPartEObject((EObject) notification.getNotifier());
+		} else if (!(notification.getNotifier() instanceof Resource)) {
+			return false;
+		}
+		
+		// eObjects added to or removed from the containment tree
+		return containsProblemPartEObject(notification.getOldValue()) || containsProblemPartEObject(notification.getNewValue());
+		
+	}
+	
+	/**
+	 * @param value the old or new value of a {@link Notification notification}
+	 * @return Returns true if the value is or contains an instance of a problem part {@link EClass eClass}.
+	 */
+	private boolean containsProblemPartEObject (Object value) {
+		
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).stream().anyMatch(this::containsProblemPartEObject);
+		}
+		
+		if (value instanceof EObject) {
+			EObject eObject = (EObject) value;
+			if (context.isProblemPartEObject(eObject)) return true;
+			TreeIterator<EObject> treeIterator = eObject.eAllContents();
+			while (treeIterator.hasNext()) {
+				if (context.isProblemPartEObject(treeIterator.next())) return true;
+			}
+		}
+		
+		return false;
+		
+	}
+	
 	/**
 	 * Splits the given {@link View problemPartView} according to 
 	 * the {@link Crossover#strategy} and the {@link Crossover#metamodel}.
@@ -284,7 +625,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	 * @throws ViewSetOperationException  if a set-operation on a view was not successfull
 	 * @throws IllegalStateException if general operation on a view was not successfull
 	 */
-	private Pair<View, View> splitProblemPart (View problemPartView, View problemBorder, Strategy strategy, View subMetaModelOfIntersection) throws ViewSetOperationException, IllegalStateException {
+	static Pair<View, View> splitProblemPart (View problemPartView, View problemBorder, Strategy strategy, View subMetaModelOfIntersection) throws ViewSetOperationException, IllegalStateException {
 		
 		View matchedBorder = problemPartView.copy();
 		boolean matchedSuccessfully = matchedBorder.matchViewByMetamodel(problemBorder);
@@ -319,18 +660,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		problemPartOne.union(partOfMatchedBorder);
 		
 		// can't use the extendByMissingEdges method because we don't want edges from the solution part
-		
-		for (Edge edge : problemPartView.getGraph().getEdges()) {
-			EObject sourceEObject = problemPartView.getObject(edge.getSource());
-			EObject targetEObject = problemPartView.getObject(edge.getTarget());
-			if(problemPartOne.contains(sourceEObject) && problemPartOne.contains(targetEObject)) {
-				if (!problemPartOne.contains(sourceEObject, targetEObject, edge.getType(), false)) {
-					boolean addedSuccessfully = problemPartOne.extend(sourceEObject, targetEObject, edge.getType());
-					if(!addedSuccessfully) addedSuccessfully = problemPartOne.extend(targetEObject, sourceEObject, edge.getType());
-					if(!addedSuccessfully) throw new IllegalStateException("Couldn't add an edge to problemPartOne.");
-				}
-			}
-		}
+		problemPartOne.extendByInducedEdges(problemPartView);
 		
 		View notProblemPartOne = problemPartView.copy();
 		notProblemPartOne.subtract(problemPartOne);
@@ -366,105 +696,6 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		
 	}
 	
-	/**
-	 * Calculates the border of the given problem part, specified by the 
-	 * {@link EClass problemPartEClasses} and {@link EReference problemPartEReferences}
-	 * in the {@link Resource metamodel} adjacent to the solution part. The solution part
-	 * consists of all elements that are not part of the problem part.
-	 * @param metamodel the meta-model containing problem- and solution part
-	 * @param problemPartEClasses a {@link List list} of {@link EClass eClasses} describing the problem part
-	 * @param problemPartEReferences a {@link List list} of {@link EReference eReferences} describing the problem part
-	 * @return Returns a {@link View view} over the {@link Resource metamodel} containing the border elements.
-	 */
-	private View findBorder (Resource metamodel, List<EClass> problemPartEClasses, List<EReference> problemPartEReferences) {
-		View borderView = new View(metamodel);
-		
-		TreeIterator<EObject> treeIterator = metamodel.getAllContents();
-		
-		while (treeIterator.hasNext()) {
-			EObject eObject = (EObject) treeIterator.next();
-			
-			if(eObject instanceof EClass) {	
-				
-				EClass eClass = (EClass) eObject;
-			
-				List<EClass> eClassestoExtend = new ArrayList<>();
-				List<EReference> eReferences = eClass.getEAllReferences();
-				
-				for (EReference eReference : eReferences) {
-					if(!problemPartEReferences.contains(eReference)) {
-						
-						/*
-						if(problemPartEClasses.contains(eReference.getEContainingClass())) {
-							eClassestoExtend.add(eReference.getEContainingClass());
-						}*/
-						
-						if(problemPartEClasses.contains(eClass)) {
-							eClassestoExtend.add(eClass);
-						}
-						
-						if(problemPartEClasses.contains(eReference.getEReferenceType())) {
-							eClassestoExtend.add(eReference.getEReferenceType());
-						}
-						
-					} else {
-						
-						if(!problemPartEClasses.contains(eReference.getEContainingClass())) {
-							borderView.extend(((EObject) eReference));
-							if(problemPartEClasses.contains(eReference.getEReferenceType())) {
-								eClassestoExtend.add(eReference.getEReferenceType());
-							}
-						}
-						
-						if(!problemPartEClasses.contains(eReference.getEReferenceType())) {
-							borderView.extend(((EObject) eReference));
-							
-							/*if(problemPartEClasses.contains(eReference.getEContainingClass())) {
-								eClassestoExtend.add(eReference.getEContainingClass());
-							}*/
-							
-							if(problemPartEClasses.contains(eClass)) {
-								eClassestoExtend.add(eClass);
-							}
-						}
-						
-					}
-				}
-				
-				for (EClass eClassToExtend : eClassestoExtend) {
-					if(!eClassToExtend.isAbstract()) {
-						borderView.extend(((EObject) eClassToExtend));
-					}
-				}
-				
-			}
-			
-		}
-		
-		Set<EClass> possibleSuperTypes = new HashSet<EClass>();
-		borderView.getContainedEObjects().forEach(eObject -> {
-			if (eObject instanceof EClass) {
-				possibleSuperTypes.add((EClass) eObject);
-			}
-		});
-		
-		treeIterator = metamodel.getAllContents();
-		
-		while (treeIterator.hasNext()) {
-			EObject eObject = (EObject) treeIterator.next();
-			if(eObject instanceof EClass) {
-				EClass eClass = (EClass) eObject;
-				for (EClass superType : eClass.getEAllSuperTypes()) {
-					if (possibleSuperTypes.contains(superType)) {
-						borderView.extend(eObject);
-					}
-				}
-			}
-		}
-		
-		return borderView;
-	}
-	
 	/**
 	 * Splits the search space element (given indirectly as the
 	 * {@link View#resource resource} of the {@link View views}) according
@@ -484,7 +715,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	 * {@link Pair problemSplit} and the second element of the split contains the second.
 	 * @throws ViewSetOperationException if a set-operation on a view was not successful
 	 */
-	private Pair<View, View> splitSearchSpaceElement (View problemPart, Pair<View, View> problemSplit, SearchSpaceElementSplitStrategy strategy, View subMetaModelOfIntersection) throws ViewSetOperationException {
+	static Pair<View, View> splitSearchSpaceElement (View problemPart, Pair<View, View> problemSplit, SearchSpaceElementSplitStrategy strategy, View subMetaModelOfIntersection) throws ViewSetOperationException {
 		
 		View searchSpaceElement = problemPart.copy();
 		searchSpaceElement.extendByAllNodes();
@@ -494,8 +725,7 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		searchSpaceElementOne.subtract(problemPart);
 		searchSpaceElementOne.union(problemSplit.getFirst());
 		
-		strategy.setProblemSplitPart(problemSplit.getFirst());
-		strategy.apply(searchSpaceElementOne);
+		strategy.apply(searchSpaceElementOne, problemSplit.getFirst());
 		
 		View searchSpaceElementTwo = searchSpaceElement.copy();
 		searchSpaceElementTwo.subtract(problemPart);
@@ -538,30 +768,122 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 	}
 
 	/**
-	 * @return Returns an {@link Iterator iterator} over {@link CustomSpan spans}.
-	 * The spans consist of a common subgraph of {@link Crossover#intersectionOfSSEOne}
-	 * and {@link Crossover#intersectionOfSSETwo} and a set of {@link Mapping mappings} from
-	 * it to both intersections.
+	 * @return Returns a map from the {@link EObject eObjects} of the {@link Crossover#problemPartIntersection} to the
+	 * corresponding {@link EObject eObjects} of the {@link Crossover#problemPartSSETwo} according to the {@link Crossover#problemPartMappings}.
 	 */
-	private Iterator<CustomSpan> getSpanIterator () {
-		return new Iterator<CustomSpan> () {
+	private synchronized Map<EObject, EObject> getProblemPartIntersectionIdentity () {
+		
+		if (problemPartIntersectionIdentity == null) {
 			
-			boolean computedNextSpan = false;
-			CustomSpan nextSpan = null;
-			Iterator<CustomSpan> computedSpans = null;
-			Iterator<View> subgraphIterator = null;
+			Map<Node, Node> images = new HashMap<>();
+			problemPartMappings.forEach(mapping -> images.put(mapping.getOrigin(), mapping.getImage()));
 			
-			@Override
-			public boolean hasNext() {
-				
-				if (!computedNextSpan) {
-					computeNextSpan();
-					computedNextSpan = true;
-				}
-				
-				return (nextSpan != null);
-				
-			}
+			Map<EObject, EObject> identity = new HashMap<>();
+			problemPartIntersection.getGraph().getNodes().forEach(node -> {
+				EObject originEObject = problemPartIntersection.getObject(node);
+				EObject targetEObject = problemPartSSETwo.getObject(images.get(problemPartSSEOne.getNode(originEObject)));
+				identity.put(originEObject, targetEObject);
+			});
+			
+			problemPartIntersectionIdentity = identity;
+			
+		}
+		
+		return problemPartIntersectionIdentity;
+		
+	}
+
+	/**
+	 * Computes all {@link CustomSpan spans} with the given subgraph as their intersection.
+	 * @param subgraphOfIntersectionOfSSEOne a subgraph of the {@link Crossover#intersectionOfSSEOne} containing the {@link Crossover#problemPartIntersection}
+	 * @param mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo the {@link Crossover#getProblemPartIntersectionIdentity() identity part}
+	 * @return Returns a {@link Set set} of {@link CustomSpan spans} that is empty if the subgraph can't be mapped to the {@link Crossover#intersectionOfSSETwo}.
+	 */
+	private Set<CustomSpan> computeSpans (View subgraphOfIntersectionOfSSEOne, Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo) {
+		return computeSpans(subgraphOfIntersectionOfSSEOne, mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, null);
+	}
+
+	/**
+	 * Computes the {@link CustomSpan spans} with the given subgraph as their intersection until the given condition is true.
+	 * @param subgraphOfIntersectionOfSSEOne a subgraph of the {@link Crossover#intersectionOfSSEOne} containing the {@link Crossover#problemPartIntersection}
+	 * @param mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo the {@link Crossover#getProblemPartIntersectionIdentity() identity part}
+	 * @param stop the condition to end the search for matches, see {@link MappingUtil#getMappingSetIterator(View, View, Map, boolean, ForkJoinPool, BooleanSupplier)},
+	 * or null to compute all {@link CustomSpan spans}
+	 * @return Returns a {@link Set set} of the {@link CustomSpan spans} found before the condition became true.
+	 */
+	private Set<CustomSpan> computeSpans (View subgraphOfIntersectionOfSSEOne, Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, BooleanSupplier stop) {
+		
+		Iterator<Set<Mapping>> mappingSetIterator = MappingUtil.getMappingSetIterator (
+				subgraphOfIntersectionOfSSEOne, // from View
+				intersectionOfSSETwo, // to View
+				mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, // mapping from the itentity part in "fromView" to "toView"
+				false, // the views and the map are built by the crossover itself and need no validation
+				matchPool,
+				stop
+		);
+		
+		// subgraphs without a match to the intersectionOfSSETwo don't need the mapping to the intersectionOfSSEOne
+		if (!mappingSetIterator.hasNext()) return Collections.emptySet();
+		
+		// get mapping from subgraphOfIntersectionOfSSEOne to intersectionOfSSEOne
+		Set<Mapping> mappingsOne = new HashSet<Mapping>();
+		subgraphOfIntersectionOfSSEOne.getGraph().getNodes().forEach(node -> {
+			Node mappedNode = intersectionOfSSEOne.getNode(subgraphOfIntersectionOfSSEOne.getObject(node));
+			Mapping mapping = new MappingImpl();
+			mapping.setOrigin(node);
+			mapping.setImage(mappedNode);
+			mappingsOne.add(mapping);
+		});
+		
+		Set<CustomSpan> spans = new HashSet<CustomSpan>();
+		
+		while (mappingSetIterator.hasNext()) {
+			Set<Mapping> mappingsTwo = (Set<Mapping>) mappingSetIterator.next();
+			spans.add(new CustomSpan(subgraphOfIntersectionOfSSEOne, mappingsOne, mappingsTwo));
+		}
+		
+		return spans;
+		
+	}
+
+	/**
+	 * @return Returns an {@link Iterator iterator} over {@link CustomSpan spans}.
+	 * The spans consist of a common subgraph of {@link Crossover#intersectionOfSSEOne}
+	 * and {@link Crossover#intersectionOfSSETwo} and a set of {@link Mapping mappings} from
+	 * it to both intersections.
+	 */
+	private Iterator<CustomSpan> getSpanIterator () {
+		return getSpanIterator(null);
+	}
+
+	/**
+	 * @param tracker the {@link CrossoverBudget.Tracker tracker} of the budget limiting the iteration or null for an unlimited iteration
+	 * @return Returns an {@link Iterator iterator} over {@link CustomSpan spans} like {@link Crossover#getSpanIterator()} that
+	 * ends as soon as the {@link CrossoverBudget budget} is exhausted.
+	 */
+	private Iterator<CustomSpan> getSpanIterator (CrossoverBudget.Tracker tracker) {
+		
+		// the identity part is the same for all subgraphs
+		Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo = getProblemPartIntersectionIdentity();
+		
+		return new Iterator<CustomSpan> () {
+			
+			boolean computedNextSpan = false;
+			CustomSpan nextSpan = null;
+			Iterator<CustomSpan> computedSpans = null;
+			Iterator<View> subgraphIterator = null;
+			
+			@Override
+			public boolean hasNext() {
+				
+				if (!computedNextSpan) {
+					computeNextSpan();
+					computedNextSpan = true;
+				}
+				
+				return (nextSpan != null);
+				
+			}
 
 			@Override
 			public CustomSpan next() {
@@ -578,7 +900,9 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 				
 				// initialize
 				if (subgraphIterator == null) {
-					subgraphIterator = ViewFactory.getSubGraphIterator(intersectionOfSSEOne, problemPartIntersection);
+					subgraphIterator = (tracker == null) ?
+							ViewFactory.getSubGraphIterator(intersectionOfSSEOne, problemPartIntersection) :
+							ViewFactory.getSubGraphIterator(intersectionOfSSEOne, problemPartIntersection, tracker::shouldStop);
 				}
 				
 				if(computedSpans != null && computedSpans.hasNext()) {
@@ -588,40 +912,21 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 				
 				Set<CustomSpan> spans = Collections.emptySet();
 				
-				while (spans.isEmpty() && subgraphIterator.hasNext()) {
-					
-					View subgraphOfIntersectionOfSSEOne = subgraphIterator.next();
+				if (tracker == null) {
 					
-					// get mapping from subgraphOfIntersectionOfSSEOne to intersectionOfSSEOne
-					Set<Mapping> mappingsOne = new HashSet<Mapping>();
-					subgraphOfIntersectionOfSSEOne.getGraph().getNodes().forEach(node -> {
-						Node mappedNode = intersectionOfSSEOne.getNode(subgraphOfIntersectionOfSSEOne.getObject(node));
-						Mapping mapping = new MappingImpl();
-						mapping.setOrigin(node);
-						mapping.setImage(mappedNode);
-						mappingsOne.add(mapping);
-					});
-					
-					Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo = new HashMap<>();
-					problemPartIntersection.getGraph().getNodes().forEach(node -> {
-						EObject originEObject = problemPartIntersection.getObject(node);
-						EObject targetEObject = problemPartSSETwo.getObject(MappingUtil.getImageSingle(problemPartMappings, problemPartSSEOne.getNode(originEObject)));
-						mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo.put(originEObject, targetEObject);
-					});
-					
-					Iterator<Set<Mapping>> mappingSetIterator = MappingUtil.getMappingSetIterator (
-							subgraphOfIntersectionOfSSEOne, // from View
-							intersectionOfSSETwo, // to View
-							mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo // mapping from the itentity part in "fromView" to "toView"
-					);
+					while (spans.isEmpty() && subgraphIterator.hasNext()) {
+						spans = computeSpans(subgraphIterator.next(), mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo);
+					}
 					
-					spans = new HashSet<CustomSpan>();
+				} else {
 					
-					while (mappingSetIterator.hasNext()) {
-						Set<Mapping> mappingsTwo = (Set<Mapping>) mappingSetIterator.next();
-						spans.add(new CustomSpan(subgraphOfIntersectionOfSSEOne, mappingsOne, mappingsTwo));
+					while (spans.isEmpty() && subgraphIterator.hasNext() && !tracker.countSubgraph()) {
+						spans = computeSpans(subgraphIterator.next(), mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, tracker::countMatchAttempt);
 					}
 					
+					// the spans of a subgraph whose search was stopped are incomplete
+					if (tracker.getStopReason() != null) spans = Collections.emptySet();
+					
 				}
 				
 				if(!spans.isEmpty()) {
@@ -638,6 +943,151 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 		};
 	}
 	
+	/**
+	 * Creates a crossover {@link Pair pair} from the given {@link CustomSpan span} by applying rules from its intersection to
+	 * the splits of the first search space element onto copies of the splits of the second search space element.
+	 * @param span the {@link CustomSpan span} to create the crossover {@link Pair pair} of
+	 * @param rightHandSides the {@link Crossover#splitOfSSEOne} or a copy of it, the {@link View#getGraph() graphs}
+	 * become the right hand sides of the rules
+	 * @return Returns the created crossover {@link Pair pair}.
+	 */
+	private Pair<Resource, Resource> createCrossoverPair (CustomSpan span, Pair<View, View> rightHandSides) {
+		
+		// create rules
+		
+		Rule intersectionToSSEOneFirstSplitElement = new RuleImpl();
+		Rule intersectionToSSEOneSecondSplitElement = new RuleImpl();
+		
+		intersectionToSSEOneFirstSplitElement.setLhs(span.getIntersection().getGraph());
+		intersectionToSSEOneSecondSplitElement.setLhs(span.getIntersection().getGraph());
+		
+		intersectionToSSEOneFirstSplitElement.setRhs(rightHandSides.getFirst().getGraph());
+		intersectionToSSEOneSecondSplitElement.setRhs(rightHandSides.getSecond().getGraph());
+		
+		Set<Mapping> mappingsFromIntersectionToSSEOneFirstSplitElement = MappingUtil.
+				mapByImage(span.getMappingsOne(), image -> rightHandSides.getFirst().
+						getNode(intersectionOfSSEOne.getObject(image))
+				);
+		intersectionToSSEOneFirstSplitElement.getMappings().addAll(mappingsFromIntersectionToSSEOneFirstSplitElement);
+		
+		Set<Mapping> mappingsFromIntersectionToSSEOneSecondSplitElement = MappingUtil.
+				mapByImage(span.getMappingsOne(), image -> rightHandSides.getSecond().
+						getNode(intersectionOfSSEOne.getObject(image))
+				);
+		intersectionToSSEOneSecondSplitElement.getMappings().addAll(mappingsFromIntersectionToSSEOneSecondSplitElement);
+		
+		// apply rules
+		
+		Engine engine = engineProvider.getEngine();
+		
+		Pair<EGraph, Map<EObject,EObject>> eGraphOfSSETwoSplitFirst = ViewFactory.createEGraphFromView(splitOfSSETwo.getFirst());
+		Pair<EGraph, Map<EObject,EObject>> eGraphOfSSETwoSplitSecond = ViewFactory.createEGraphFromView(splitOfSSETwo.getSecond());
+		Match matchForSSETwoSplitFirst = new MatchImpl(intersectionToSSEOneSecondSplitElement);
+		Match matchForSSETwoSplitSecond = new MatchImpl(intersectionToSSEOneFirstSplitElement);
+		
+		span.getMappingsTwo().stream().
+			map((Mapping mapping) -> {
+				Node image = mapping.getImage();
+				EObject originalEObject = intersectionOfSSETwo.getObject(image);
+				EObject copiedEObject = eGraphOfSSETwoSplitFirst.getSecond().get(originalEObject);
+				return new Pair<Node, EObject>(mapping.getOrigin(), copiedEObject);
+			}).forEach((Pair<Node, EObject> pair) -> matchForSSETwoSplitFirst.setNodeTarget(pair.getFirst(), pair.getSecond()));
+		
+		span.getMappingsTwo().stream().
+		map((Mapping mapping) -> {
+			Node image = mapping.getImage();
+			EObject originalEObject = intersectionOfSSETwo.getObject(image);
+			EObject copiedEObject = eGraphOfSSETwoSplitSecond.getSecond().get(originalEObject);
+			return new Pair<Node, EObject>(mapping.getOrigin(), copiedEObject);
+		}).forEach((Pair<Node, EObject> pair) -> matchForSSETwoSplitSecond.setNodeTarget(pair.getFirst(), pair.getSecond()));
+		
+		// E1F2
+		Change chageOne = engine.createChange(intersectionToSSEOneFirstSplitElement, eGraphOfSSETwoSplitSecond.getFirst(), matchForSSETwoSplitSecond, null);
+		
+		// F2E1
+		Change chageTwo = engine.createChange(intersectionToSSEOneSecondSplitElement, eGraphOfSSETwoSplitFirst.getFirst(), matchForSSETwoSplitFirst, null);
+		
+		chageOne.applyAndReverse();
+		chageTwo.applyAndReverse();
+		
+		// create the resource pair
+		
+		Resource resourceOne = new ResourceImpl();
+		Resource resourceTwo = new ResourceImpl();	
+		
+		resourceOne.getContents().addAll(chageOne.getEGraph().getRoots());
+		resourceTwo.getContents().addAll(chageTwo.getEGraph().getRoots());
+		
+		return new Pair<Resource, Resource>(resourceOne, resourceTwo);
+		
+	}
+	
+	/**
+	 * @return Returns the parts of the search space element two that are removed in the first and second offspring respectively.
+	 * They don't depend on the {@link CustomSpan span} and are computed once.
+	 */
+	private synchronized Pair<OffspringDelta.RemovedPart, OffspringDelta.RemovedPart> getRemovedParts () {
+		
+		if (removedParts == null) {
+			removedParts = Pair.of(new OffspringDelta.RemovedPart(splitOfSSETwo.getSecond()), new OffspringDelta.RemovedPart(splitOfSSETwo.getFirst()));
+		}
+		
+		return removedParts;
+		
+	}
+	
+	/**
+	 * Creates the {@link OffspringDelta deltas} of the crossover {@link Pair pair} of the given {@link CustomSpan span}.
+	 * Applying them yields the same crossover {@link Pair pair} as {@link Crossover#createCrossoverPair(CustomSpan, Pair)}.
+	 * @param span the {@link CustomSpan span} to glue the split elements along
+	 * @return Returns a {@link Pair pair} of the {@link OffspringDelta deltas} of both offsprings relative to the search space element two.
+	 */
+	private Pair<OffspringDelta, OffspringDelta> createDeltaPair (CustomSpan span) {
+		return Pair.of(createDelta(span, true), createDelta(span, false));
+	}
+	
+	/**
+	 * Creates the {@link OffspringDelta delta} of one offspring of the given {@link CustomSpan span}.
+	 * @param span the {@link CustomSpan span} to glue the split elements along
+	 * @param firstOffspring whether the delta of the first or the second offspring is created
+	 * @return Returns the {@link OffspringDelta delta} of the offspring relative to the search space element two.
+	 */
+	OffspringDelta createDelta (CustomSpan span, boolean firstOffspring) {
+		
+		Map<Node, Node> imagesTwo = new HashMap<>();
+		span.getMappingsTwo().forEach(mapping -> imagesTwo.put(mapping.getOrigin(), mapping.getImage()));
+		
+		Map<EObject, EObject> donorToParent = new HashMap<>();
+		span.getIntersection().getGraph().getNodes().forEach(node -> 
+			donorToParent.put(span.getIntersection().getObject(node), intersectionOfSSETwo.getObject(imagesTwo.get(node)))
+		);
+		
+		Pair<OffspringDelta.RemovedPart, OffspringDelta.RemovedPart> removedParts = getRemovedParts();
+		
+		return firstOffspring ? 
+				new OffspringDelta(removedParts.getFirst(), splitOfSSEOne.getFirst(), span, donorToParent) :
+				new OffspringDelta(removedParts.getSecond(), splitOfSSEOne.getSecond(), span, donorToParent);
+		
+	}
+	
+	/**
+	 * Sets the {@link ForkJoinPool pool} used to find the mappings of the spans in parallel.
+	 * The spans are the same as in the sequential search but their order may differ.
+	 * @param matchPool the {@link ForkJoinPool pool} to use or null to find the spans sequentially (the default)
+	 */
+	public void setMatchPool (ForkJoinPool matchPool) {
+		this.matchPool = matchPool;
+	}
+	
+	/**
+	 * Sets the {@link EngineProvider provider} of the {@link Engine engines} used to apply the crossover rules.
+	 * @param engineProvider the {@link EngineProvider provider} to use, must not be null
+	 */
+	void setEngineProvider (EngineProvider engineProvider) {
+		if (engineProvider == null) throw new IllegalArgumentException("The engineProvider must not be null.");
+		this.engineProvider = engineProvider;
+	}
+	
 	/**
 	 * @return Returns an {@link Iterator iterator} of possible crossover {@link Pair pairs}. 
 	 */
@@ -680,86 +1130,505 @@ public class Crossover implements Iterable<Pair<Resource, Resource>> {
 				
 				if (spanIterator.hasNext()) {
 					
-					CustomSpan span = spanIterator.next();
-					
-					// create rules
-					
-					Rule intersectionToSSEOneFirstSplitElement = new RuleImpl();
-					Rule intersectionToSSEOneSecondSplitElement = new RuleImpl();
-					
-					intersectionToSSEOneFirstSplitElement.setLhs(span.getIntersection().getGraph());
-					intersectionToSSEOneSecondSplitElement.setLhs(span.getIntersection().getGraph());
-					
-					intersectionToSSEOneFirstSplitElement.setRhs(splitOfSSEOne.getFirst().getGraph());
-					intersectionToSSEOneSecondSplitElement.setRhs(splitOfSSEOne.getSecond().getGraph());
+					nextCrossoverPair = createCrossoverPair(spanIterator.next(), splitOfSSEOne);
 					
-					Set<Mapping> mappingsFromIntersectionToSSEOneFirstSplitElement = MappingUtil.
-							mapByImage(span.getMappingsOne(), image -> splitOfSSEOne.getFirst().
-									getNode(intersectionOfSSEOne.getObject(image))
-							);
-					intersectionToSSEOneFirstSplitElement.getMappings().addAll(mappingsFromIntersectionToSSEOneFirstSplitElement);
-					
-					Set<Mapping> mappingsFromIntersectionToSSEOneSecondSplitElement = MappingUtil.
-							mapByImage(span.getMappingsOne(), image -> splitOfSSEOne.getSecond().
-									getNode(intersectionOfSSEOne.getObject(image))
-							);
-					intersectionToSSEOneSecondSplitElement.getMappings().addAll(mappingsFromIntersectionToSSEOneSecondSplitElement);
-					
-					// apply rules
-					
-					Engine engine = new EngineImpl();
-					
-					Pair<EGraph, Map<EObject,EObject>> eGraphOfSSETwoSplitFirst = ViewFactory.createEGraphFromView(splitOfSSETwo.getFirst());
-					Pair<EGraph, Map<EObject,EObject>> eGraphOfSSETwoSplitSecond = ViewFactory.createEGraphFromView(splitOfSSETwo.getSecond());
-					Match matchForSSETwoSplitFirst = new MatchImpl(intersectionToSSEOneSecondSplitElement);
-					Match matchForSSETwoSplitSecond = new MatchImpl(intersectionToSSEOneFirstSplitElement);
+				} else {
 					
-					span.getMappingsTwo().stream().
-						map((Mapping mapping) -> {
-							Node image = mapping.getImage();
-							EObject originalEObject = intersectionOfSSETwo.getObject(image);
-							EObject copiedEObject = eGraphOfSSETwoSplitFirst.getSecond().get(originalEObject);
-							return new Pair<Node, EObject>(mapping.getOrigin(), copiedEObject);
-						}).forEach((Pair<Node, EObject> pair) -> matchForSSETwoSplitFirst.setNodeTarget(pair.getFirst(), pair.getSecond()));
+					nextCrossoverPair = null;
 					
-					span.getMappingsTwo().stream().
-					map((Mapping mapping) -> {
-						Node image = mapping.getImage();
-						EObject originalEObject = intersectionOfSSETwo.getObject(image);
-						EObject copiedEObject = eGraphOfSSETwoSplitSecond.getSecond().get(originalEObject);
-						return new Pair<Node, EObject>(mapping.getOrigin(), copiedEObject);
-					}).forEach((Pair<Node, EObject> pair) -> matchForSSETwoSplitSecond.setNodeTarget(pair.getFirst(), pair.getSecond()));
+				}
+				
+			}
+			
+		};
+	}
+
+	
+	/**
+	 * @param budget the {@link CrossoverBudget budget} limiting the iteration, it is applied to each call of this method separately
+	 * @return Returns an {@link Iterator iterator} of the possible crossover {@link Pair pairs} in the same order as the
+	 * {@link Crossover#iterator() iterator} that stops as soon as the {@link CrossoverBudget budget} is exhausted.
+	 * The deadline, the cancellation token and the interruption are checked between the subgraphs of the intersection
+	 * and before each candidate tried in the search for matches. If a {@link Crossover#setMatchPool(ForkJoinPool) match pool}
+	 * is set, each found match is counted as a match attempt and the conditions are checked before each match instead.
+	 * @throws IllegalArgumentException if the budget is null.
+	 */
+	public CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>> iterator (CrossoverBudget budget) {
+		
+		if (budget == null) throw new IllegalArgumentException("The budget must not be null.");
+		
+		return new CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>>() {
+			
+			final CrossoverBudget.Tracker tracker = budget.start();
+			boolean computedNextCrossoverPair = false;
+			Pair<Resource, Resource> nextCrossoverPair = null;
+			Iterator<CustomSpan> spanIterator = null;
+			
+			@Override
+			public boolean hasNext() {
+				
+				if (!computedNextCrossoverPair) {
+					computeNextCrossoverPair();
+					computedNextCrossoverPair = true;
+				}
+				
+				return (nextCrossoverPair != null);
+				
+			}
+
+			@Override
+			public Pair<Resource, Resource> next() {
+				
+				if (hasNext()) {
+					computedNextCrossoverPair = false;
+				}
+				
+				return nextCrossoverPair;
+				
+			}
+			
+			@Override
+			public CrossoverBudget.StopReason getStopReason() {
+				return (computedNextCrossoverPair && nextCrossoverPair == null) ? tracker.getStopReason() : null;
+			}
+			
+			private void computeNextCrossoverPair () {
+				
+				if (spanIterator == null) {
+					spanIterator = getSpanIterator(tracker);
+				}
+				
+				// the limit is checked before the next span is searched
+				if (tracker.countCrossoverPair()) {
 					
-					// E1F2
-					Change chageOne = engine.createChange(intersectionToSSEOneFirstSplitElement, eGraphOfSSETwoSplitSecond.getFirst(), matchForSSETwoSplitSecond, null);
+					nextCrossoverPair = null;
 					
-					// F2E1
-					Change chageTwo = engine.createChange(intersectionToSSEOneSecondSplitElement, eGraphOfSSETwoSplitFirst.getFirst(), matchForSSETwoSplitFirst, null);
+				} else if (spanIterator.hasNext()) {
 					
-					chageOne.applyAndReverse();
-					chageTwo.applyAndReverse();
+					nextCrossoverPair = createCrossoverPair(spanIterator.next(), splitOfSSEOne);
 					
-					// create the resource pair
+				} else {
 					
-					Resource resourceOne = new ResourceImpl();
-					Resource resourceTwo = new ResourceImpl();	
+					tracker.exhausted();
+					nextCrossoverPair = null;
 					
-					resourceOne.getContents().addAll(chageOne.getEGraph().getRoots());
-					resourceTwo.getContents().addAll(chageTwo.getEGraph().getRoots());
+				}
+				
+			}
+			
+		};
+	}
+	
+	/**
+	 * Computes the first crossover {@link Pair pairs} of the {@link Crossover#iterator() iterator} asynchronously.
+	 * Completing or cancelling the returned {@link CompletableFuture future} before the crossover {@link Pair pairs} have been
+	 * computed stops the computation.
+	 * @param maxCrossoverPairs the maximum number of crossover {@link Pair pairs} to compute, must not be negative
+	 * @param executor the {@link Executor executor} to compute the crossover {@link Pair pairs} on
+	 * @return Returns a {@link CompletableFuture future} of the {@link List list} of the first crossover {@link Pair pairs}, it contains
+	 * less crossover {@link Pair pairs} if there are no more. The {@link CompletableFuture future} completes exceptionally if the
+	 * computation failed, the {@link Executor executor} rejected it or the computing thread has been interrupted, see
+	 * {@link CrossoverBudget.StopReason#toException()}.
+	 * @throws IllegalArgumentException if the maxCrossoverPairs is negative or the executor is null.
+	 */
+	public CompletableFuture<List<Pair<Resource, Resource>>> computeAsync (long maxCrossoverPairs, Executor executor) {
+		
+		if (maxCrossoverPairs < 0) throw new IllegalArgumentException("The maxCrossoverPairs must not be negative.");
+		if (executor == null) throw new IllegalArgumentException("The executor must not be null.");
+		
+		CompletableFuture<List<Pair<Resource, Resource>>> future = new CompletableFuture<>();
+		
+		CrossoverBudget budget = new CrossoverBudget();
+		budget.setMaxCrossoverPairs(maxCrossoverPairs);
+		budget.setCancellationToken(future::isDone);
+		
+		try {
+			executor.execute(() -> {
+				try {
+					List<Pair<Resource, Resource>> crossoverPairs = new ArrayList<>();
+					CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>> iterator = iterator(budget);
+					iterator.forEachRemaining(crossoverPairs::add);
+					// an iteration cut short (e.g. by an interrupt) must not look like a complete one
+					CrossoverBudget.StopReason stopReason = iterator.getStopReason();
+					if (stopReason.isCompleted()) {
+						future.complete(crossoverPairs);
+					} else {
+						future.completeExceptionally(stopReason.toException());
+					}
+				} catch (Throwable throwable) {
+					// errors are passed on as well, otherwise the future would never complete
+					future.completeExceptionally(throwable);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		
+		return future;
+		
+	}
+	
+	/**
+	 * @param executor the {@link Executor executor} to compute the crossover {@link Pair pairs} on
+	 * @return Returns a {@link Flow.Publisher publisher} of the crossover {@link Pair pairs} in the order of the {@link Crossover#iterator() iterator}.
+	 * The crossover {@link Pair pairs} are computed as they are requested by a {@link Flow.Subscriber subscriber}, each
+	 * {@link Flow.Subscriber subscriber} gets all crossover {@link Pair pairs}, see {@link CrossoverPublisher}.
+	 * @throws IllegalArgumentException if the executor is null.
+	 */
+	public Flow.Publisher<Pair<Resource, Resource>> publisher (Executor executor) {
+		if (executor == null) throw new IllegalArgumentException("The executor must not be null.");
+		return new CrossoverPublisher(this, executor);
+	}
+	
+	/**
+	 * @return Returns an {@link Iterator iterator} of the {@link OffspringDelta deltas} of the possible crossover {@link Pair pairs}.
+	 * The deltas are in the same order as the crossover {@link Pair pairs} of the {@link Crossover#iterator() iterator} and
+	 * {@link OffspringDelta#apply() applying} them yields equal crossover {@link Pair pairs}. Both offsprings are based on the
+	 * same parent, so that only the part of the parent outside of their split elements and the part of the donor outside of the
+	 * {@link CustomSpan span} need to be stored.
+	 */
+	public Iterator<Pair<OffspringDelta, OffspringDelta>> deltaIterator () {
+		return new Iterator<Pair<OffspringDelta, OffspringDelta>>() {
+			
+			boolean computedNextDeltaPair = false;
+			Pair<OffspringDelta, OffspringDelta> nextDeltaPair = null;
+			Iterator<CustomSpan> spanIterator = null;
+			
+			@Override
+			public boolean hasNext() {
+				
+				if (!computedNextDeltaPair) {
+					computeNextDeltaPair();
+					computedNextDeltaPair = true;
+				}
+				
+				return (nextDeltaPair != null);
+				
+			}
+			
+			@Override
+			public Pair<OffspringDelta, OffspringDelta> next() {
+				
+				if (hasNext()) {
+					computedNextDeltaPair = false;
+				}
+				
+				return nextDeltaPair;
+				
+			}
+			
+			private void computeNextDeltaPair () {
+				
+				if (spanIterator == null) {
+					spanIterator = getSpanIterator();
+				}
+				
+				nextDeltaPair = spanIterator.hasNext() ? createDeltaPair(spanIterator.next()) : null;
+				
+			}
+			
+		};
+	}
+	
+	/**
+	 * @return Returns an {@link Iterator iterator} of {@link CrossoverPairHandle handles} of the possible crossover {@link Pair pairs}.
+	 * The handles are in the same order as the crossover {@link Pair pairs} of the {@link Crossover#iterator() iterator}. 
+	 * A handle gives access to the {@link CustomSpan span} of the crossover {@link Pair pair} and creates each offspring only
+	 * when it is requested, so that discarded crossover {@link Pair pairs} are never created.
+	 */
+	public Iterator<CrossoverPairHandle> handleIterator () {
+		return new Iterator<CrossoverPairHandle>() {
+			
+			boolean computedNextHandle = false;
+			CrossoverPairHandle nextHandle = null;
+			Iterator<CustomSpan> spanIterator = null;
+			
+			@Override
+			public boolean hasNext() {
+				
+				if (!computedNextHandle) {
+					computeNextHandle();
+					computedNextHandle = true;
+				}
+				
+				return (nextHandle != null);
+				
+			}
+			
+			@Override
+			public CrossoverPairHandle next() {
+				
+				if (hasNext()) {
+					computedNextHandle = false;
+				}
+				
+				return nextHandle;
+				
+			}
+			
+			private void computeNextHandle () {
+				
+				if (spanIterator == null) {
+					spanIterator = getSpanIterator();
+				}
+				
+				nextHandle = spanIterator.hasNext() ? new CrossoverPairHandle(Crossover.this, spanIterator.next()) : null;
+				
+			}
+			
+		};
+	}
+	
+	/**
+	 * Returns an {@link Iterator iterator} over the crossover {@link Pair pairs} of the {@link Crossover#iterator() iterator} that filters
+	 * out crossover {@link Pair pairs} whose offsprings are isomorphic to the offsprings of a previously emitted crossover {@link Pair pair}. </br>
+	 * This is an output filter only: every crossover {@link Pair pair} is still created by applying the rules, the filter merely saves
+	 * the consumption of the duplicates (e.g. their serialization) and adds the cost of hashing each offspring and of copying the
+	 * emitted ones. </br>
+	 * The offsprings are compared by their {@link ModelHash#hash(Resource) canonical hashes} first. As equal hashes don't imply
+	 * isomorphic models, a crossover {@link Pair pair} is only filtered out if its offsprings are also {@link ModelHash#isIsomorphic(Resource, Resource)
+	 * isomorphic} to the offsprings of the emitted crossover {@link Pair pair}. For this comparison a full copy of the offsprings of each
+	 * remembered crossover {@link Pair pair} is kept, as the emitted crossover {@link Pair pairs} may be altered by the caller. Only the
+	 * most recently emitted crossover {@link Pair pairs} are remembered, so that the memory footprint is bounded and duplicates of
+	 * forgotten crossover {@link Pair pairs} are emitted again.
+	 * @param maxRememberedPairs the maximal number of emitted crossover {@link Pair pairs} to remember, must be positive
+	 * @return Returns an {@link Iterator iterator} over the distinct crossover {@link Pair pairs} as described above.
+	 */
+	public Iterator<Pair<Resource, Resource>> distinctOutputIterator (int maxRememberedPairs) {
+		if (maxRememberedPairs < 1) throw new IllegalArgumentException("The maxRememberedPairs must be positive.");
+		return distinctOutputIterator(iterator(), maxRememberedPairs);
+	}
+	
+	/**
+	 * Filters out the duplicates of the given crossover {@link Pair pairs} like {@link Crossover#distinctOutputIterator(int)}.
+	 * @param crossoverPairIterator an {@link Iterator iterator} over the crossover {@link Pair pairs} of this {@link Crossover},
+	 * e.g. a {@link Crossover#iterator(CrossoverBudget) budgeted} one
+	 * @param maxRememberedPairs the maximal number of emitted crossover {@link Pair pairs} to remember, must be positive
+	 * @return Returns an {@link Iterator iterator} over the distinct crossover {@link Pair pairs} of the given {@link Iterator iterator}.
+	 */
+	Iterator<Pair<Resource, Resource>> distinctOutputIterator (Iterator<Pair<Resource, Resource>> crossoverPairIterator, int maxRememberedPairs) {
+		
+		if (maxRememberedPairs < 1) throw new IllegalArgumentException("The maxRememberedPairs must be positive.");
+		
+		return new Iterator<Pair<Resource, Resource>>() {
+			
+			boolean computedNextCrossoverPair = false;
+			Pair<Resource, Resource> nextCrossoverPair = null;
+			
+			/**
+			 * Copies of the offsprings of the emitted crossover pairs by their hashes, as the emitted crossover pairs may be altered.
+			 */
+			@SuppressWarnings("serial")
+			Map<List<Long>, List<Pair<Resource, Resource>>> emittedPairs = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry (Map.Entry<List<Long>, List<Pair<Resource, Resource>>> eldest) {
+					return size() > maxRememberedPairs;
+				}
+			};
+			
+			@Override
+			public boolean hasNext() {
+				
+				if (!computedNextCrossoverPair) {
+					computeNextCrossoverPair();
+					computedNextCrossoverPair = true;
+				}
+				
+				return (nextCrossoverPair != null);
+				
+			}
+			
+			@Override
+			public Pair<Resource, Resource> next() {
+				
+				if (hasNext()) {
+					computedNextCrossoverPair = false;
+				}
+				
+				return nextCrossoverPair;
+				
+			}
+			
+			private void computeNextCrossoverPair () {
+				
+				nextCrossoverPair = null;
+				
+				while (nextCrossoverPair == null && crossoverPairIterator.hasNext()) {
 					
-					nextCrossoverPair = new Pair<Resource, Resource>(resourceOne, resourceTwo);
+					Pair<Resource, Resource> crossoverPair = crossoverPairIterator.next();
+					List<Long> hashes = List.of(ModelHash.hash(crossoverPair.getFirst()), ModelHash.hash(crossoverPair.getSecond()));
+					List<Pair<Resource, Resource>> pairsWithEqualHashes = emittedPairs.computeIfAbsent(hashes, key -> new ArrayList<>());
 					
-				} else {
+					// a hash hit is only a duplicate if the offsprings are isomorphic
+					boolean isDuplicate = pairsWithEqualHashes.stream().anyMatch(emittedPair ->
+							ModelHash.isIsomorphic(crossoverPair.getFirst(), emittedPair.getFirst()) &&
+							ModelHash.isIsomorphic(crossoverPair.getSecond(), emittedPair.getSecond()));
 					
-					nextCrossoverPair = null;
+					if (!isDuplicate) {
+						pairsWithEqualHashes.add(Pair.of(copyResource(crossoverPair.getFirst()), copyResource(crossoverPair.getSecond())));
+						nextCrossoverPair = crossoverPair;
+					}
 					
 				}
 				
 			}
 			
+			/**
+			 * @param resource a {@link Resource resource}
+			 * @return Returns a new {@link Resource resource} containing a copy of the contents of the given one.
+			 */
+			private Resource copyResource (Resource resource) {
+				Resource copy = new ResourceImpl();
+				copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+				return copy;
+			}
+			
 		};
+		
+	}
+	
+	/**
+	 * @return Returns a {@link Spliterator spliterator} of possible crossover {@link Pair pairs}, see {@link Crossover#parallelStream()}.
+	 */
+	@Override
+	public Spliterator<Pair<Resource, Resource>> spliterator () {
+		return new CrossoverSpliterator();
+	}
+	
+	/**
+	 * @return Returns a sequential {@link Stream stream} of possible crossover {@link Pair pairs}.
+	 * It contains the same crossover {@link Pair pairs} as the {@link Crossover#iterator() iterator}.
+	 */
+	public Stream<Pair<Resource, Resource>> stream () {
+		return StreamSupport.stream(spliterator(), false);
+	}
+	
+	/**
+	 * @return Returns a parallel {@link Stream stream} of possible crossover {@link Pair pairs}.
+	 * The subgraphs of the {@link Crossover#intersectionOfSSEOne} are distributed among the threads, each thread computes
+	 * the {@link CustomSpan spans} of its subgraphs and the resulting crossover {@link Pair pairs}. The stream contains the same 
+	 * crossover {@link Pair pairs} as the {@link Crossover#iterator() iterator} but in a different order. The {@link Crossover}
+	 * must not be iterated otherwise while the stream is used.
+	 */
+	public Stream<Pair<Resource, Resource>> parallelStream () {
+		return StreamSupport.stream(spliterator(), true);
+	}
+	
+	/**
+	 * A {@link Spliterator} over the crossover {@link Pair pairs} that splits the subgraphs of the {@link Crossover#intersectionOfSSEOne}. 
+	 * The first {@link Spliterator spliterator} enumerates the subgraphs and hands out batches of increasing size when split,
+	 * a batch is split by halving its index range. 
+	 */
+	private class CrossoverSpliterator implements Spliterator<Pair<Resource, Resource>> {
+		
+		/**
+		 * The maximal number of subgraphs that are handed out by one split.
+		 */
+		private static final int MAX_BATCH_SIZE = 64;
+		
+		private final Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo;
+		
+		/**
+		 * The subgraphs of the first {@link Spliterator spliterator} or null for a batch.
+		 */
+		private Iterator<View> subgraphIterator;
+		
+		/**
+		 * The subgraphs of a batch or null for the first {@link Spliterator spliterator}.
+		 */
+		private final List<View> subgraphs;
+		
+		private int index;
+		private final int fence;
+		private int batchSize = 0;
+		
+		private Iterator<CustomSpan> spans = Collections.emptyIterator();
+		
+		/**
+		 * A copy of the {@link Crossover#splitOfSSEOne}, as its {@link View#getGraph() graphs} become part of the rules
+		 * they can't be shared with other threads.
+		 */
+		private Pair<View, View> rightHandSides;
+		
+		private CrossoverSpliterator () {
+			this.mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo = getProblemPartIntersectionIdentity();
+			this.subgraphs = null;
+			this.fence = 0;
+		}
+		
+		private CrossoverSpliterator (Map<EObject, EObject> mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, List<View> subgraphs, int index, int fence) {
+			this.mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo = mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo;
+			this.subgraphs = subgraphs;
+			this.index = index;
+			this.fence = fence;
+		}
+		
+		/**
+		 * @return Returns the next subgraph of this {@link Spliterator spliterator} or null if there is none.
+		 */
+		private View nextSubgraph () {
+			
+			if (subgraphs != null) return (index < fence) ? subgraphs.get(index++) : null;
+			
+			if (subgraphIterator == null) {
+				subgraphIterator = ViewFactory.getSubGraphIterator(intersectionOfSSEOne, problemPartIntersection);
+			}
+			
+			return subgraphIterator.hasNext() ? subgraphIterator.next() : null;
+			
+		}
+		
+		@Override
+		public boolean tryAdvance (Consumer<? super Pair<Resource, Resource>> action) {
+			
+			while (!spans.hasNext()) {
+				View subgraph = nextSubgraph();
+				if (subgraph == null) return false;
+				spans = computeSpans(subgraph, mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo).iterator();
+			}
+			
+			if (rightHandSides == null) {
+				rightHandSides = Pair.of(splitOfSSEOne.getFirst().copy(), splitOfSSEOne.getSecond().copy());
+			}
+			
+			action.accept(createCrossoverPair(spans.next(), rightHandSides));
+			return true;
+			
+		}
+		
+		@Override
+		public Spliterator<Pair<Resource, Resource>> trySplit () {
+			
+			if (subgraphs != null) {
+				if (fence - index < 2) return null;
+				int middle = (index + fence) >>> 1;
+				CrossoverSpliterator prefix = new CrossoverSpliterator(mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, subgraphs, index, middle);
+				index = middle;
+				return prefix;
+			}
+			
+			batchSize = Math.min(batchSize + 1, MAX_BATCH_SIZE);
+			List<View> batch = new ArrayList<>(batchSize);
+			
+			View subgraph;
+			while (batch.size() < batchSize && (subgraph = nextSubgraph()) != null) batch.add(subgraph);
+			
+			if (batch.isEmpty()) return null;
+			return new CrossoverSpliterator(mapFromProblemPartIntersectionSSEOneToIntersectionOfSSETwo, batch, 0, batch.size());
+			
+		}
+		
+		@Override
+		public long estimateSize () {
+			return (subgraphs != null) ? fence - index : Long.MAX_VALUE;
+		}
+		
+		@Override
+		public int characteristics () {
+			return Spliterator.NONNULL;
+		}
+		
 	}
-
 	
 	@Override
 	public int hashCode() {
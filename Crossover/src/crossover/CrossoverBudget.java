@@ -0,0 +1,244 @@
+package crossover;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits the iteration over the crossover {@link Pair pairs} of a {@link Crossover}, see {@link Crossover#iterator(CrossoverBudget)}. </br>
+ * The iteration stops at a wall-clock deadline, after a maximum number of subgraph candidates of the intersection, a maximum
+ * number of match attempts, a maximum number of crossover {@link Pair pairs}, if the cancellation token is set or if the
+ * iterating thread is interrupted. The deadline, the cancellation token and the interruption are also checked within the
+ * enumeration of the subgraphs and the search for matches, so that a single call to {@link Iterator#hasNext()} doesn't run
+ * unbounded. The reason why the iteration stopped is reported by {@link BudgetedIterator#getStopReason()}.
+ * A budget may be used for multiple iterations, the limits apply to each iteration separately.
+ *
+ * @author Benjamin Wagner
+ */
+public class CrossoverBudget {
+
+	/**
+	 * The reason why a {@link BudgetedIterator budgeted iteration} stopped.
+	 */
+	public enum StopReason {
+		/** All crossover {@link Pair pairs} have been returned. */
+		EXHAUSTED,
+		/** The deadline has passed. */
+		DEADLINE,
+		/** The maximum number of subgraph candidates has been reached. */
+		MAX_SUBGRAPHS,
+		/** The maximum number of match attempts has been reached. */
+		MAX_MATCH_ATTEMPTS,
+		/** The maximum number of crossover {@link Pair pairs} has been reached. */
+		MAX_CROSSOVER_PAIRS,
+		/** The cancellation token has been set. */
+		CANCELLED,
+		/** The iterating thread has been interrupted. */
+		INTERRUPTED;
+
+		/**
+		 * @return Returns true if the iteration ended as requested, i.e. it is {@link StopReason#EXHAUSTED exhausted}, returned the
+		 * {@link StopReason#MAX_CROSSOVER_PAIRS maximum number} of crossover {@link Pair pairs} or has been {@link StopReason#CANCELLED cancelled}.
+		 * Returns false if the iteration has been cut short, so that the crossover {@link Pair pairs} returned so far may be incomplete.
+		 */
+		public boolean isCompleted () {
+			return this == EXHAUSTED || this == MAX_CROSSOVER_PAIRS || this == CANCELLED;
+		}
+
+		/**
+		 * @return Returns a {@link CancellationException} describing why an iteration that is not {@link StopReason#isCompleted() completed}
+		 * stopped. Its cause is an {@link InterruptedException} if the iterating thread has been interrupted.
+		 */
+		public CancellationException toException () {
+			CancellationException exception = new CancellationException("The iteration stopped early: " + this + ".");
+			if (this == INTERRUPTED) exception.initCause(new InterruptedException("The iterating thread has been interrupted."));
+			return exception;
+		}
+
+	}
+
+	/**
+	 * An {@link Iterator} that stops when its {@link CrossoverBudget budget} is exhausted.
+	 * @param <T> the type of the elements
+	 */
+	public interface BudgetedIterator<T> extends Iterator<T> {
+
+		/**
+		 * Returns the reason why the iteration stopped. An iteration that returned the maximum number of crossover {@link Pair pairs}
+		 * is reported as stopped by the {@link StopReason#MAX_CROSSOVER_PAIRS limit} even if there are no more crossover {@link Pair pairs},
+		 * as this could only be told by another, possibly long search for a span.
+		 * @return Returns the reason why the iteration stopped or null if {@link Iterator#hasNext()} hasn't returned false yet.
+		 */
+		StopReason getStopReason ();
+
+	}
+
+	/**
+	 * The maximal time until a deadline that can be represented by the monotonic clock.
+	 */
+	private static final Duration MAX_REMAINING_TIME = Duration.ofDays(100 * 365);
+
+	private Instant deadline = null;
+	private long maxSubgraphs = Long.MAX_VALUE;
+	private long maxMatchAttempts = Long.MAX_VALUE;
+	private long maxCrossoverPairs = Long.MAX_VALUE;
+	private BooleanSupplier cancellationToken = null;
+
+	/**
+	 * Creates a new {@link CrossoverBudget} without any limits. The iteration stops only if the iterating thread is interrupted.
+	 */
+	public CrossoverBudget () {}
+
+	/**
+	 * @param deadline the wall-clock time after which the iteration stops or null for no deadline
+	 */
+	public void setDeadline (Instant deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * @param maxSubgraphs the maximum number of subgraphs of the intersection to search matches for, must not be negative
+	 */
+	public void setMaxSubgraphs (long maxSubgraphs) {
+		if (maxSubgraphs < 0) throw new IllegalArgumentException("The maxSubgraphs must not be negative.");
+		this.maxSubgraphs = maxSubgraphs;
+	}
+
+	/**
+	 * @param maxMatchAttempts the maximum number of candidates tried while searching matches, must not be negative
+	 */
+	public void setMaxMatchAttempts (long maxMatchAttempts) {
+		if (maxMatchAttempts < 0) throw new IllegalArgumentException("The maxMatchAttempts must not be negative.");
+		this.maxMatchAttempts = maxMatchAttempts;
+	}
+
+	/**
+	 * @param maxCrossoverPairs the maximum number of crossover {@link Pair pairs} (i.e. twice as many offsprings) to return, must not be negative
+	 */
+	public void setMaxCrossoverPairs (long maxCrossoverPairs) {
+		if (maxCrossoverPairs < 0) throw new IllegalArgumentException("The maxCrossoverPairs must not be negative.");
+		this.maxCrossoverPairs = maxCrossoverPairs;
+	}
+
+	/**
+	 * @param cancellationToken a condition that is true as soon as the iteration should be cancelled, e.g. {@code atomicBoolean::get},
+	 * or null for no cancellation token
+	 */
+	public void setCancellationToken (BooleanSupplier cancellationToken) {
+		this.cancellationToken = cancellationToken;
+	}
+
+	/**
+	 * @return Returns a new {@link Tracker tracker} for one iteration, the deadline is converted to the monotonic clock.
+	 */
+	Tracker start () {
+		return new Tracker();
+	}
+
+	/**
+	 * Tracks the usage of the {@link CrossoverBudget budget} during one iteration. Once a limit has been reached, the
+	 * {@link Tracker#stopReason} doesn't change anymore. {@link Tracker#countMatchAttempt()} may be called concurrently
+	 * by the workers of a {@link Crossover#setMatchPool(java.util.concurrent.ForkJoinPool) match pool}.
+	 */
+	class Tracker {
+
+		private final long deadlineNanos;
+		private final boolean hasDeadline;
+		private long subgraphs = 0;
+		private final AtomicLong matchAttempts = new AtomicLong();
+		private long crossoverPairs = 0;
+		private volatile StopReason stopReason = null;
+
+		private Tracker () {
+			
+			this.hasDeadline = deadline != null;
+			
+			if (hasDeadline) {
+				// the remaining time is bounded to avoid an overflow of the nanoseconds
+				Duration remainingTime = Duration.between(Instant.now(), deadline);
+				if (remainingTime.isNegative()) remainingTime = Duration.ZERO;
+				if (remainingTime.compareTo(MAX_REMAINING_TIME) > 0) remainingTime = MAX_REMAINING_TIME;
+				this.deadlineNanos = System.nanoTime() + remainingTime.toNanos();
+			} else {
+				this.deadlineNanos = 0;
+			}
+			
+		}
+
+		/**
+		 * @return Returns true if the iteration has to stop because of the cancellation token, an interruption or the deadline.
+		 */
+		boolean shouldStop () {
+			if (stopReason != null) return true;
+			if (cancellationToken != null && cancellationToken.getAsBoolean()) {
+				stopReason = StopReason.CANCELLED;
+			} else if (Thread.currentThread().isInterrupted()) {
+				stopReason = StopReason.INTERRUPTED;
+			} else if (hasDeadline && System.nanoTime() - deadlineNanos >= 0) {
+				stopReason = StopReason.DEADLINE;
+			}
+			return stopReason != null;
+		}
+
+		/**
+		 * Counts a subgraph candidate that is about to be searched.
+		 * @return Returns true if the iteration has to stop instead.
+		 */
+		boolean countSubgraph () {
+			if (shouldStop()) return true;
+			if (subgraphs >= maxSubgraphs) {
+				stopReason = StopReason.MAX_SUBGRAPHS;
+				return true;
+			}
+			subgraphs++;
+			return false;
+		}
+
+		/**
+		 * Counts a candidate that is about to be tried in the search for matches.
+		 * @return Returns true if the iteration has to stop instead.
+		 */
+		boolean countMatchAttempt () {
+			if (shouldStop()) return true;
+			if (matchAttempts.getAndIncrement() >= maxMatchAttempts) {
+				stopReason = StopReason.MAX_MATCH_ATTEMPTS;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Counts a crossover {@link Pair pair} that is about to be created. The limit is checked before the span of the
+		 * crossover {@link Pair pair} is searched, so that no search is started once it has been reached.
+		 * @return Returns true if the iteration has to stop instead.
+		 */
+		boolean countCrossoverPair () {
+			if (shouldStop()) return true;
+			if (crossoverPairs >= maxCrossoverPairs) {
+				stopReason = StopReason.MAX_CROSSOVER_PAIRS;
+				return true;
+			}
+			crossoverPairs++;
+			return false;
+		}
+
+		/**
+		 * Marks the iteration as {@link StopReason#EXHAUSTED exhausted} unless it has stopped for another reason.
+		 */
+		void exhausted () {
+			if (stopReason == null) stopReason = StopReason.EXHAUSTED;
+		}
+
+		/**
+		 * @return Returns the reason why the iteration stopped or null if it hasn't stopped.
+		 */
+		StopReason getStopReason () {
+			return stopReason;
+		}
+
+	}
+
+}
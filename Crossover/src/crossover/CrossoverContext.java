@@ -0,0 +1,280 @@
+package crossover;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+
+import view.View;
+import view.ViewFactory;
+
+/**
+ * Holds everything a {@link Crossover} needs that only depends on the meta-model and the specification of the problem part,
+ * i.e. the {@link CrossoverContext#getProblemBorder() border of the problem part}, the {@link CrossoverContext#getSubTypes(EClass) sub types}
+ * of each {@link EClass eClass} and the {@link CrossoverContext#getSubMetaModelOfIntersection() sub-meta-model of the intersection}. </br>
+ * A {@link CrossoverContext} is computed once and can be shared by all {@link Crossover crossovers} of search space elements of
+ * the same meta-model, see {@link Crossover#Crossover(CrossoverContext, Pair, Strategy, SearchSpaceElementSplitStrategy)}.
+ * The meta-model must not be changed while the {@link CrossoverContext} is used.
+ *
+ * @author Benjamin Wagner
+ */
+public class CrossoverContext {
+
+	private final Resource metamodel;
+	private final List<EClass> problemPartEClasses;
+	private final List<EReference> problemPartEReferences;
+	final View subMetaModelOfIntersection;
+	private final Function<EObject, ?> problemPartKey;
+
+	/**
+	 * The {@link EClass eClasses} of the {@link CrossoverContext#metamodel} in the order of their occurrence.
+	 */
+	private final List<EClass> eClasses;
+
+	/**
+	 * The direct and indirect sub types of each {@link EClass eClass} in the {@link CrossoverContext#metamodel}.
+	 */
+	private final Map<EClass, Set<EClass>> subTypes;
+
+	/**
+	 * The border of the problem part, see {@link CrossoverContext#getProblemBorder()}.
+	 */
+	final View problemBorder;
+
+	/**
+	 * The {@link CrossoverContext#problemPartEClasses} and all of their sub types.
+	 */
+	private final Set<EClass> problemPartEClassesWithSubTypes;
+
+	/**
+	 * The {@link CrossoverContext#problemPartEReferences} and their opposites.
+	 */
+	private final Set<EReference> problemPartEReferencesWithOpposites;
+
+	/**
+	 * Creates a new {@link CrossoverContext} with an empty sub-meta-model of the intersection.
+	 * @param metamodel the meta-model of the search space elements
+	 * @param problemPartEClasses a {@link List list} of all non-abstract {@link EClass eClasses} describing the problem part
+	 * @param problemPartEReferences a {@link List list} of {@link EReference eReferences} describing the problem part
+	 * @throws CrossoverUsageException if one of the parameters is null or the metamodel is empty.
+	 */
+	public CrossoverContext (Resource metamodel, List<EClass> problemPartEClasses, List<EReference> problemPartEReferences) throws CrossoverUsageException {
+		this(metamodel, problemPartEClasses, problemPartEReferences, metamodel == null ? null : new View(metamodel), ViewFactory.NO_KEY);
+	}
+
+	/**
+	 * Creates a new {@link CrossoverContext}.
+	 * @param metamodel the meta-model of the search space elements
+	 * @param problemPartEClasses a {@link List list} of all non-abstract {@link EClass eClasses} describing the problem part
+	 * @param problemPartEReferences a {@link List list} of {@link EReference eReferences} describing the problem part
+	 * @param subMetaModelOfIntersection a {@link View view} on the {@literal metamodel} used to create the splits, it must not be altered afterwards
+	 * @param problemPartKey a stable identifier of the {@link EObject eObjects} in the problem part,
+	 * see {@link ViewFactory#buildViewMapping(View, View, List, List, Function)}
+	 * @throws CrossoverUsageException if one of the parameters is null or the metamodel is empty.
+	 */
+	public CrossoverContext (Resource metamodel, List<EClass> problemPartEClasses, List<EReference> problemPartEReferences,
+			View subMetaModelOfIntersection, Function<EObject, ?> problemPartKey) throws CrossoverUsageException {
+
+		if(metamodel == null || metamodel.getContents().isEmpty())
+			throw new CrossoverUsageException("The metamodel must not be null or empty.");
+		if(problemPartEClasses == null)
+			throw new CrossoverUsageException("The problemPartEClasses must not be null.");
+		if(problemPartEReferences == null)
+			throw new CrossoverUsageException("The problemPartEReferences must not be null.");
+		if(subMetaModelOfIntersection == null)
+			throw new CrossoverUsageException("The subMetaModelOfIntersection must not be null.");
+		if(problemPartKey == null)
+			throw new CrossoverUsageException("The problemPartKey must not be null.");
+
+		this.metamodel = metamodel;
+		this.problemPartEClasses = List.copyOf(problemPartEClasses);
+		this.problemPartEReferences = List.copyOf(problemPartEReferences);
+		this.subMetaModelOfIntersection = subMetaModelOfIntersection;
+		this.problemPartKey = problemPartKey;
+		this.eClasses = new ArrayList<>();
+		this.subTypes = new HashMap<>();
+		computeSubTypes();
+		this.problemBorder = findBorder();
+
+		this.problemPartEClassesWithSubTypes = new HashSet<>(this.problemPartEClasses);
+		this.problemPartEClasses.forEach(eClass -> problemPartEClassesWithSubTypes.addAll(getSubTypes(eClass)));
+
+		this.problemPartEReferencesWithOpposites = new HashSet<>(this.problemPartEReferences);
+		this.problemPartEReferences.forEach(eReference -> {
+			if (eReference.getEOpposite() != null) problemPartEReferencesWithOpposites.add(eReference.getEOpposite());
+		});
+
+	}
+
+	/**
+	 * Collects the {@link CrossoverContext#eClasses} and their {@link CrossoverContext#subTypes} in a single walk over the meta-model.
+	 */
+	private void computeSubTypes () {
+
+		TreeIterator<EObject> treeIterator = metamodel.getAllContents();
+
+		while (treeIterator.hasNext()) {
+			EObject eObject = treeIterator.next();
+			if (eObject instanceof EClass) {
+				EClass eClass = (EClass) eObject;
+				eClasses.add(eClass);
+				subTypes.computeIfAbsent(eClass, key -> new HashSet<>());
+				for (EClass superType : eClass.getEAllSuperTypes()) {
+					subTypes.computeIfAbsent(superType, key -> new HashSet<>()).add(eClass);
+				}
+			}
+		}
+
+		subTypes.replaceAll((eClass, subTypesOfEClass) -> Collections.unmodifiableSet(subTypesOfEClass));
+
+	}
+
+	/**
+	 * Calculates the border of the problem part in the {@link CrossoverContext#metamodel} adjacent to the solution part.
+	 * The solution part consists of all elements that are not part of the problem part.
+	 * @return Returns a {@link View view} over the {@link CrossoverContext#metamodel} containing the border elements.
+	 */
+	private View findBorder () {
+
+		View borderView = new View(metamodel);
+
+		Set<EClass> problemPartEClassSet = new HashSet<>(problemPartEClasses);
+		Set<EReference> problemPartEReferenceSet = new HashSet<>(problemPartEReferences);
+
+		for (EClass eClass : eClasses) {
+
+			List<EClass> eClassestoExtend = new ArrayList<>();
+
+			for (EReference eReference : eClass.getEAllReferences()) {
+				if(!problemPartEReferenceSet.contains(eReference)) {
+
+					if(problemPartEClassSet.contains(eClass)) {
+						eClassestoExtend.add(eClass);
+					}
+
+					if(problemPartEClassSet.contains(eReference.getEReferenceType())) {
+						eClassestoExtend.add(eReference.getEReferenceType());
+					}
+
+				} else {
+
+					if(!problemPartEClassSet.contains(eReference.getEContainingClass())) {
+						borderView.extend(((EObject) eReference));
+						if(problemPartEClassSet.contains(eReference.getEReferenceType())) {
+							eClassestoExtend.add(eReference.getEReferenceType());
+						}
+					}
+
+					if(!problemPartEClassSet.contains(eReference.getEReferenceType())) {
+						borderView.extend(((EObject) eReference));
+						if(problemPartEClassSet.contains(eClass)) {
+							eClassestoExtend.add(eClass);
+						}
+					}
+
+				}
+			}
+
+			for (EClass eClassToExtend : eClassestoExtend) {
+				if(!eClassToExtend.isAbstract()) {
+					borderView.extend(((EObject) eClassToExtend));
+				}
+			}
+
+		}
+
+		// all sub types of the border eClasses belong to the border too
+
+		Set<EClass> subTypesOfBorder = new HashSet<>();
+		borderView.getContainedEObjects().forEach(eObject -> {
+			if (eObject instanceof EClass) {
+				subTypesOfBorder.addAll(getSubTypes((EClass) eObject));
+			}
+		});
+		eClasses.stream().filter(subTypesOfBorder::contains).forEach(borderView::extend);
+
+		return borderView;
+
+	}
+
+	/**
+	 * @param eObject an {@link EObject eObject} of a search space element
+	 * @return Returns true if the {@link EObject eObject} is an instance of one of the {@link CrossoverContext#problemPartEClasses}.
+	 */
+	boolean isProblemPartEObject (EObject eObject) {
+		return problemPartEClassesWithSubTypes.contains(eObject.eClass());
+	}
+
+	/**
+	 * @param eReference an {@link EReference eReference} of the meta-model
+	 * @return Returns true if the {@link EReference eReference} or its opposite is one of the {@link CrossoverContext#problemPartEReferences}.
+	 */
+	boolean isProblemPartEReference (EReference eReference) {
+		return problemPartEReferencesWithOpposites.contains(eReference);
+	}
+
+	/**
+	 * @return Returns the meta-model of the search space elements.
+	 */
+	public Resource getMetamodel () {
+		return metamodel;
+	}
+
+	/**
+	 * @return Returns an unmodifiable {@link List list} of the {@link EClass eClasses} describing the problem part.
+	 */
+	public List<EClass> getProblemPartEClasses () {
+		return problemPartEClasses;
+	}
+
+	/**
+	 * @return Returns an unmodifiable {@link List list} of the {@link EReference eReferences} describing the problem part.
+	 */
+	public List<EReference> getProblemPartEReferences () {
+		return problemPartEReferences;
+	}
+
+	/**
+	 * @return Returns a copy of the {@link View view} on the meta-model used to create the intersections of the splits.
+	 */
+	public View getSubMetaModelOfIntersection () {
+		return subMetaModelOfIntersection.copy();
+	}
+
+	/**
+	 * @return Returns the stable identifier of the {@link EObject eObjects} in the problem part.
+	 */
+	public Function<EObject, ?> getProblemPartKey () {
+		return problemPartKey;
+	}
+
+	/**
+	 * @return Returns a copy of the {@link View view} over the meta-model containing the border of the problem part that is
+	 * adjacent to the solution part, i.e. all problem part {@link EReference eReferences} connecting it to the solution part,
+	 * all non-abstract problem part {@link EClass eClasses} adjacent to solution part {@link EReference eReferences}
+	 * and all sub types of the contained {@link EClass eClasses}.
+	 */
+	public View getProblemBorder () {
+		return problemBorder.copy();
+	}
+
+	/**
+	 * @param eClass an {@link EClass eClass} of the meta-model
+	 * @return Returns an unmodifiable {@link Set set} of the direct and indirect sub types of the given {@link EClass eClass}
+	 * in the meta-model, the {@link EClass eClass} itself is not contained.
+	 */
+	public Set<EClass> getSubTypes (EClass eClass) {
+		return subTypes.getOrDefault(eClass, Collections.emptySet());
+	}
+
+}
@@ -0,0 +1,95 @@
+package crossover;
+
+import java.util.Set;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.henshin.model.Mapping;
+
+import view.View;
+
+/**
+ * A lightweight handle of a crossover {@link Pair pair} returned by {@link Crossover#handleIterator()}. </br>
+ * It exposes the {@link CustomSpan span} the offsprings are glued along, which is enough for cheap checks like
+ * the detection of duplicates, and creates each offspring independently when it is requested for the first time.
+ * The offsprings are equal to those of the crossover {@link Pair pair} returned by the {@link Crossover#iterator() iterator}.
+ *
+ * @author Benjamin Wagner
+ */
+public class CrossoverPairHandle {
+
+	private final Crossover crossover;
+	private final CustomSpan span;
+
+	private OffspringDelta firstDelta;
+	private OffspringDelta secondDelta;
+	private Resource first;
+	private Resource second;
+
+	CrossoverPairHandle (Crossover crossover, CustomSpan span) {
+		this.crossover = crossover;
+		this.span = span;
+	}
+
+	/**
+	 * @return Returns the {@link CustomSpan span} of the crossover {@link Pair pair}.
+	 */
+	public CustomSpan getSpan () {
+		return span;
+	}
+
+	/**
+	 * @return Returns the number of {@link org.eclipse.emf.henshin.model.Node nodes} in the {@link CustomSpan#getIntersection() intersection} of the {@link CustomSpan span}.
+	 */
+	public int getIntersectionSize () {
+		return span.getIntersection().getGraph().getNodes().size();
+	}
+
+	/**
+	 * @return Returns the {@link Mapping mappings} from the {@link CustomSpan#getIntersection() intersection} of the {@link CustomSpan span}
+	 * to the intersection of the split of the search space element two.
+	 * The {@link CustomSpan#getIntersection() intersection} is a {@link View view} over the search space element one.
+	 */
+	public Set<Mapping> getMapping () {
+		return span.getMappingsTwo();
+	}
+
+	/**
+	 * @return Returns the {@link OffspringDelta delta} of the first offspring, it is created on the first call.
+	 */
+	public synchronized OffspringDelta getFirstDelta () {
+		if (firstDelta == null) firstDelta = crossover.createDelta(span, true);
+		return firstDelta;
+	}
+
+	/**
+	 * @return Returns the {@link OffspringDelta delta} of the second offspring, it is created on the first call.
+	 */
+	public synchronized OffspringDelta getSecondDelta () {
+		if (secondDelta == null) secondDelta = crossover.createDelta(span, false);
+		return secondDelta;
+	}
+
+	/**
+	 * @return Returns the first offspring, it is created on the first call.
+	 */
+	public synchronized Resource getFirst () {
+		if (first == null) first = getFirstDelta().apply();
+		return first;
+	}
+
+	/**
+	 * @return Returns the second offspring, it is created on the first call.
+	 */
+	public synchronized Resource getSecond () {
+		if (second == null) second = getSecondDelta().apply();
+		return second;
+	}
+
+	/**
+	 * @return Returns the crossover {@link Pair pair}, both offsprings are created if they haven't been yet.
+	 */
+	public Pair<Resource, Resource> toPair () {
+		return Pair.of(getFirst(), getSecond());
+	}
+
+}
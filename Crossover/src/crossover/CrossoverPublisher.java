@@ -0,0 +1,175 @@
+package crossover;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * A {@link Flow.Publisher publisher} of the crossover {@link Pair pairs} of a {@link Crossover}, see {@link Crossover#publisher(Executor)}. </br>
+ * Each {@link Flow.Subscriber subscriber} gets its own iteration over all crossover {@link Pair pairs}. The crossover {@link Pair pairs}
+ * are computed on the given {@link Executor executor} and only as many as have been requested, so that a slow {@link Flow.Subscriber subscriber}
+ * doesn't cause crossover {@link Pair pairs} to pile up. The signals to a {@link Flow.Subscriber subscriber} are serialized, but they may be
+ * sent from different threads of the {@link Executor executor}. Cancelling a {@link Flow.Subscription subscription} also stops the search
+ * for the next crossover {@link Pair pair}, see {@link CrossoverBudget#setCancellationToken(java.util.function.BooleanSupplier)}.
+ * An iteration that is cut short, e.g. because the thread of the {@link Executor executor} has been interrupted, is signalled by
+ * {@link Flow.Subscriber#onError(Throwable)} with the {@link CrossoverBudget.StopReason#toException() reason} instead of a completion.
+ *
+ * @author Benjamin Wagner
+ */
+class CrossoverPublisher implements Flow.Publisher<Pair<Resource, Resource>> {
+
+	private final Crossover crossover;
+	private final Executor executor;
+
+	/**
+	 * @param crossover the {@link Crossover} to publish the crossover {@link Pair pairs} of
+	 * @param executor the {@link Executor executor} to compute the crossover {@link Pair pairs} on
+	 */
+	CrossoverPublisher (Crossover crossover, Executor executor) {
+		this.crossover = crossover;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe (Flow.Subscriber<? super Pair<Resource, Resource>> subscriber) {
+		if (subscriber == null) throw new NullPointerException("The subscriber must not be null.");
+		CrossoverSubscription subscription = new CrossoverSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/**
+	 * The {@link Flow.Subscription subscription} of one {@link Flow.Subscriber subscriber}. All signals are sent by the
+	 * {@link CrossoverSubscription#drain() drain-loop} that is run by at most one thread at a time.
+	 */
+	private class CrossoverSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Pair<Resource, Resource>> subscriber;
+
+		/**
+		 * The number of requested but not yet sent crossover {@link Pair pairs}.
+		 */
+		private final AtomicLong demand = new AtomicLong();
+
+		/**
+		 * The number of times the {@link CrossoverSubscription#drain() drain-loop} has been scheduled but not yet run.
+		 */
+		private final AtomicInteger pendingDrains = new AtomicInteger();
+
+		private volatile boolean cancelled = false;
+
+		/**
+		 * An invalid request that is signalled by the {@link CrossoverSubscription#drain() drain-loop}.
+		 */
+		private volatile IllegalArgumentException invalidRequest = null;
+
+		/**
+		 * Only accessed by the {@link CrossoverSubscription#drain() drain-loop}.
+		 */
+		private CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>> iterator = null;
+
+		private CrossoverSubscription (Flow.Subscriber<? super Pair<Resource, Resource>> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request (long n) {
+
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("The number of requested crossover pairs must be positive.");
+			} else {
+				// the demand is capped at Long.MAX_VALUE, i.e. unbounded
+				demand.getAndUpdate(current -> (Long.MAX_VALUE - current < n) ? Long.MAX_VALUE : current + n);
+			}
+
+			schedule();
+
+		}
+
+		@Override
+		public void cancel () {
+			cancelled = true;
+		}
+
+		/**
+		 * Runs the {@link CrossoverSubscription#drain() drain-loop} on the {@link Executor executor} unless it is already running.
+		 */
+		private void schedule () {
+
+			if (pendingDrains.getAndIncrement() != 0) return;
+
+			try {
+				executor.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				cancelled = true;
+				subscriber.onError(e);
+			}
+
+		}
+
+		/**
+		 * Sends crossover {@link Pair pairs} as long as there is demand and signals the completion or an error.
+		 */
+		private void drain () {
+
+			int missedDrains = 1;
+
+			do {
+
+				if (cancelled) return;
+
+				if (invalidRequest != null) {
+					cancelled = true;
+					subscriber.onError(invalidRequest);
+					return;
+				}
+
+				try {
+
+					if (iterator == null) {
+						CrossoverBudget budget = new CrossoverBudget();
+						budget.setCancellationToken(() -> cancelled);
+						iterator = crossover.iterator(budget);
+					}
+
+					while (demand.get() > 0 && !cancelled) {
+
+						if (!iterator.hasNext()) {
+							if (!cancelled) {
+								cancelled = true;
+								// an iteration cut short (e.g. by an interrupt) must not look like a complete one
+								CrossoverBudget.StopReason stopReason = iterator.getStopReason();
+								if (stopReason.isCompleted()) {
+									subscriber.onComplete();
+								} else {
+									subscriber.onError(stopReason.toException());
+								}
+							}
+							return;
+						}
+
+						Pair<Resource, Resource> crossoverPair = iterator.next();
+						if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+						subscriber.onNext(crossoverPair);
+
+					}
+
+				} catch (Throwable throwable) {
+					// errors are signalled as well, otherwise the subscriber would wait forever
+					cancelled = true;
+					subscriber.onError(throwable);
+					return;
+				}
+
+				missedDrains = pendingDrains.addAndGet(-missedDrains);
+
+			} while (missedDrains != 0);
+
+		}
+
+	}
+
+}
@@ -0,0 +1,176 @@
+package crossover;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+
+import view.ProblemPartCache;
+import view.View;
+import view.ViewSetOperationException;
+
+/**
+ * Crosses one search space element (the elite) with many partners. </br>
+ * The problem part of the elite, its problem split under the given {@link Strategy strategy} and the split of the elite
+ * are computed once and reused for the {@link Crossover} with every partner, so that only the problem part of the partner
+ * and its split need to be computed for each partner. The {@link Crossover crossovers} are equal to the ones created by
+ * {@link Crossover#Crossover(CrossoverContext, Pair, Strategy, SearchSpaceElementSplitStrategy)} with the elite as the first
+ * search space element, given that the {@link Strategy strategy} splits the problem part of the elite the same way.
+ * The elite must not be changed while the {@link EliteCrossover} is used. {@link EliteCrossover#crossWith(Resource)} may be called
+ * by multiple threads at the same time, provided that the {@link SearchSpaceElementSplitStrategy search space element split strategy}
+ * may be applied concurrently, see {@link SearchSpaceElementSplitStrategy}.
+ *
+ * @author Benjamin Wagner
+ */
+public class EliteCrossover {
+
+	final CrossoverContext context;
+	private final Resource elite;
+	private final List<Resource> partners;
+	final Strategy problemPartSplitStrategy;
+	final SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy;
+	final ProblemPartCache problemPartCache;
+
+	/**
+	 * The {@link View view} over the elite containing its problem part.
+	 */
+	final View problemPart;
+
+	/**
+	 * The split of the {@link EliteCrossover#problemPart}, see {@link Crossover#splitProblemPart(View, View, Strategy, View)}.
+	 */
+	final Pair<View, View> problemSplit;
+
+	/**
+	 * The split of the elite, see {@link Crossover#splitSearchSpaceElement(View, Pair, SearchSpaceElementSplitStrategy, View)}.
+	 * Each {@link Crossover} with a partner uses its own copy, as the {@link View#getGraph() graphs} become part of its rules.
+	 */
+	final Pair<View, View> split;
+
+	/**
+	 * The intersection of both {@link EliteCrossover#split} {@link View views}.
+	 */
+	final View intersection;
+
+	/**
+	 * Creates a new {@link EliteCrossover} and splits the elite.
+	 * @param context the {@link CrossoverContext context} holding the meta-model and the specification of the problem part
+	 * @param elite the search space element to cross with all partners
+	 * @param partners the search space elements to cross the elite with
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part of the elite
+	 * @param searchSpaceElementSplitStrategy the strategy used to split up the search space elements
+	 * @throws CrossoverUsageException if one of the parameters is null or the elite is empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public EliteCrossover (CrossoverContext context, Resource elite, Collection<Resource> partners, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy) throws CrossoverUsageException, ViewSetOperationException {
+		this(context, elite, partners, problemPartSplitStrategy, searchSpaceElementSplitStrategy, null);
+	}
+
+	/**
+	 * Creates a new {@link EliteCrossover} and splits the elite.
+	 * @param context the {@link CrossoverContext context} holding the meta-model and the specification of the problem part
+	 * @param elite the search space element to cross with all partners
+	 * @param partners the search space elements to cross the elite with
+	 * @param problemPartSplitStrategy the strategy used to split up the problem part of the elite
+	 * @param searchSpaceElementSplitStrategy the strategy used to split up the search space elements
+	 * @param problemPartCache a {@link ProblemPartCache cache} shared between crossovers of the same population or null
+	 * @throws CrossoverUsageException if one of the parameters except for the problemPartCache is null or the elite is empty.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public EliteCrossover (CrossoverContext context, Resource elite, Collection<Resource> partners, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy, ProblemPartCache problemPartCache) throws CrossoverUsageException, ViewSetOperationException {
+
+		if(context == null)
+			throw new CrossoverUsageException("The context must not be null.");
+		if(elite == null || elite.getContents().isEmpty())
+			throw new CrossoverUsageException("The elite must not be null or empty.");
+		if(partners == null || partners.stream().anyMatch(Objects::isNull))
+			throw new CrossoverUsageException("The partners must not be null.");
+		if(problemPartSplitStrategy == null)
+			throw new CrossoverUsageException("The strategy must not be null.");
+
+		this.context = context;
+		this.elite = elite;
+		this.partners = List.copyOf(partners);
+		this.problemPartSplitStrategy = problemPartSplitStrategy;
+		this.searchSpaceElementSplitStrategy = searchSpaceElementSplitStrategy;
+		this.problemPartCache = problemPartCache;
+
+		// build and split the problem part of the elite, the cache extracts it only once for all crossovers of the population
+
+		if (problemPartCache == null) {
+
+			this.problemPart = new View(elite);
+
+			for (EClass eClass : context.getProblemPartEClasses()) {
+				problemPart.extend(eClass);
+			}
+
+			for (EReference eReference : context.getProblemPartEReferences()) {
+				problemPart.extend(eReference);
+			}
+
+		} else {
+			this.problemPart = problemPartCache.getProblemPart(elite, context.getProblemPartEClasses(), context.getProblemPartEReferences(), context.getProblemPartKey());
+		}
+
+		this.problemSplit = Crossover.splitProblemPart(problemPart, context.problemBorder, problemPartSplitStrategy, context.subMetaModelOfIntersection);
+
+		// split the elite according to the problem split
+
+		this.split = Crossover.splitSearchSpaceElement(problemPart, problemSplit, searchSpaceElementSplitStrategy, context.subMetaModelOfIntersection);
+
+		this.intersection = split.getFirst().copy();
+		this.intersection.intersect(split.getSecond());
+
+	}
+
+	/**
+	 * @return Returns the search space element crossed with all partners.
+	 */
+	public Resource getElite () {
+		return elite;
+	}
+
+	/**
+	 * @return Returns an unmodifiable {@link List list} of the partners of the elite.
+	 */
+	public List<Resource> getPartners () {
+		return partners;
+	}
+
+	/**
+	 * Creates the {@link Crossover} of the elite and the given search space element.
+	 * @param partner a search space element, it doesn't need to be one of the {@link EliteCrossover#getPartners() partners}
+	 * @return Returns the {@link Crossover} of the elite and the partner.
+	 * @throws CrossoverUsageException if the partner is null.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public Crossover crossWith (Resource partner) throws CrossoverUsageException, ViewSetOperationException {
+		return new Crossover(this, partner);
+	}
+
+	/**
+	 * @return Returns the {@link Crossover crossovers} of the elite with each of the {@link EliteCrossover#getPartners() partners}
+	 * in the order of the partners.
+	 * @throws CrossoverUsageException if the {@link Crossover} with a partner couldn't be created.
+	 * @throws ViewSetOperationException on a set operation of a view
+	 */
+	public List<Crossover> createCrossovers () throws CrossoverUsageException, ViewSetOperationException {
+
+		List<Crossover> crossovers = new ArrayList<>();
+
+		for (Resource partner : partners) {
+			crossovers.add(crossWith(partner));
+		}
+
+		return crossovers;
+
+	}
+
+}
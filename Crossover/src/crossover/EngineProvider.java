@@ -0,0 +1,63 @@
+package crossover;
+
+import org.eclipse.emf.henshin.interpreter.Engine;
+import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
+
+/**
+ * Provides one Henshin {@link Engine engine} for each thread, so that the expensive construction of an
+ * {@link EngineImpl} (including the setup of its script engine) is not repeated for every crossover {@link Pair pair}. </br>
+ * An {@link Engine engine} caches information about every {@link org.eclipse.emf.henshin.model.Rule rule} it has applied.
+ * As the {@link Crossover} creates new rules for every crossover {@link Pair pair}, the {@link Engine engine} of a thread
+ * is replaced after a fixed number of uses to bound the size of that cache.
+ *
+ * @author Benjamin Wagner
+ */
+class EngineProvider {
+
+	/**
+	 * The default number of uses of an {@link Engine engine} before it is replaced.
+	 */
+	static final int DEFAULT_MAX_USES = 64;
+
+	/**
+	 * The {@link Engine engine} of a thread together with the number of times it was provided.
+	 */
+	private static class ThreadEngine {
+
+		private final Engine engine = new EngineImpl();
+		private int uses = 0;
+
+	}
+
+	private final int maxUses;
+	private final ThreadLocal<ThreadEngine> threadEngines;
+
+	/**
+	 * Creates a new {@link EngineProvider}.
+	 * @param maxUses the number of times an {@link Engine engine} is provided before it is replaced, must be positive
+	 */
+	EngineProvider (int maxUses) {
+		if (maxUses < 1) throw new IllegalArgumentException("The maxUses must be positive.");
+		this.maxUses = maxUses;
+		this.threadEngines = ThreadLocal.withInitial(ThreadEngine::new);
+	}
+
+	/**
+	 * @return Returns the {@link Engine engine} of the current thread. It must not be shared with other threads.
+	 */
+	Engine getEngine () {
+
+		ThreadEngine threadEngine = threadEngines.get();
+
+		if (threadEngine.uses == maxUses) {
+			threadEngine.engine.shutdown();
+			threadEngine = new ThreadEngine();
+			threadEngines.set(threadEngine);
+		}
+
+		threadEngine.uses++;
+		return threadEngine.engine;
+
+	}
+
+}
@@ -1,31 +1,33 @@
 package crossover;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.henshin.interpreter.EGraph;
-import org.eclipse.emf.henshin.interpreter.Engine;
-import org.eclipse.emf.henshin.interpreter.Match;
-import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
 import org.eclipse.emf.henshin.model.Mapping;
 import org.eclipse.emf.henshin.model.Node;
-import org.eclipse.emf.henshin.model.Rule;
 import org.eclipse.emf.henshin.model.impl.MappingImpl;
-import org.eclipse.emf.henshin.model.impl.RuleImpl;
 
 import view.View;
-import view.ViewFactory;
+import view.ViewMatcher;
 
 /**
  * A utility class for working with {@link Set sets} of {@link Mapping mappings}.
  * @author Benjamin Wagner
  */
 public class MappingUtil {
+	
+	/**
+	 * The maximal number of matches found by the parallel workers that wait to be consumed.
+	 */
+	private static final int PARALLEL_MATCH_CAPACITY = 256;
 
 	/**
 	 * Apply the mapper function to all origin nodes of given mapping.
@@ -116,6 +118,7 @@ public class MappingUtil {
 	 * the part in the {@link View identityView} to itself. A <i>match</i> is a set of {@link Mapping mappings}
 	 * from the {@link View#getNodes() nodes} of the {@link View fromView} to those of the {@link View toView}.
 	 * The {@link View fromView} must contain less elements than the {@link View toView}.
+	 * The matches are enumerated lazily by the {@link ViewMatcher} with the identity part as a partial match.
 	 * 
 	 * @param fromView the {@link View view} over {@link Resource} <b><i>A</i></b> containing the domain of the mapping
 	 * @param toView  the {@link View}  over {@link Resource} <b><i>B</i></b> containing the codomain of the mapping
@@ -125,115 +128,136 @@ public class MappingUtil {
 	 * @throws IllegalArgumentException when the given parameters don't match the required conditions.
 	 */
 	public static Iterator<Set<Mapping>> getMappingSetIterator (View fromView, View toView, Map<EObject, EObject> identity) throws IllegalArgumentException {
+		return getMappingSetIterator(fromView, toView, identity, true);
+	}
+	
+	/**
+	 * Finds all possible matches from {@link View fromView} to the {@link View toView} that project
+	 * the part in the {@link View identityView} to itself. See {@link MappingUtil#getMappingSetIterator(View, View, Map)}.
+	 * 
+	 * @param fromView the {@link View view} over {@link Resource} <b><i>A</i></b> containing the domain of the mapping
+	 * @param toView  the {@link View}  over {@link Resource} <b><i>B</i></b> containing the codomain of the mapping
+	 * @param identity a {@link Map map} of {@link EObjects eObjects} from {@link Resource} <b><i>A</i></b> to {@link Resource} <b><i>B</i></b>,
+	 * it maps the {@link EObject eObjects} from the {@link View fromView} injective to those of the {@link View toView}
+	 * @param validateParameters whether the parameters should be checked, trusted callers that construct the
+	 * parameters themselves (e.g the {@link Crossover}) may pass {@code false} to skip all checks
+	 * @return Returns an {@link Iterator} of all possible {@link Mapping matches} satisfying the condition described above.
+	 * @throws IllegalArgumentException when the parameters are validated and don't match the required conditions.
+	 */
+	public static Iterator<Set<Mapping>> getMappingSetIterator (View fromView, View toView, Map<EObject, EObject> identity, boolean validateParameters) throws IllegalArgumentException {
+		return getMappingSetIterator(fromView, toView, identity, validateParameters, null);
+	}
+	
+	/**
+	 * Finds all possible matches from {@link View fromView} to the {@link View toView} that project
+	 * the part in the {@link View identityView} to itself. See {@link MappingUtil#getMappingSetIterator(View, View, Map)}.
+	 * If a {@link ForkJoinPool pool} is given, the matches are enumerated in parallel by the 
+	 * {@link ViewMatcher#getParallelMatchIterator(View, View, Map, ForkJoinPool, int) parallel matcher}.
+	 * 
+	 * @param fromView the {@link View view} over {@link Resource} <b><i>A</i></b> containing the domain of the mapping
+	 * @param toView  the {@link View}  over {@link Resource} <b><i>B</i></b> containing the codomain of the mapping
+	 * @param identity a {@link Map map} of {@link EObjects eObjects} from {@link Resource} <b><i>A</i></b> to {@link Resource} <b><i>B</i></b>,
+	 * it maps the {@link EObject eObjects} from the {@link View fromView} injective to those of the {@link View toView}
+	 * @param validateParameters whether the parameters should be checked, trusted callers that construct the
+	 * parameters themselves (e.g the {@link Crossover}) may pass {@code false} to skip all checks
+	 * @param pool the {@link ForkJoinPool pool} to enumerate the matches on or null to enumerate them sequentially
+	 * @return Returns an {@link Iterator} of all possible {@link Mapping matches} satisfying the condition described above.
+	 * The order of the matches is only reproducible if they are enumerated sequentially.
+	 * @throws IllegalArgumentException when the parameters are validated and don't match the required conditions.
+	 */
+	public static Iterator<Set<Mapping>> getMappingSetIterator (View fromView, View toView, Map<EObject, EObject> identity, boolean validateParameters, ForkJoinPool pool) throws IllegalArgumentException {
+		return getMappingSetIterator(fromView, toView, identity, validateParameters, pool, null);
+	}
+	
+	/**
+	 * Finds all possible matches like {@link MappingUtil#getMappingSetIterator(View, View, Map, boolean, ForkJoinPool)} but
+	 * ends the enumeration as soon as the given condition is true. The condition is checked before each candidate of the match
+	 * is tried, see {@link ViewMatcher#getMatchIterator(View, View, Map, BooleanSupplier)}. If the matches are enumerated in parallel,
+	 * it is checked by all workers, see {@link ViewMatcher#getParallelMatchIterator(View, View, Map, ForkJoinPool, int, BooleanSupplier)},
+	 * and it must therefore be thread-safe.
+	 * 
+	 * @param fromView the {@link View view} over {@link Resource} <b><i>A</i></b> containing the domain of the mapping
+	 * @param toView  the {@link View}  over {@link Resource} <b><i>B</i></b> containing the codomain of the mapping
+	 * @param identity a {@link Map map} of {@link EObjects eObjects} from {@link Resource} <b><i>A</i></b> to {@link Resource} <b><i>B</i></b>,
+	 * it maps the {@link EObject eObjects} from the {@link View fromView} injective to those of the {@link View toView}
+	 * @param validateParameters whether the parameters should be checked
+	 * @param pool the {@link ForkJoinPool pool} to enumerate the matches on or null to enumerate them sequentially
+	 * @param stop the condition to end the enumeration or null to enumerate all matches
+	 * @return Returns an {@link Iterator} of the {@link Mapping matches} found before the condition became true.
+	 * @throws IllegalArgumentException when the parameters are validated and don't match the required conditions.
+	 */
+	public static Iterator<Set<Mapping>> getMappingSetIterator (View fromView, View toView, Map<EObject, EObject> identity, boolean validateParameters, 
+			ForkJoinPool pool, BooleanSupplier stop) throws IllegalArgumentException {
 		
-		if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
-		if (toView == null)  throw new IllegalArgumentException("The toView must not be null.");
-		if (identity == null) throw new IllegalArgumentException("The identity map must not be null.");
-		if (fromView.getResource() == toView.getResource()) throw new IllegalArgumentException("The toView must be over a different resource than the fromView.");
-		if (fromView.getGraph().getNodes().size() > toView.getGraph().getNodes().size()) throw new IllegalArgumentException("The fromView must not contain more elements than the toView.");
+		if (validateParameters) {
+			
+			if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
+			if (toView == null)  throw new IllegalArgumentException("The toView must not be null.");
+			if (identity == null) throw new IllegalArgumentException("The identity map must not be null.");
+			if (fromView.getResource() == toView.getResource()) throw new IllegalArgumentException("The toView must be over a different resource than the fromView.");
+			if (fromView.getGraph().getNodes().size() > toView.getGraph().getNodes().size()) throw new IllegalArgumentException("The fromView must not contain more elements than the toView.");
+			
+			// the eResource() of an eObject is found by following its containers, so there is no need to collect the contents of both resources
+			for (Map.Entry<EObject, EObject> entry : identity.entrySet()) {
+				if (entry.getKey() == null || entry.getKey().eResource() != fromView.getResource() ||
+						entry.getValue() == null || entry.getValue().eResource() != toView.getResource()) 
+					throw new IllegalArgumentException("The identity map must map from the fromView to the toView.");
+			}
+			
+		}
+		
+		// the identity part is used as a partial match, so that only matches complying to it are enumerated
+		
+		Map<Node, Node> partialMatch = new HashMap<>();
+		boolean identityIsMappable = true;
+		
+		for (Node fromNode : fromView.getGraph().getNodes()) {
+			EObject fromEObject = fromView.getObject(fromNode);
+			if (identity.containsKey(fromEObject)) {
+				Node toNode = toView.getNode(identity.get(fromEObject));
+				if (toNode == null) {
+					identityIsMappable = false;
+					break;
+				}
+				partialMatch.put(fromNode, toNode);
+			}
+		}
+		
+		if (!identityIsMappable) return Collections.emptyIterator();
 		
-		Set<EObject> eObjectsFromResourceA = new HashSet<>();
-		Set<EObject> eObjectsFromResourceB = new HashSet<>();
-		fromView.getResource().getAllContents().forEachRemaining(eObjectsFromResourceA::add);
-		toView.getResource().getAllContents().forEachRemaining(eObjectsFromResourceB::add);
-		if (!eObjectsFromResourceA.containsAll(identity.keySet()) || !eObjectsFromResourceB.containsAll(identity.values())) throw new IllegalArgumentException("The identity map must map from the fromView to the toView.");
+		Iterator<Map<Node, Node>> matchIterator;
+		
+		if (pool != null) {
+			matchIterator = ViewMatcher.getParallelMatchIterator(fromView, toView, partialMatch, pool, PARALLEL_MATCH_CAPACITY, (stop != null) ? stop : () -> false);
+		} else if (stop != null) {
+			matchIterator = ViewMatcher.getMatchIterator(fromView, toView, partialMatch, stop);
+		} else {
+			matchIterator = ViewMatcher.getMatchIterator(fromView, toView, partialMatch);
+		}
 		
 		return new Iterator<Set<Mapping>>() {
 			
-			boolean computedNextSet = false;
-			Set<Mapping> nextSet = null;
-			Iterator<Match> matchIterator = null;
-			Map<EObject, EObject> inverseMap = null;
-
 			@Override
 			public boolean hasNext() {
-
-				if(!computedNextSet) {
-					computeNextSet();
-					computedNextSet = true;
-				}
-				
-				return (nextSet != null);
-				
+				return matchIterator.hasNext();
 			}
-
+			
 			@Override
 			public Set<Mapping> next() {
 				
-				if (hasNext()) {
-					computedNextSet = false;
-				}
-				
-				return nextSet;
-				
-			}
-			
-			private void computeNextSet() {
-				
-				if (matchIterator == null) {
-					
-					Rule rule = new RuleImpl();
-					rule.setLhs(fromView.getGraph());
-					rule.setCheckDangling(false);
-					rule.setInjectiveMatching(true);
-					
-					Pair<EGraph, Map<EObject, EObject>> pair = ViewFactory.createEGraphFromView(toView);
-					EGraph eGraph = pair.getFirst();
-					Map<EObject, EObject> map = pair.getSecond();
-					inverseMap = new HashMap<>();
-					map.forEach((originalEObject, copiedEObject) -> inverseMap.put(copiedEObject, originalEObject));
-					
-					Engine engine = new EngineImpl();
-					
-					matchIterator = engine.findMatches(rule, eGraph, null).iterator();
-					
-				}
-				
-				if (!matchIterator.hasNext()) {
-					nextSet = null;
-					return;
-				}
+				Map<Node, Node> match = matchIterator.next();
+				if (match == null) return null;
 				
-				boolean foundSetOfMappings = false;
+				Set<Mapping> mappings = new HashSet<Mapping>();
 				
-				while (!foundSetOfMappings) {
-					
-					Match match = matchIterator.next();
-					
-					Set<Mapping> mappings = new HashSet<Mapping>();
-					
-					for (Node fromNode : fromView.getGraph().getNodes()) {
-						Mapping mapping = new MappingImpl();
-						mapping.setOrigin(fromNode);
-						mapping.setImage(toView.getNode(inverseMap.get(match.getNodeTarget(fromNode))));
-						mappings.add(mapping);
-					}
-					
-					if (matchCompliesToIdentity(mappings)) {
-						foundSetOfMappings = true;
-						nextSet = mappings;
-					} else {
-						if (!matchIterator.hasNext()) {
-							nextSet = null;
-							return;
-						}
-					}
-					
-				}
-				
-				
-				
-			}
-			
-			private boolean matchCompliesToIdentity (Set<Mapping> mappings) {
-				
-				for (Mapping mapping : mappings) {
-					EObject fromEObject = fromView.getObject(mapping.getOrigin());
-					EObject toEObject = toView.getObject(mapping.getImage());
-					if (identity.containsKey(fromEObject) && identity.get(fromEObject) != toEObject) return false;
-				}
+				match.forEach((fromNode, toNode) -> {
+					Mapping mapping = new MappingImpl();
+					mapping.setOrigin(fromNode);
+					mapping.setImage(toNode);
+					mappings.add(mapping);
+				});
 				
-				return true;
+				return mappings;
 				
 			}
 			
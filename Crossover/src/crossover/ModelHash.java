@@ -0,0 +1,338 @@
+package crossover;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.henshin.model.Node;
+
+import view.View;
+import view.ViewMatcher;
+
+/**
+ * Computes a canonical structural hash of the model contained in a {@link Resource resource}. </br>
+ * The model is treated as a graph whose nodes are labelled by their {@link EClass eClass} and attribute values and whose
+ * edges are labelled by their {@link EReference eReference}. The labels are refined by a fixed number of Weisfeiler-Lehman
+ * iterations, each combining the label of a node with the sorted labels of its neighbours. The hash does not depend on the
+ * order of the {@link EObject eObjects} or on their identity, so isomorphic models have equal hashes. The converse doesn't hold:
+ * the refinement doesn't distinguish all non-isomorphic graphs (e.g. regular graphs with the same labels) and the labels are
+ * 64-bit hashes, so models with equal hashes are not necessarily isomorphic. Equal hashes can be confirmed by
+ * {@link ModelHash#isIsomorphic(Resource, Resource)}.
+ *
+ * @author Benjamin Wagner
+ */
+public class ModelHash {
+
+	/**
+	 * The default number of Weisfeiler-Lehman iterations.
+	 */
+	public static final int DEFAULT_ITERATIONS = 3;
+
+	private static final long OUTGOING = 0x4f1bbcdcbfa53e0bL;
+	private static final long INCOMING = 0x2545f4914f6cdd1dL;
+	private static final long EXTERNAL = 0x61c8864680b583ebL;
+
+	private ModelHash () {}
+
+	/**
+	 * Computes the hash of the model with the {@link ModelHash#DEFAULT_ITERATIONS default number of iterations}.
+	 * @param resource the {@link Resource resource} containing the model
+	 * @return Returns the canonical structural hash of the model.
+	 */
+	public static long hash (Resource resource) {
+		return hash(resource, DEFAULT_ITERATIONS);
+	}
+
+	/**
+	 * Computes the hash of the model.
+	 * @param resource the {@link Resource resource} containing the model
+	 * @param iterations the number of Weisfeiler-Lehman iterations, must not be negative
+	 * @return Returns the canonical structural hash of the model.
+	 */
+	public static long hash (Resource resource, int iterations) {
+
+		if (resource == null) throw new IllegalArgumentException("The resource must not be null.");
+		if (iterations < 0) throw new IllegalArgumentException("The iterations must not be negative.");
+
+		LabelledModel model = new LabelledModel(resource, iterations);
+		return combine(mix(model.eObjects.size() + 31L * model.numberOfEdges), model.labels.clone());
+
+	}
+
+	/**
+	 * Checks whether the models contained in the {@link Resource resources} are isomorphic, i.e. whether there is a bijection
+	 * between their {@link EObject eObjects} that preserves the {@link EClass eClasses}, the attribute values, the links between
+	 * them and the links to {@link EObject eObjects} outside of the {@link Resource resources}. </br>
+	 * An isomorphism preserves the refined labels of the hash, so the models are rejected if their multisets of labels differ and
+	 * the {@link ViewMatcher} only tries to map an {@link EObject eObject} to {@link EObject eObjects} of the same refined label,
+	 * {@link EClass eClass}, attribute values and external links. The search is still more expensive than the hash, so it should
+	 * only be used to confirm equal hashes.
+	 * @param resourceOne the {@link Resource resource} containing the first model
+	 * @param resourceTwo the {@link Resource resource} containing the second model
+	 * @return Returns true if the models are isomorphic.
+	 */
+	public static boolean isIsomorphic (Resource resourceOne, Resource resourceTwo) {
+
+		if (resourceOne == null || resourceTwo == null) throw new IllegalArgumentException("The resources must not be null.");
+
+		LabelledModel modelOne = new LabelledModel(resourceOne, DEFAULT_ITERATIONS);
+		LabelledModel modelTwo = new LabelledModel(resourceTwo, DEFAULT_ITERATIONS);
+
+		if (modelOne.eObjects.size() != modelTwo.eObjects.size() || modelOne.numberOfEdges != modelTwo.numberOfEdges) return false;
+		long[] sortedLabelsOne = modelOne.labels.clone();
+		long[] sortedLabelsTwo = modelTwo.labels.clone();
+		Arrays.sort(sortedLabelsOne);
+		Arrays.sort(sortedLabelsTwo);
+		if (!Arrays.equals(sortedLabelsOne, sortedLabelsTwo)) return false;
+
+		View viewOne = new View(resourceOne);
+		viewOne.extendByAllNodes();
+		viewOne.extendByMissingEdges();
+
+		View viewTwo = new View(resourceTwo);
+		viewTwo.extendByAllNodes();
+		viewTwo.extendByMissingEdges();
+
+		// an injective map preserving the edges between graphs of the same size is an isomorphism
+
+		if (viewOne.getGraph().getNodes().size() != viewTwo.getGraph().getNodes().size()) return false;
+		if (viewOne.getGraph().getEdges().size() != viewTwo.getGraph().getEdges().size()) return false;
+
+		BiPredicate<Node, Node> haveEqualLabels = (nodeOne, nodeTwo) -> {
+			EObject eObjectOne = viewOne.getObject(nodeOne);
+			EObject eObjectTwo = viewTwo.getObject(nodeTwo);
+			return modelOne.getLabel(eObjectOne) == modelTwo.getLabel(eObjectTwo) && haveEqualLabels(eObjectOne, eObjectTwo);
+		};
+
+		return ViewMatcher.getMatchIterator(viewOne, viewTwo, haveEqualLabels).hasNext();
+
+	}
+
+	/**
+	 * @param eObjectOne an {@link EObject eObject} of the first model
+	 * @param eObjectTwo an {@link EObject eObject} of the second model
+	 * @return Returns true if the {@link EObject eObjects} have the same {@link EClass eClass}, the same attribute values and
+	 * the same links to {@link EObject eObjects} outside of their models.
+	 */
+	private static boolean haveEqualLabels (EObject eObjectOne, EObject eObjectTwo) {
+
+		EClass eClass = eObjectOne.eClass();
+		if (eClass != eObjectTwo.eClass()) return false;
+
+		for (EAttribute eAttribute : eClass.getEAllAttributes()) {
+			if (eAttribute.isDerived()) continue;
+			if (eObjectOne.eIsSet(eAttribute) != eObjectTwo.eIsSet(eAttribute)) return false;
+			if (!Objects.equals(eObjectOne.eGet(eAttribute), eObjectTwo.eGet(eAttribute))) return false;
+		}
+
+		for (EReference eReference : eClass.getEAllReferences()) {
+			if (eReference.isDerived()) continue;
+			List<EObject> externalEObjectsOne = getExternalEObjects(eObjectOne, eReference);
+			List<EObject> externalEObjectsTwo = getExternalEObjects(eObjectTwo, eReference);
+			if (externalEObjectsOne.size() != externalEObjectsTwo.size() || !externalEObjectsOne.containsAll(externalEObjectsTwo)) return false;
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * @param eObject an {@link EObject eObject}
+	 * @param eReference an {@link EReference eReference} of the {@link EObject#eClass() eClass} of the {@link EObject eObject}
+	 * @return Returns the {@link EObject eObjects} referenced by the {@link EObject eObject} that are not contained in its {@link Resource resource}.
+	 */
+	private static List<EObject> getExternalEObjects (EObject eObject, EReference eReference) {
+		List<EObject> externalEObjects = new ArrayList<>();
+		for (EObject referencedEObject : getReferencedEObjects(eObject, eReference)) {
+			if (referencedEObject.eResource() != eObject.eResource()) externalEObjects.add(referencedEObject);
+		}
+		return externalEObjects;
+	}
+
+	/**
+	 * @param eObject an {@link EObject eObject}
+	 * @return Returns the initial label of the {@link EObject eObject} consisting of its {@link EClass eClass} and attribute values.
+	 */
+	private static long label (EObject eObject) {
+
+		EClass eClass = eObject.eClass();
+		long label = hash(eClass.getEPackage() == null ? eClass.getName() : eClass.getEPackage().getNsURI() + "#" + eClass.getName());
+
+		for (EAttribute eAttribute : eClass.getEAllAttributes()) {
+			if (eAttribute.isDerived() || !eObject.eIsSet(eAttribute)) continue;
+			label = mix(label + 31 * hash(eAttribute.getName() + "=" + String.valueOf(eObject.eGet(eAttribute))));
+		}
+
+		return label;
+
+	}
+
+	/**
+	 * @param label a label
+	 * @param labels a multiset of labels
+	 * @return Returns a hash of the label and the multiset of labels, independent of the order of the multiset.
+	 */
+	private static long combine (long label, long[] labels) {
+		Arrays.sort(labels);
+		long hash = mix(label);
+		for (long l : labels) {
+			hash = mix(hash * 31 + l);
+		}
+		return hash;
+	}
+
+	/**
+	 * @param string a {@link String string}
+	 * @return Returns a 64-bit hash of the string.
+	 */
+	private static long hash (String string) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < string.length(); i++) {
+			hash ^= string.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return mix(hash);
+	}
+
+	/**
+	 * The finalizer of the SplitMix64 generator.
+	 * @param value a value
+	 * @return Returns the mixed value.
+	 */
+	private static long mix (long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	/**
+	 * @param eObject an {@link EObject eObject}
+	 * @param eReference an {@link EReference eReference} of the {@link EObject#eClass() eClass} of the {@link EObject eObject}
+	 * @return Returns the {@link EObject eObjects} referenced by the {@link EObject eObject}.
+	 */
+	private static Collection<EObject> getReferencedEObjects (EObject eObject, EReference eReference) {
+		Object object = eObject.eGet(eReference);
+		if (object instanceof EObject) return List.of((EObject) object);
+		if (object == null) return List.of();
+		@SuppressWarnings("unchecked") // see EObject#eGet(EStructuralFeature)
+		Collection<EObject> eObjects = (Collection<EObject>) object;
+		return eObjects;
+	}
+
+	/**
+	 * The {@link EObject eObjects} of a model with their labels refined by the Weisfeiler-Lehman iterations.
+	 */
+	private static class LabelledModel {
+
+		/**
+		 * The {@link EObject eObjects} of the model in the order of {@link Resource#getAllContents()}.
+		 */
+		final List<EObject> eObjects = new ArrayList<>();
+
+		/**
+		 * The index of each {@link EObject eObject} in {@link LabelledModel#eObjects}.
+		 */
+		final Map<EObject, Integer> indices = new HashMap<>();
+
+		/**
+		 * The refined label of each {@link EObject eObject} by its index.
+		 */
+		final long[] labels;
+
+		/**
+		 * The number of links of the model, including the links to {@link EObject eObjects} outside of the {@link Resource resource}.
+		 */
+		final int numberOfEdges;
+
+		/**
+		 * Collects the {@link EObject eObjects} of the model and refines their labels.
+		 * @param resource the {@link Resource resource} containing the model
+		 * @param iterations the number of Weisfeiler-Lehman iterations
+		 */
+		LabelledModel (Resource resource, int iterations) {
+
+			TreeIterator<EObject> treeIterator = resource.getAllContents();
+			while (treeIterator.hasNext()) {
+				EObject eObject = treeIterator.next();
+				indices.put(eObject, eObjects.size());
+				eObjects.add(eObject);
+			}
+
+			int size = eObjects.size();
+			long[] labels = new long[size];
+
+			// the neighbourhood of each node as pairs of an edge label and the index of the neighbour, -1 for eObjects outside of the resource
+
+			List<List<long[]>> neighbourhoods = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) neighbourhoods.add(new ArrayList<>());
+
+			int numberOfEdges = 0;
+
+			for (int i = 0; i < size; i++) {
+
+				EObject eObject = eObjects.get(i);
+				labels[i] = label(eObject);
+
+				for (EReference eReference : eObject.eClass().getEAllReferences()) {
+					if (eReference.isDerived()) continue;
+					long edgeLabel = hash(eReference.getEContainingClass().getName() + "." + eReference.getName());
+					for (EObject referencedEObject : getReferencedEObjects(eObject, eReference)) {
+						Integer index = indices.get(referencedEObject);
+						if (index == null) {
+							neighbourhoods.get(i).add(new long[] {mix(edgeLabel ^ OUTGOING), -1, label(referencedEObject) ^ EXTERNAL});
+						} else {
+							neighbourhoods.get(i).add(new long[] {mix(edgeLabel ^ OUTGOING), index});
+							neighbourhoods.get(index).add(new long[] {mix(edgeLabel ^ INCOMING), i});
+						}
+						numberOfEdges++;
+					}
+				}
+
+			}
+
+			for (int iteration = 0; iteration < iterations; iteration++) {
+
+				long[] newLabels = new long[size];
+
+				for (int i = 0; i < size; i++) {
+					List<long[]> neighbourhood = neighbourhoods.get(i);
+					long[] neighbourLabels = new long[neighbourhood.size()];
+					for (int j = 0; j < neighbourLabels.length; j++) {
+						long[] neighbour = neighbourhood.get(j);
+						long neighbourLabel = neighbour[1] < 0 ? neighbour[2] : labels[(int) neighbour[1]];
+						neighbourLabels[j] = mix(neighbour[0] + 31 * neighbourLabel);
+					}
+					newLabels[i] = combine(labels[i], neighbourLabels);
+				}
+
+				labels = newLabels;
+
+			}
+
+			this.labels = labels;
+			this.numberOfEdges = numberOfEdges;
+
+		}
+
+		/**
+		 * @param eObject an {@link EObject eObject} of the model
+		 * @return Returns the refined label of the {@link EObject eObject}.
+		 */
+		long getLabel (EObject eObject) {
+			return labels[indices.get(eObject)];
+		}
+
+	}
+
+}
@@ -0,0 +1,292 @@
+package crossover;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.emf.henshin.model.Edge;
+
+import view.View;
+
+/**
+ * The difference between an offspring of a {@link Crossover} and the parent it is based on. </br>
+ * An offspring consists of one split element of its parent and the split element of the other parent (the donor) glued together
+ * along a {@link CustomSpan span}. The delta therefore consists of the {@link EObject eObjects} and links of the parent outside of
+ * its split element, that are removed, and the {@link EObject eObjects} and links of the donor's split element outside of the
+ * {@link CustomSpan span}, that are added. The removed part only depends on the split of the parent and is shared by all deltas
+ * of the same {@link Crossover}. {@link OffspringDelta#apply()} creates the offspring on demand, it is equal to the one
+ * created by the {@link Crossover#iterator() iterator} of the {@link Crossover}.
+ *
+ * @author Benjamin Wagner
+ */
+public class OffspringDelta {
+
+	/**
+	 * A link from a source {@link EObject eObject} to a target {@link EObject eObject} by an {@link EReference eReference}.
+	 */
+	public static final class Link {
+
+		private final EObject source;
+		private final EObject target;
+		private final EReference eReference;
+
+		private Link (EObject source, EObject target, EReference eReference) {
+			this.source = source;
+			this.target = target;
+			this.eReference = eReference;
+		}
+
+		public EObject getSource () {
+			return source;
+		}
+
+		public EObject getTarget () {
+			return target;
+		}
+
+		public EReference getEReference () {
+			return eReference;
+		}
+
+		@Override
+		public String toString () {
+			return "Link [source=" + source.eClass().getName() + ", target=" + target.eClass().getName() + ", eReference=" + eReference.getName() + "]";
+		}
+
+	}
+
+	/**
+	 * The part of a parent outside of one of its split elements.
+	 */
+	static final class RemovedPart {
+
+		private final Resource parent;
+		private final Set<EObject> removedObjects;
+		private final List<Link> removedLinks;
+
+		/**
+		 * Computes the part of the {@link View#getResource() parent} outside of the given split element.
+		 * @param splitElement a split element of a parent, it must not contain dangling edges
+		 */
+		RemovedPart (View splitElement) {
+
+			this.parent = splitElement.getResource();
+
+			Set<EObject> keptObjects = new HashSet<>(splitElement.getContainedEObjects());
+
+			// a link is kept if its edge or the edge of its opposite is contained in the split element in any direction
+
+			Set<List<Object>> keptLinks = new HashSet<>();
+
+			for (Edge edge : splitElement.getGraph().getEdges()) {
+				EObject sourceEObject = splitElement.getObject(edge.getSource());
+				EObject targetEObject = splitElement.getObject(edge.getTarget());
+				for (EReference eReference : new EReference[] {edge.getType(), edge.getType().getEOpposite()}) {
+					if (eReference == null) continue;
+					keptLinks.add(List.of(sourceEObject, targetEObject, eReference));
+					keptLinks.add(List.of(targetEObject, sourceEObject, eReference));
+				}
+			}
+
+			Set<EObject> removedObjects = new LinkedHashSet<>();
+			List<Link> removedLinks = new ArrayList<>();
+
+			TreeIterator<EObject> treeIterator = parent.getAllContents();
+
+			while (treeIterator.hasNext()) {
+
+				EObject eObject = treeIterator.next();
+				if (!keptObjects.contains(eObject)) removedObjects.add(eObject);
+
+				for (EReference eReference : eObject.eClass().getEAllReferences()) {
+					if (eReference.isDerived()) continue;
+					for (EObject referencedEObject : getReferencedEObjects(eObject, eReference)) {
+						boolean sourceIsKept = keptObjects.contains(eObject);
+						boolean targetIsKept = keptObjects.contains(referencedEObject);
+						// links between removed eObjects vanish with the eObjects
+						if (!sourceIsKept && !targetIsKept) continue;
+						if (sourceIsKept && targetIsKept && keptLinks.contains(List.of(eObject, referencedEObject, eReference))) continue;
+						removedLinks.add(new Link(eObject, referencedEObject, eReference));
+					}
+				}
+
+			}
+
+			this.removedObjects = Collections.unmodifiableSet(removedObjects);
+			this.removedLinks = Collections.unmodifiableList(removedLinks);
+
+		}
+
+	}
+
+	private final RemovedPart removedPart;
+	private final List<EObject> addedObjects;
+	private final List<Link> addedLinks;
+
+	/**
+	 * Creates the delta of an offspring.
+	 * @param removedPart the part of the parent outside of its split element
+	 * @param donorSplitElement the split element of the donor
+	 * @param span the {@link CustomSpan span} the split elements are glued along, its {@link CustomSpan#getIntersection() intersection}
+	 * is a {@link View view} over the donor
+	 * @param donorToParent a {@link Map map} from the {@link EObject eObjects} of the {@link CustomSpan span} to the
+	 * {@link EObject eObjects} of the parent's split element they are glued to
+	 */
+	OffspringDelta (RemovedPart removedPart, View donorSplitElement, CustomSpan span, Map<EObject, EObject> donorToParent) {
+
+		this.removedPart = removedPart;
+
+		// links of the span are preserved
+
+		Set<List<Object>> preservedLinks = new HashSet<>();
+
+		for (Edge edge : span.getIntersection().getGraph().getEdges()) {
+			EObject sourceEObject = span.getIntersection().getObject(edge.getSource());
+			EObject targetEObject = span.getIntersection().getObject(edge.getTarget());
+			preservedLinks.add(List.of(sourceEObject, targetEObject, edge.getType()));
+		}
+
+		List<EObject> addedObjects = new ArrayList<>();
+		donorSplitElement.getGraph().getNodes().forEach(node -> {
+			EObject eObject = donorSplitElement.getObject(node);
+			if (!donorToParent.containsKey(eObject)) addedObjects.add(eObject);
+		});
+
+		List<Link> addedLinks = new ArrayList<>();
+
+		for (Edge edge : donorSplitElement.getGraph().getEdges()) {
+			EObject sourceEObject = donorSplitElement.getObject(edge.getSource());
+			EObject targetEObject = donorSplitElement.getObject(edge.getTarget());
+			if (preservedLinks.contains(List.of(sourceEObject, targetEObject, edge.getType()))) continue;
+			addedLinks.add(new Link(donorToParent.getOrDefault(sourceEObject, sourceEObject), donorToParent.getOrDefault(targetEObject, targetEObject), edge.getType()));
+		}
+
+		this.addedObjects = Collections.unmodifiableList(addedObjects);
+		this.addedLinks = Collections.unmodifiableList(addedLinks);
+
+	}
+
+	/**
+	 * @return Returns the {@link Resource resource} of the parent the offspring is based on.
+	 */
+	public Resource getParent () {
+		return removedPart.parent;
+	}
+
+	/**
+	 * @return Returns the {@link EObject eObjects} of the parent that are not part of the offspring.
+	 */
+	public Set<EObject> getRemovedObjects () {
+		return removedPart.removedObjects;
+	}
+
+	/**
+	 * @return Returns the links of the parent that are not part of the offspring, except for the links between
+	 * {@link OffspringDelta#getRemovedObjects() removed eObjects}.
+	 */
+	public List<Link> getRemovedLinks () {
+		return removedPart.removedLinks;
+	}
+
+	/**
+	 * @return Returns the {@link EObject eObjects} of the donor that are added to the offspring.
+	 */
+	public List<EObject> getAddedObjects () {
+		return addedObjects;
+	}
+
+	/**
+	 * @return Returns the links added to the offspring, their {@link EObject eObjects} are either {@link EObject eObjects} of the parent or
+	 * {@link OffspringDelta#getAddedObjects() added eObjects} of the donor.
+	 */
+	public List<Link> getAddedLinks () {
+		return addedLinks;
+	}
+
+	/**
+	 * Creates the offspring by applying the delta to a copy of the parent. Like the application of a rule, the added
+	 * {@link EObject eObjects} are new instances of the {@link EObject#eClass() eClasses} of the donor's {@link EObject eObjects}.
+	 * @return Returns a new {@link Resource resource} containing the offspring.
+	 */
+	public Resource apply () {
+
+		Copier copier = new Copier(true, false);
+		copier.copyAll(removedPart.parent.getContents());
+		copier.copyReferences();
+
+		for (Link link : removedPart.removedLinks) {
+			EObject source = copier.get(link.source);
+			EObject target = copier.get(link.target);
+			if (source == null) continue;
+			if (link.eReference.isMany()) {
+				((Collection<?>) source.eGet(link.eReference)).remove(target);
+			} else if (source.eGet(link.eReference) == target) {
+				source.eUnset(link.eReference);
+			}
+		}
+
+		Map<EObject, EObject> createdEObjects = new HashMap<>();
+		addedObjects.forEach(eObject -> createdEObjects.put(eObject, EcoreUtil.create(eObject.eClass())));
+
+		for (Link link : addedLinks) {
+			EObject source = createdEObjects.containsKey(link.source) ? createdEObjects.get(link.source) : copier.get(link.source);
+			EObject target = createdEObjects.containsKey(link.target) ? createdEObjects.get(link.target) : copier.get(link.target);
+			if (link.eReference.isMany()) {
+				@SuppressWarnings("unchecked") // see EObject#eGet(EStructuralFeature)
+				Collection<EObject> referencedEObjects = (Collection<EObject>) source.eGet(link.eReference);
+				if (!referencedEObjects.contains(target)) referencedEObjects.add(target);
+			} else {
+				source.eSet(link.eReference, target);
+			}
+		}
+
+		// all kept and added eObjects without a container are the roots of the offspring
+
+		List<EObject> roots = new ArrayList<>();
+
+		TreeIterator<EObject> treeIterator = removedPart.parent.getAllContents();
+		while (treeIterator.hasNext()) {
+			EObject eObject = treeIterator.next();
+			if (!removedPart.removedObjects.contains(eObject) && copier.get(eObject).eContainer() == null) roots.add(copier.get(eObject));
+		}
+
+		addedObjects.forEach(eObject -> {
+			EObject createdEObject = createdEObjects.get(eObject);
+			if (createdEObject.eContainer() == null) roots.add(createdEObject);
+		});
+
+		Resource resource = new ResourceImpl();
+		resource.getContents().addAll(roots);
+
+		return resource;
+
+	}
+
+	/**
+	 * @param eObject an {@link EObject eObject}
+	 * @param eReference an {@link EReference eReference} of the {@link EObject#eClass() eClass} of the {@link EObject eObject}
+	 * @return Returns the {@link EObject eObjects} referenced by the {@link EObject eObject}.
+	 */
+	private static Collection<EObject> getReferencedEObjects (EObject eObject, EReference eReference) {
+		Object object = eObject.eGet(eReference);
+		if (object instanceof EObject) return List.of((EObject) object);
+		if (object == null) return Collections.emptyList();
+		@SuppressWarnings("unchecked") // see EObject#eGet(EStructuralFeature)
+		Collection<EObject> eObjects = (Collection<EObject>) object;
+		return eObjects;
+	}
+
+}
@@ -0,0 +1,295 @@
+package crossover;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Writes crossover {@link Pair pairs} to a directory on separate threads. </br>
+ * It can be used as the {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} of a {@link SimpleCrossover}. The
+ * offsprings are written to the same files as by the default function, i.e. {@code <name>No<number>First.xmi} and
+ * {@code <name>No<number>Second.xmi} or with the extension of another {@link OutputFormat output format}. {@link OffspringWriter#accept(Pair, Pair) Accepting} a crossover {@link Pair pair} only
+ * adds it to a bounded queue, so that the crossover isn't stalled by the serialization unless the queue is full. Each
+ * offspring is serialized into its own {@link Resource resource} outside of any resource set, which is unloaded afterwards.
+ * The syncs of the written files to the disk are deferred: a writing thread closes each file after writing it and syncs the
+ * files of a batch together once the batch is full or the queue is empty. Each file is still synced by itself, the batching
+ * only keeps the syncs out of the writing of the following files, afterwards the directory is synced once per batch so that
+ * the entries of the new files are persisted as well. </br>
+ * The {@link EObject eObjects} of an accepted crossover {@link Pair pair} are moved into the written {@link Resource resources},
+ * the crossover {@link Pair pair} must therefore not be used afterwards. The {@link OffspringWriter writer} must be
+ * {@link OffspringWriter#close() closed} to wait for all files to be written.
+ *
+ * @author Benjamin Wagner
+ */
+public class OffspringWriter implements BiConsumer<Pair<Resource, Resource>, Pair<String, Integer>>, AutoCloseable {
+
+	/**
+	 * An offspring to write to a file.
+	 */
+	private static class WriteTask {
+
+		private final List<EObject> contents;
+		private final File file;
+
+		private WriteTask (List<EObject> contents, File file) {
+			this.contents = contents;
+			this.file = file;
+		}
+
+	}
+
+	/**
+	 * Signals a writing thread to stop.
+	 */
+	private static final WriteTask END = new WriteTask(List.of(), null);
+
+	/**
+	 * The time in milliseconds {@link OffspringWriter#close()} waits for space in the queue before it checks whether any writing thread is left.
+	 */
+	private static final long END_TIMEOUT = 100;
+
+	private final File outputDirectory;
+	private final OutputFormat outputFormat;
+	private final int fsyncBatchSize;
+	private final int numberOfThreads;
+	private final BlockingQueue<WriteTask> queue;
+	private final ExecutorService executor;
+
+	/**
+	 * The first exception thrown while writing a file or null.
+	 */
+	private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+	/**
+	 * The number of writing threads that haven't ended yet.
+	 */
+	private final AtomicInteger runningThreads;
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Creates a new {@link OffspringWriter} writing {@link OutputFormat#XMI XMI} files and starts its writing threads.
+	 * @param outputDirectory the directory to write the offsprings to
+	 * @param queueCapacity the maximum number of offsprings waiting to be written, {@link OffspringWriter#accept(Pair, Pair)} blocks
+	 * while the queue is full, must be positive
+	 * @param numberOfThreads the number of threads writing the offsprings, must be positive
+	 * @param fsyncBatchSize the maximum number of files a thread writes before syncing them to the disk one by one, they are also
+	 * synced as soon as the queue is empty, must be positive
+	 * @throws IllegalArgumentException if the outputDirectory is not a directory or one of the numbers is not positive.
+	 */
+	public OffspringWriter (File outputDirectory, int queueCapacity, int numberOfThreads, int fsyncBatchSize) {
+		this(outputDirectory, OutputFormat.XMI, queueCapacity, numberOfThreads, fsyncBatchSize);
+	}
+
+	/**
+	 * Creates a new {@link OffspringWriter} and starts its writing threads.
+	 * @param outputDirectory the directory to write the offsprings to
+	 * @param outputFormat the {@link OutputFormat format} of the written files
+	 * @param queueCapacity the maximum number of offsprings waiting to be written, {@link OffspringWriter#accept(Pair, Pair)} blocks
+	 * while the queue is full, must be positive
+	 * @param numberOfThreads the number of threads writing the offsprings, must be positive
+	 * @param fsyncBatchSize the maximum number of files a thread writes before syncing them to the disk one by one, they are also
+	 * synced as soon as the queue is empty, must be positive
+	 * @throws IllegalArgumentException if the outputDirectory is not a directory, the outputFormat is null or one of the numbers is not positive.
+	 */
+	public OffspringWriter (File outputDirectory, OutputFormat outputFormat, int queueCapacity, int numberOfThreads, int fsyncBatchSize) {
+
+		if (outputDirectory == null || !outputDirectory.isDirectory()) throw new IllegalArgumentException("The outputDirectory does not exist or is not a directory.");
+		if (outputFormat == null) throw new IllegalArgumentException("The outputFormat must not be null.");
+		if (queueCapacity < 1) throw new IllegalArgumentException("The queueCapacity must be positive.");
+		if (numberOfThreads < 1) throw new IllegalArgumentException("The numberOfThreads must be positive.");
+		if (fsyncBatchSize < 1) throw new IllegalArgumentException("The fsyncBatchSize must be positive.");
+
+		this.outputDirectory = outputDirectory;
+		this.outputFormat = outputFormat;
+		this.fsyncBatchSize = fsyncBatchSize;
+		this.numberOfThreads = numberOfThreads;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.executor = Executors.newFixedThreadPool(numberOfThreads);
+		this.runningThreads = new AtomicInteger(numberOfThreads);
+
+		for (int i = 0; i < numberOfThreads; i++) {
+			executor.execute(this::write);
+		}
+
+	}
+
+	/**
+	 * Adds both offsprings of the given crossover {@link Pair pair} to the queue, waiting while it is full.
+	 * @param crossoverPair the crossover {@link Pair pair}, its {@link EObject eObjects} are moved into the written {@link Resource resources}
+	 * @param identifierPair the name of the crossover and the number of the crossover {@link Pair pair}
+	 * @throws IllegalStateException if the {@link OffspringWriter writer} is closed or the calling thread was interrupted while waiting.
+	 * @throws UncheckedIOException if a previous offspring couldn't be written.
+	 */
+	@Override
+	public void accept (Pair<Resource, Resource> crossoverPair, Pair<String, Integer> identifierPair) {
+
+		if (closed) throw new IllegalStateException("The writer is closed.");
+
+		IOException previousFailure = failure.get();
+		if (previousFailure != null) throw new UncheckedIOException(previousFailure);
+
+		String name = identifierPair.getFirst() + "No" + identifierPair.getSecond();
+		String extension = "." + outputFormat.getFileExtension();
+
+		// the lists of contents are copied as they are changed when the eObjects are moved into the written resources
+		WriteTask first = new WriteTask(new ArrayList<>(crossoverPair.getFirst().getContents()), new File(outputDirectory, name + "First" + extension));
+		WriteTask second = new WriteTask(new ArrayList<>(crossoverPair.getSecond().getContents()), new File(outputDirectory, name + "Second" + extension));
+
+		try {
+			queue.put(first);
+			queue.put(second);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("The thread was interrupted while waiting for the writer.", e);
+		}
+
+	}
+
+	/**
+	 * Waits until all accepted offsprings are written and synced and stops the writing threads. If all writing threads
+	 * have ended before the queue is empty, the remaining offsprings are not written.
+	 * @throws IOException if an offspring couldn't be written, it is the first exception thrown while writing.
+	 * @throws InterruptedIOException if the calling thread was interrupted while waiting, its interrupt status is set and the
+	 * writing threads are stopped.
+	 */
+	@Override
+	public void close () throws IOException {
+
+		if (closed) return;
+		closed = true;
+
+		try {
+
+			for (int i = 0; i < numberOfThreads; i++) {
+				// the queue only stays full if no writing thread is left to take from it
+				while (!queue.offer(END, END_TIMEOUT, TimeUnit.MILLISECONDS)) {
+					if (runningThreads.get() == 0) {
+						failure.compareAndSet(null, new IOException("The writing threads ended before all offsprings were written."));
+						executor.shutdownNow();
+						break;
+					}
+				}
+			}
+
+			executor.shutdown();
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+
+		} catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			InterruptedIOException exception = new InterruptedIOException("The thread was interrupted while waiting for the writer.");
+			exception.initCause(e);
+			throw exception;
+		}
+
+		IOException firstFailure = failure.get();
+		if (firstFailure != null) throw firstFailure;
+
+	}
+
+	/**
+	 * The loop of a writing thread. The written files are synced once the batch is full or the queue is empty.
+	 */
+	private void write () {
+
+		List<File> unsyncedFiles = new ArrayList<>();
+
+		try {
+
+			while (true) {
+
+				WriteTask task = queue.poll();
+
+				if (task == null) {
+					sync(unsyncedFiles);
+					task = queue.take();
+				}
+
+				if (task == END) break;
+
+				try {
+					unsyncedFiles.add(write(task));
+				} catch (IOException e) {
+					failure.compareAndSet(null, e);
+				}
+
+				if (unsyncedFiles.size() >= fsyncBatchSize) sync(unsyncedFiles);
+
+			}
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			sync(unsyncedFiles);
+			runningThreads.decrementAndGet();
+		}
+
+	}
+
+	/**
+	 * Serializes an offspring into a new {@link Resource resource} and unloads it.
+	 * @param task the offspring to write
+	 * @return Returns the written and closed, but not yet synced file.
+	 * @throws IOException if the file couldn't be written.
+	 */
+	private File write (WriteTask task) throws IOException {
+
+		try (FileOutputStream outputStream = new FileOutputStream(task.file)) {
+			Resource resource = outputFormat.createResource(URI.createFileURI(task.file.getAbsolutePath()));
+			resource.getContents().addAll(task.contents);
+			resource.save(outputStream, null);
+			resource.unload();
+			return task.file;
+		} catch (RuntimeException e) {
+			throw new IOException(e);
+		}
+
+	}
+
+	/**
+	 * Syncs the given files one by one and afterwards the output directory to the disk.
+	 * @param unsyncedFiles the written files, the list is cleared
+	 */
+	private void sync (List<File> unsyncedFiles) {
+
+		if (unsyncedFiles.isEmpty()) return;
+
+		for (File file : unsyncedFiles) {
+			try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+				channel.force(true);
+			} catch (IOException e) {
+				failure.compareAndSet(null, e);
+			}
+		}
+
+		// not all platforms allow to sync a directory, the files themselves are synced nevertheless
+		try (FileChannel channel = FileChannel.open(outputDirectory.toPath(), StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch (IOException e) {
+			// the entries are persisted by the file system later on
+		}
+
+		unsyncedFiles.clear();
+
+	}
+
+}
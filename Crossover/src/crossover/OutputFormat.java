@@ -0,0 +1,78 @@
+package crossover;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+
+/**
+ * The file format the offsprings are written in by the {@link SimpleCrossover} and the {@link OffspringWriter}. </br>
+ * The {@link OutputFormat#BINARY binary format} of EMF is considerably smaller and faster to write and read than XMI,
+ * but it is not human-readable and can only be read by EMF. In both formats the {@link org.eclipse.emf.ecore.EClass eClasses}
+ * are referenced by the namespace URI of their package, which has to be registered to read the files back,
+ * see {@link OutputFormat#load(File, ResourceSet)}.
+ *
+ * @author Benjamin Wagner
+ */
+public enum OutputFormat {
+
+	/**
+	 * XML Metadata Interchange, see {@link XMIResourceImpl}.
+	 */
+	XMI("xmi"),
+
+	/**
+	 * The binary format of EMF, see {@link BinaryResourceImpl}.
+	 */
+	BINARY("bin");
+
+	private final String fileExtension;
+
+	private OutputFormat (String fileExtension) {
+		this.fileExtension = fileExtension;
+	}
+
+	/**
+	 * @return Returns the extension of the files written in this format, without the leading dot.
+	 */
+	public String getFileExtension () {
+		return fileExtension;
+	}
+
+	/**
+	 * @param uri the {@link URI} of the {@link Resource resource}
+	 * @return Returns a new {@link Resource resource} that is saved and loaded in this format.
+	 */
+	public Resource createResource (URI uri) {
+		return (this == BINARY) ? new BinaryResourceImpl(uri) : new XMIResourceImpl(uri);
+	}
+
+	/**
+	 * Registers this format for its {@link OutputFormat#getFileExtension() file extension} in the given {@link ResourceSet resource set},
+	 * so that its {@link ResourceSet#createResource(URI) created} {@link Resource resources} are saved and loaded in this format.
+	 * @param resourceSet a {@link ResourceSet resource set}
+	 */
+	public void register (ResourceSet resourceSet) {
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(fileExtension, (Resource.Factory) this::createResource);
+	}
+
+	/**
+	 * Reads a file written in this format.
+	 * @param file the file to read
+	 * @param resourceSet the {@link ResourceSet resource set} to add the {@link Resource resource} to, its package registry has to
+	 * contain the packages of the written {@link org.eclipse.emf.ecore.EObject eObjects}
+	 * @return Returns the loaded {@link Resource resource}.
+	 * @throws IOException if the file couldn't be read.
+	 */
+	public Resource load (File file, ResourceSet resourceSet) throws IOException {
+		Resource resource = createResource(URI.createFileURI(file.getAbsolutePath()));
+		resourceSet.getResources().add(resource);
+		resource.load(resourceSet.getLoadOptions());
+		return resource;
+	}
+
+}
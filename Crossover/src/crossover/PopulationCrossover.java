@@ -0,0 +1,347 @@
+package crossover;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.eclipse.emf.ecore.resource.Resource;
+
+import view.ProblemPartCache;
+import view.ViewSetOperationException;
+
+/**
+ * Plans and runs the crossovers of a whole population. </br>
+ * The individuals are paired by a {@link PairingScheme pairing scheme}. The pairs sharing an individual are grouped and
+ * each group is crossed by an {@link EliteCrossover} with the shared individual as the elite, so that the split of the
+ * elite is computed once per group. The problem part of every individual and its mapping are computed once by a
+ * {@link ProblemPartCache} shared by all crossovers. Hence the work is about proportional to the number of individuals
+ * plus the number of pairs. The construction of the crossovers and the generation of the offsprings are distributed among
+ * the threads of an {@link ExecutorService executor}. </br>
+ * The individuals of a pair are ordered such that the individual shared by more pairs comes first, the order of the
+ * pairs returned by the {@link PairingScheme pairing scheme} is therefore not preserved.
+ *
+ * @author Benjamin Wagner
+ */
+public class PopulationCrossover {
+
+	/**
+	 * Pairs the individuals of a population.
+	 */
+	@FunctionalInterface
+	public interface PairingScheme {
+
+		/**
+		 * @param populationSize the number of individuals
+		 * @return Returns the {@link Pair pairs} of indices of the individuals to cross.
+		 */
+		List<Pair<Integer, Integer>> createPairs (int populationSize);
+
+	}
+
+	/**
+	 * Pairs every individual with every other individual.
+	 */
+	public static final PairingScheme ALL_PAIRS = populationSize -> {
+		List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+		for (int i = 0; i < populationSize; i++) {
+			for (int j = i + 1; j < populationSize; j++) {
+				pairs.add(Pair.of(i, j));
+			}
+		}
+		return pairs;
+	};
+
+	/**
+	 * Pairs each individual at an even index with the next individual.
+	 */
+	public static final PairingScheme ADJACENT_PAIRS = populationSize -> {
+		List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+		for (int i = 0; i + 1 < populationSize; i += 2) {
+			pairs.add(Pair.of(i, i + 1));
+		}
+		return pairs;
+	};
+
+	private final CrossoverContext context;
+	private final List<Resource> population;
+	private final Strategy problemPartSplitStrategy;
+	private final SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy;
+	private final ProblemPartCache problemPartCache;
+
+	/**
+	 * The indices of the partners by the index of the elite of their group.
+	 */
+	private final Map<Integer, List<Integer>> groups;
+
+	/**
+	 * Creates a new {@link PopulationCrossover} and plans the crossovers.
+	 * @param context the {@link CrossoverContext context} holding the meta-model and the specification of the problem part
+	 * @param population the individuals
+	 * @param pairingScheme the {@link PairingScheme pairing scheme} to pair the individuals by
+	 * @param problemPartSplitStrategy the strategy used to split up the problem parts, it is applied by the tasks of different groups
+	 * at the same time and must therefore be thread-safe, e.g. {@link SimpleCrossover#createRandomProblemSplitStrategy(double)}
+	 * @param searchSpaceElementSplitStrategy the strategy used to split up the search space elements, it is applied by the tasks of
+	 * different crossovers at the same time, so it must either be {@link SearchSpaceElementSplitStrategy#of(SearchSpaceElementSplitStrategy.Stateless) stateless}
+	 * or rely on {@link SearchSpaceElementSplitStrategy#apply(view.View, view.View)} serializing its invocations and must not alter other shared strategies
+	 * @throws CrossoverUsageException if one of the parameters is null or the {@link PairingScheme pairing scheme} returned an invalid pair.
+	 */
+	public PopulationCrossover (CrossoverContext context, List<Resource> population, PairingScheme pairingScheme, Strategy problemPartSplitStrategy,
+			SearchSpaceElementSplitStrategy searchSpaceElementSplitStrategy) throws CrossoverUsageException {
+
+		if(context == null)
+			throw new CrossoverUsageException("The context must not be null.");
+		if(population == null || population.stream().anyMatch(Objects::isNull))
+			throw new CrossoverUsageException("The population must not be null.");
+		if(pairingScheme == null)
+			throw new CrossoverUsageException("The pairingScheme must not be null.");
+		if(problemPartSplitStrategy == null)
+			throw new CrossoverUsageException("The strategy must not be null.");
+
+		this.context = context;
+		this.population = List.copyOf(population);
+		this.problemPartSplitStrategy = problemPartSplitStrategy;
+		this.searchSpaceElementSplitStrategy = searchSpaceElementSplitStrategy;
+		this.problemPartCache = new ProblemPartCache();
+		this.groups = planGroups(pairingScheme.createPairs(population.size()));
+
+	}
+
+	/**
+	 * Groups the pairs by the individual shared by more pairs.
+	 * @param pairs the {@link Pair pairs} of indices of the individuals to cross
+	 * @return Returns the indices of the partners by the index of the elite of their group.
+	 * @throws CrossoverUsageException if a pair is invalid.
+	 */
+	private Map<Integer, List<Integer>> planGroups (List<Pair<Integer, Integer>> pairs) throws CrossoverUsageException {
+
+		if(pairs == null)
+			throw new CrossoverUsageException("The pairingScheme must not return null.");
+
+		int[] numberOfPairs = new int[population.size()];
+
+		for (Pair<Integer, Integer> pair : pairs) {
+			if(pair == null || pair.getFirst() == null || pair.getSecond() == null)
+				throw new CrossoverUsageException("The pairingScheme must not return null pairs.");
+			if(pair.getFirst() < 0 || pair.getFirst() >= population.size() || pair.getSecond() < 0 || pair.getSecond() >= population.size())
+				throw new CrossoverUsageException("The pairingScheme returned an index out of the population.");
+			if(pair.getFirst().equals(pair.getSecond()))
+				throw new CrossoverUsageException("The pairingScheme must not pair an individual with itself.");
+			numberOfPairs[pair.getFirst()]++;
+			numberOfPairs[pair.getSecond()]++;
+		}
+
+		Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+
+		for (Pair<Integer, Integer> pair : pairs) {
+			int first = pair.getFirst();
+			int second = pair.getSecond();
+			boolean firstIsElite = numberOfPairs[first] > numberOfPairs[second] || (numberOfPairs[first] == numberOfPairs[second] && first < second);
+			if (firstIsElite) {
+				groups.computeIfAbsent(first, index -> new ArrayList<>()).add(second);
+			} else {
+				groups.computeIfAbsent(second, index -> new ArrayList<>()).add(first);
+			}
+		}
+
+		groups.replaceAll((elite, partners) -> Collections.unmodifiableList(partners));
+		return Collections.unmodifiableMap(groups);
+
+	}
+
+	/**
+	 * @return Returns the planned groups, i.e. an unmodifiable {@link Map map} from the index of the elite of a group to the indices of its partners.
+	 */
+	public Map<Integer, List<Integer>> getGroups () {
+		return groups;
+	}
+
+	/**
+	 * @return Returns the planned {@link Pair pairs} of indices of the individuals to cross, the first index is the elite of the group of the pair.
+	 */
+	public List<Pair<Integer, Integer>> getPairs () {
+		List<Pair<Integer, Integer>> pairs = new ArrayList<>();
+		groups.forEach((elite, partners) -> partners.forEach(partner -> pairs.add(Pair.of(elite, partner))));
+		return pairs;
+	}
+
+	/**
+	 * Runs all crossovers on a new fixed thread pool with one thread for each available processor. The pool is shut down
+	 * afterwards, if the run did not complete its threads are interrupted and awaited before returning.
+	 * @param whenDone a function executed for each crossover {@link Pair pair}, it is given the {@link Pair pair} of indices of
+	 * the individuals and the crossover {@link Pair pair}. It is called concurrently and must therefore be thread-safe.
+	 * @throws InterruptedException if the current thread was interrupted while waiting for the crossovers.
+	 * @throws ExecutionException if a crossover failed, the cause is the exception thrown by the crossover.
+	 */
+	public void run (BiConsumer<Pair<Integer, Integer>, Pair<Resource, Resource>> whenDone) throws InterruptedException, ExecutionException {
+
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		boolean completed = false;
+
+		try {
+			run(executor, whenDone);
+			completed = true;
+		} finally {
+			if (completed) {
+				executor.shutdown();
+			} else {
+				shutdownNowAndAwait(executor);
+			}
+		}
+
+	}
+
+	/**
+	 * Runs all crossovers on the given {@link ExecutorService executor}. The elite of each group is split in one task,
+	 * afterwards the {@link Crossover} with each partner is created and iterated in a separate task. </br>
+	 * If a crossover fails or the current thread is interrupted, the run is stopped: tasks that did not start yet are cancelled
+	 * and the started tasks stop before their next crossover {@link Pair pair}. The method returns only after all started tasks
+	 * have stopped, so that whenDone is not called afterwards.
+	 * @param executor the {@link ExecutorService executor} to run the crossovers on
+	 * @param whenDone a function executed for each crossover {@link Pair pair}, it is given the {@link Pair pair} of indices of
+	 * the individuals and the crossover {@link Pair pair}. It is called concurrently and must therefore be thread-safe.
+	 * @throws InterruptedException if the current thread was interrupted while waiting for the crossovers.
+	 * @throws ExecutionException if a crossover failed, the cause is the exception thrown by the crossover.
+	 */
+	public void run (ExecutorService executor, BiConsumer<Pair<Integer, Integer>, Pair<Resource, Resource>> whenDone) throws InterruptedException, ExecutionException {
+		try {
+			runAll(executor, whenDone, 0, null);
+		} catch (TimeoutException e) {
+			throw new IllegalStateException("An untimed run must not time out.", e);
+		}
+	}
+
+	/**
+	 * Runs all crossovers on the given {@link ExecutorService executor} like {@link PopulationCrossover#run(ExecutorService, BiConsumer)},
+	 * but stops the run if it did not complete within the given time.
+	 * @param executor the {@link ExecutorService executor} to run the crossovers on
+	 * @param whenDone a function executed for each crossover {@link Pair pair}, it is given the {@link Pair pair} of indices of
+	 * the individuals and the crossover {@link Pair pair}. It is called concurrently and must therefore be thread-safe.
+	 * @param timeout the maximum time to wait for the crossovers
+	 * @param unit the {@link TimeUnit unit} of the timeout
+	 * @throws InterruptedException if the current thread was interrupted while waiting for the crossovers.
+	 * @throws ExecutionException if a crossover failed, the cause is the exception thrown by the crossover.
+	 * @throws TimeoutException if the crossovers did not complete in time.
+	 */
+	public void run (ExecutorService executor, BiConsumer<Pair<Integer, Integer>, Pair<Resource, Resource>> whenDone, long timeout, TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		if (unit == null) throw new IllegalArgumentException("The unit must not be null.");
+		runAll(executor, whenDone, timeout, unit);
+	}
+
+	/**
+	 * Runs all crossovers, see {@link PopulationCrossover#run(ExecutorService, BiConsumer, long, TimeUnit)}.
+	 * @param unit the {@link TimeUnit unit} of the timeout or null to wait without a timeout
+	 */
+	private void runAll (ExecutorService executor, BiConsumer<Pair<Integer, Integer>, Pair<Resource, Resource>> whenDone, long timeout, TimeUnit unit)
+			throws InterruptedException, ExecutionException, TimeoutException {
+
+		if (executor == null) throw new IllegalArgumentException("The executor must not be null.");
+		if (whenDone == null) throw new IllegalArgumentException("The whenDone must not be null.");
+
+		AtomicBoolean stopped = new AtomicBoolean(false);
+		// the current thread is registered until the run is over, every started task registers itself while it runs
+		Phaser running = new Phaser(1);
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+
+		groups.forEach((eliteIndex, partnerIndices) -> {
+
+			CompletableFuture<EliteCrossover> eliteCrossover = CompletableFuture.supplyAsync(() -> {
+				if (!start(running, stopped)) return null;
+				try {
+					List<Resource> partners = new ArrayList<>();
+					partnerIndices.forEach(index -> partners.add(population.get(index)));
+					return new EliteCrossover(context, population.get(eliteIndex), partners, problemPartSplitStrategy, searchSpaceElementSplitStrategy, problemPartCache);
+				} catch (CrossoverUsageException | ViewSetOperationException e) {
+					throw new CompletionException(e);
+				} finally {
+					running.arriveAndDeregister();
+				}
+			}, executor);
+			futures.add(eliteCrossover);
+
+			for (Integer partnerIndex : partnerIndices) {
+				Pair<Integer, Integer> indices = Pair.of(eliteIndex, partnerIndex);
+				futures.add(eliteCrossover.thenAcceptAsync(elite -> {
+					if (elite == null || !start(running, stopped)) return;
+					try {
+						Iterator<Pair<Resource, Resource>> iterator = elite.crossWith(population.get(partnerIndex)).iterator();
+						while (!stopped.get() && iterator.hasNext()) {
+							whenDone.accept(indices, iterator.next());
+						}
+					} catch (CrossoverUsageException | ViewSetOperationException e) {
+						throw new CompletionException(e);
+					} finally {
+						running.arriveAndDeregister();
+					}
+				}, executor));
+			}
+
+		});
+
+		// a failed task stops the others, which then complete normally so that the failure is reported by allOf
+		futures.forEach(future -> future.whenComplete((result, throwable) -> {
+			if (throwable != null) stopped.set(true);
+		}));
+
+		CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+
+		try {
+			if (unit == null) {
+				all.get();
+			} else {
+				all.get(timeout, unit);
+			}
+		} catch (InterruptedException | TimeoutException e) {
+			stopped.set(true);
+			futures.forEach(future -> future.cancel(false));
+			// wait for the started tasks, they stop before their next crossover pair
+			running.arriveAndAwaitAdvance();
+			throw e;
+		}
+
+	}
+
+	/**
+	 * Registers a task as running unless the run has been stopped.
+	 * @param running the {@link Phaser phaser} of the running tasks
+	 * @param stopped whether the run has been stopped
+	 * @return Returns true if the task has been registered and may run, false otherwise.
+	 */
+	private static boolean start (Phaser running, AtomicBoolean stopped) {
+		running.register();
+		if (stopped.get()) {
+			running.arriveAndDeregister();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Interrupts the threads of the {@link ExecutorService executor} and waits for them to terminate. An interrupt while
+	 * waiting is kept for the caller.
+	 * @param executor the {@link ExecutorService executor} to shut down
+	 */
+	private static void shutdownNowAndAwait (ExecutorService executor) {
+		executor.shutdownNow();
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
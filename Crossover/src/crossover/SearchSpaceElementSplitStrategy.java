@@ -1,25 +1,48 @@
 package crossover;
 
 import view.View;
+import view.ViewSetOperationException;
 
 /**
  * A {@link Strategy strategy} used to compute the split of the search space elements in the {@link Crossover}.
  * The {@link Strategy#apply(View)} method will be given a {@link View view} on a search space element
  * containing the complete solution part of the search space element and the part of the problem part
- * matching the given {@link SearchSpaceElementSplitStrategy#problemSplitPart problemSplitPart}. The 
- * strategy is supposed to reduce the view by elements from the solution part.
+ * matching the given {@link SearchSpaceElementSplitStrategy#problemSplitPart problemSplitPart}. The
+ * strategy is supposed to reduce the view by elements from the solution part. </br>
+ * The {@link Crossover} calls {@link SearchSpaceElementSplitStrategy#apply(View, View)}, which passes the problem split part
+ * as an argument. Strategies overriding it (e.g. created by {@link SearchSpaceElementSplitStrategy#of(Stateless)}) are stateless
+ * and can be used by crossovers created on different threads at the same time. Strategies only overriding {@link Strategy#apply(View)}
+ * read the {@link SearchSpaceElementSplitStrategy#problemSplitPart problemSplitPart} field instead, their invocations are therefore serialized.
  * @author Benjamin Wagner
  * @see Strategy
  * @see Strategy#apply(View)
  * @see Crossover#DEFAULT_STRATEGY
  */
 public abstract class SearchSpaceElementSplitStrategy implements Strategy {
-	
+
+	/**
+	 * A stateless {@link SearchSpaceElementSplitStrategy strategy} given the problem split part as an argument.
+	 */
+	@FunctionalInterface
+	public interface Stateless {
+
+		/**
+		 * Applies the strategy on the given {@link View view} changing it in the process.
+		 * @param searchSpaceElementOne the {@link View view} on a search space element to reduce by elements from its solution part
+		 * @param problemSplitPart the part of the problem split used in computing a part of the solution split, it must not be changed
+		 * @throws ViewSetOperationException in case set operations an a {@link View} used in the strategy fail
+		 * @throws IllegalStateException in case a gerneral operation on a {@link view} failes
+		 */
+		void apply (View searchSpaceElementOne, View problemSplitPart) throws ViewSetOperationException, IllegalStateException;
+
+	}
+
 	/**
 	 * The part of the problem split used in computing a part of the solution split.
+	 * It is only set for strategies that don't override {@link SearchSpaceElementSplitStrategy#apply(View, View)}.
 	 */
 	protected View problemSplitPart;
-	
+
 	/**
 	 * Sets the part of the problem split used in the strategy.
 	 * @param problemSplitPart The problem split part to use
@@ -27,5 +50,48 @@ public abstract class SearchSpaceElementSplitStrategy implements Strategy {
 	void setProblemSplitPart (final View problemSplitPart) {
 		this.problemSplitPart = problemSplitPart;
 	}
-	
+
+	/**
+	 * Applies the strategy on the given {@link View view} with the given problem split part. </br>
+	 * The default implementation adapts strategies that only override {@link Strategy#apply(View)}: it sets the
+	 * {@link SearchSpaceElementSplitStrategy#problemSplitPart problemSplitPart} field and calls {@link Strategy#apply(View)}
+	 * while holding the lock of this strategy. Stateless strategies override this method without calling it.
+	 * @param searchSpaceElementOne the {@link View view} on a search space element to reduce by elements from its solution part
+	 * @param problemSplitPart the part of the problem split used in computing a part of the solution split
+	 * @throws ViewSetOperationException in case set operations an a {@link View} used in the strategy fail
+	 * @throws IllegalStateException in case a gerneral operation on a {@link view} failes
+	 */
+	public void apply (View searchSpaceElementOne, View problemSplitPart) throws ViewSetOperationException, IllegalStateException {
+		synchronized (this) {
+			setProblemSplitPart(problemSplitPart);
+			apply(searchSpaceElementOne);
+		}
+	}
+
+	/**
+	 * @param strategy a {@link Stateless stateless strategy}
+	 * @return Returns a {@link SearchSpaceElementSplitStrategy} applying the given {@link Stateless stateless strategy}.
+	 * Its {@link Strategy#apply(View)} method uses the {@link SearchSpaceElementSplitStrategy#problemSplitPart problemSplitPart} field.
+	 * @throws IllegalArgumentException if the strategy is null.
+	 */
+	public static SearchSpaceElementSplitStrategy of (Stateless strategy) {
+
+		if (strategy == null) throw new IllegalArgumentException("The strategy must not be null.");
+
+		return new SearchSpaceElementSplitStrategy() {
+
+			@Override
+			public void apply (View searchSpaceElementOne, View problemSplitPart) throws ViewSetOperationException, IllegalStateException {
+				strategy.apply(searchSpaceElementOne, problemSplitPart);
+			}
+
+			@Override
+			public void apply (View searchSpaceElementOne) throws ViewSetOperationException, IllegalStateException {
+				strategy.apply(searchSpaceElementOne, super.problemSplitPart);
+			}
+
+		};
+
+	}
+
 }
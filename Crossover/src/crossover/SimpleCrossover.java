@@ -1,6 +1,7 @@
 package crossover;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,8 +9,15 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -22,7 +30,9 @@ import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.henshin.model.resource.HenshinResourceSet;
 
+import view.ProblemPartCache;
 import view.View;
+import view.ViewFactory;
 import view.ViewSetOperationException;
 
 /**
@@ -62,12 +72,45 @@ public class SimpleCrossover implements Runnable {
 	 */
 	private final Map<String, List<EReference>> metamodelProblemPartEReferences;
 	
+	/**
+	 * The cache for the problem parts of the loaded resources shared by all crossovers.
+	 */
+	private final ProblemPartCache problemPartCache;
+	
+	/**
+	 * The {@link CrossoverContext contexts} shared by the crossovers, by the name of the meta-model and
+	 * the names of the elements in the sub-meta-model of the intersection.
+	 */
+	private final Map<String, Map<List<Pair<String, List<String>>>, CrossoverContext>> crossoverContexts;
+	
 	private final List<Crossover> crossovers;
 	private final List<String> crossoverNames;
 	private final File outputDirectory;
 	
 	private BiConsumer<Pair<Resource, Resource>, Pair<String, Integer>> whenDone;
 	
+	/**
+	 * The number of crossover pairs remembered to skip duplicates, 0 if duplicates are not skipped.
+	 */
+	private int maxRememberedPairs = 0;
+	
+	/**
+	 * The number of crossovers run at the same time, 1 if the crossovers are run one after another on the calling thread.
+	 */
+	private int parallelism = 1;
+	
+	/**
+	 * The source of the random number generators of the {@link SimpleCrossover#createRandomProblemSplitStrategy(double, SplittableRandom)
+	 * default problem part split strategy}.
+	 */
+	private SplittableRandom random = new SplittableRandom();
+	
+	/**
+	 * The format of the files written by the default {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function}
+	 * and by {@link SimpleCrossover#runAndWriteAsync(int, int, int)}.
+	 */
+	private OutputFormat outputFormat = OutputFormat.XMI;
+	
 	/**
 	 * Creates a new instance of the {@link SimpleCrossover} class.
 	 * @param resourceDirectoryPath the path to the directory to non-recursively scan for resources to use in the crossovers 
@@ -93,16 +136,23 @@ public class SimpleCrossover implements Runnable {
 		
 		this.inputResourceSet =  new HenshinResourceSet(resourceInputDirectoryPath);
 		this.outputResourceSet = new HenshinResourceSet(resourceOutputDirectoryPath);
+		OutputFormat.BINARY.register(outputResourceSet);
 		
 		
 		this.whenDone = (pairOfResources, identifierPair) -> {
 			String name = identifierPair.getFirst();
 			int crossoverNumber = identifierPair.getSecond();
-			outputResourceSet.saveEObject(pairOfResources.getFirst().getContents().get(0), name + "No" + crossoverNumber + "First.xmi");
-			outputResourceSet.saveEObject(pairOfResources.getSecond().getContents().get(0), name + "No" + crossoverNumber + "Second.xmi");
+			String extension = "." + outputFormat.getFileExtension();
+			// the resource set is shared by all crossovers that may be run in parallel
+			synchronized (outputResourceSet) {
+				outputResourceSet.saveEObject(pairOfResources.getFirst().getContents().get(0), name + "No" + crossoverNumber + "First" + extension);
+				outputResourceSet.saveEObject(pairOfResources.getSecond().getContents().get(0), name + "No" + crossoverNumber + "Second" + extension);
+			}
 		};
 		
 		this.loadedResources = new HashMap<>();
+		this.problemPartCache = new ProblemPartCache();
+		this.crossoverContexts = new HashMap<>();
 		this.crossovers = new ArrayList<>();
 		this.crossoverNames =  new ArrayList<>();
 		this.resourceMetamodels = new HashMap<>();
@@ -156,12 +206,59 @@ public class SimpleCrossover implements Runnable {
 	 * second parameter is a String-Integer-Pair that uniquely identifies the crossover-pair. 
 	 * It consists of the {@link SimpleCrossover#createCrossoverName(String, String) crossover's name} and 
 	 * the counter of the produced pair.
+	 * If the {@link SimpleCrossover#setParallelism(int) parallelism} is greater than one, the function is called
+	 * concurrently for different crossovers and must therefore be thread-safe. The default function is thread-safe.
 	 * @param whenDone the whenDone to set
 	 */
 	public void setWhenDone(BiConsumer<Pair<Resource, Resource>, Pair<String, Integer>> whenDone) {
 		this.whenDone = whenDone;
 	}
 
+	/**
+	 * Enables or disables the filtering of duplicate crossover pairs of a crossover, see {@link Crossover#distinctOutputIterator(int)}.
+	 * Duplicates are still created, but neither passed to the {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} nor counted.
+	 * @param maxRememberedPairs the number of crossover pairs to remember per crossover or 0 to disable the skipping (the default)
+	 */
+	public void setMaxRememberedPairs(int maxRememberedPairs) {
+		if (maxRememberedPairs < 0) throw new IllegalArgumentException("The maxRememberedPairs must not be negative.");
+		this.maxRememberedPairs = maxRememberedPairs;
+	}
+
+	/**
+	 * Sets the number of crossovers that are run at the same time by {@link SimpleCrossover#run()}. </br>
+	 * If it is greater than one, each crossover is run on a bounded pool of platform threads, as the crossovers are CPU-bound.
+	 * The names of the crossovers and the numbers of their crossover pairs are the same as in a sequential run, but the
+	 * {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} is called concurrently for different crossovers.
+	 * @param parallelism the maximum number of crossovers to run at the same time or 1 to run them one after another (the default)
+	 */
+	public void setParallelism(int parallelism) {
+		if (parallelism < 1) throw new IllegalArgumentException("The parallelism must be positive.");
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Sets the source of the random number generators of the {@link SimpleCrossover#createRandomProblemSplitStrategy(double, SplittableRandom)
+	 * default problem part split strategy} used by the crossovers added afterwards. Each added crossover gets its own generator
+	 * {@link SplittableRandom#split() split} off from it. Given a seeded {@link SplittableRandom random number generator},
+	 * the same crossovers are added in the same order on each run, regardless of the threads running them.
+	 * @param random the {@link SplittableRandom random number generator}, e.g. {@code new SplittableRandom(seed)}
+	 */
+	public void setRandom(SplittableRandom random) {
+		if (random == null) throw new IllegalArgumentException("The random must not be null.");
+		this.random = random;
+	}
+
+	/**
+	 * Sets the format of the files written by the default {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} and by
+	 * {@link SimpleCrossover#runAndWriteAsync(int, int, int)}. The files are named with the {@link OutputFormat#getFileExtension() extension}
+	 * of the format and can be read by {@link OutputFormat#load(java.io.File, org.eclipse.emf.ecore.resource.ResourceSet)}.
+	 * @param outputFormat the {@link OutputFormat format}, {@link OutputFormat#XMI} by default
+	 */
+	public void setOutputFormat(OutputFormat outputFormat) {
+		if (outputFormat == null) throw new IllegalArgumentException("The outputFormat must not be null.");
+		this.outputFormat = outputFormat;
+	}
+
 	/**
 	 * Defines the resource by the given name as a metamodel.
 	 * @param metamodelResourceName the name of the resource as in the {@link SimpleCrossover#loadedResources} map
@@ -209,6 +306,7 @@ public class SimpleCrossover implements Runnable {
 		
 		metamodelProblemPartEClasses.put(metamodelResourceName, problemPartEClasses);
 		metamodelProblemPartEReferences.put(metamodelResourceName, problemPartEReferences);
+		crossoverContexts.remove(metamodelResourceName);
 	}
 	
 	// without subMetaModelOfIntersection
@@ -278,7 +376,8 @@ public class SimpleCrossover implements Runnable {
 		if (resourceMetamodels.get(resourceOneName) == null || resourceMetamodels.get(resourceTwoName) == null) throw new IllegalArgumentException("Resources with undefined metamodels given."); 
 		if (!resourceMetamodels.get(resourceOneName).equals(resourceMetamodels.get(resourceTwoName))) throw new IllegalArgumentException("Resources with different metamodels given."); 
 		
-		Strategy problemPartSplitStrategy = SimpleCrossover.createRandomProblemSplitStrategy(0.8);
+		// each crossover owns a generator split off in the order the crossovers are added
+		Strategy problemPartSplitStrategy = SimpleCrossover.createRandomProblemSplitStrategy(0.8, random.split());
 		
 		addCrossover (resourceOneName, resourceTwoName, problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY, subMetaModelOfIntersectionNames);
 		
@@ -300,7 +399,8 @@ public class SimpleCrossover implements Runnable {
 		if (resourceMetamodels.get(resourceOneName) == null || resourceMetamodels.get(resourceTwoName) == null) throw new IllegalArgumentException("Resources with undefined metamodels given."); 
 		if (!resourceMetamodels.get(resourceOneName).equals(resourceMetamodels.get(resourceTwoName))) throw new IllegalArgumentException("Resources with different metamodels given."); 
 		
-		Strategy problemPartSplitStrategy = SimpleCrossover.createRandomProblemSplitStrategy(0.8);
+		// each crossover owns a generator split off in the order the crossovers are added
+		Strategy problemPartSplitStrategy = SimpleCrossover.createRandomProblemSplitStrategy(0.8, random.split());
 		
 		addCrossover (resourceOneName, resourceTwoName, problemPartSplitStrategy, searchSpaceElementSplitStrategy, subMetaModelOfIntersectionNames);
 		
@@ -345,40 +445,50 @@ public class SimpleCrossover implements Runnable {
 		String resourceMetamodelName = resourceMetamodels.get(resourceOneName);
 		Resource metamodel = loadedResources.get(resourceMetamodelName);
 		
-		View subMetaModelOfIntersection = new View(metamodel);
+		Map<List<Pair<String, List<String>>>, CrossoverContext> contextsOfMetamodel = crossoverContexts.computeIfAbsent(resourceMetamodelName, name -> new HashMap<>());
+		CrossoverContext context = contextsOfMetamodel.get(subMetaModelOfIntersectionNames);
 		
-		if (!subMetaModelOfIntersectionNames.isEmpty()) {
+		if (context == null) {
 			
-			TreeIterator<EObject> treeIterator = metamodel.getAllContents();
+			View subMetaModelOfIntersection = new View(metamodel);
 			
-			while (treeIterator.hasNext()) {
-				EObject eObject = (EObject) treeIterator.next();
+			if (!subMetaModelOfIntersectionNames.isEmpty()) {
+			
+				TreeIterator<EObject> treeIterator = metamodel.getAllContents();
+			
+				while (treeIterator.hasNext()) {
+					EObject eObject = (EObject) treeIterator.next();
 				
-				if (eObject instanceof EClass) {
-					EClass eClass = (EClass) eObject;
+					if (eObject instanceof EClass) {
+						EClass eClass = (EClass) eObject;
 					
-					for (Pair<String, List<String>> pair : subMetaModelOfIntersectionNames) {
-						if (eClass.getName().equals(pair.getFirst())) {
-							subMetaModelOfIntersection.extend(eObject);
-							for (String eReferenceName : pair.getSecond()) {
-								List<EReference> eReferences = eClass.getEAllReferences().stream().
-										filter(eReference -> eReference.getName().equals(eReferenceName)).
-										collect(Collectors.toList());
-								if (eReferences.size() != 1) throw new IllegalArgumentException("The eClass " + pair.getFirst() + 
-										" does not have an eReference by the name of " + eReferenceName);
-								subMetaModelOfIntersection.extend(((EObject) eReferences.get(0)));
+						for (Pair<String, List<String>> pair : subMetaModelOfIntersectionNames) {
+							if (eClass.getName().equals(pair.getFirst())) {
+								subMetaModelOfIntersection.extend(eObject);
+								for (String eReferenceName : pair.getSecond()) {
+									List<EReference> eReferences = eClass.getEAllReferences().stream().
+											filter(eReference -> eReference.getName().equals(eReferenceName)).
+											collect(Collectors.toList());
+									if (eReferences.size() != 1) throw new IllegalArgumentException("The eClass " + pair.getFirst() + 
+											" does not have an eReference by the name of " + eReferenceName);
+									subMetaModelOfIntersection.extend(((EObject) eReferences.get(0)));
+								}
 							}
 						}
 					}
 				}
+			
 			}
 			
+			List<EClass> problemPartEClasses = metamodelProblemPartEClasses.get(resourceMetamodelName);
+			List<EReference> problemPartEReferences = metamodelProblemPartEReferences.get(resourceMetamodelName);
+			
+			context = new CrossoverContext(metamodel, problemPartEClasses, problemPartEReferences, subMetaModelOfIntersection, ViewFactory.NO_KEY);
+			contextsOfMetamodel.put(new ArrayList<>(subMetaModelOfIntersectionNames), context);
+			
 		}
-		
-		List<EClass> problemPartEClasses = metamodelProblemPartEClasses.get(resourceMetamodelName);
-		List<EReference> problemPartEReferences = metamodelProblemPartEReferences.get(resourceMetamodelName);
-		
-		Crossover crossover = new Crossover(metamodel, searchSpaceElements, problemPartSplitStrategy, problemPartEClasses, problemPartEReferences, searchSpaceElementSplitStrategy, subMetaModelOfIntersection);
+			
+		Crossover crossover = new Crossover(context, searchSpaceElements, problemPartSplitStrategy, searchSpaceElementSplitStrategy, problemPartCache);
 		
 		if (!crossovers.contains(crossover)) {
 			crossovers.add(crossover);
@@ -389,30 +499,170 @@ public class SimpleCrossover implements Runnable {
 	
 	/**
 	 * Creates all specified crossovers and writes them to the directory.
+	 * The crossovers are run in parallel if the {@link SimpleCrossover#setParallelism(int) parallelism} is greater than one.
+	 * If the calling thread is interrupted, the crossovers are stopped, the interrupt status is restored and a
+	 * {@link CancellationException} with an {@link InterruptedException} as its cause is thrown, so that an interrupted run
+	 * can't be mistaken for a complete one. The {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} isn't
+	 * called anymore once this method returned.
+	 * @throws CancellationException if the run has been interrupted.
 	 */
 	@Override
 	public void run() {
 		
-		Iterator<Crossover> crossoverIterator = crossovers.iterator();
-		Iterator<String> crossoverNamesIterator = crossoverNames.iterator();
+		if (parallelism == 1 || crossovers.size() < 2) {
+			
+			Iterator<Crossover> crossoverIterator = crossovers.iterator();
+			Iterator<String> crossoverNamesIterator = crossoverNames.iterator();
+			
+			while (crossoverIterator.hasNext()) {
+				runCrossover(crossoverIterator.next(), crossoverNamesIterator.next());
+			}
+			
+		} else {
+			
+			runInParallel();
+			
+		}
 		
-		while (crossoverIterator.hasNext()) {
-			Crossover crossover = (Crossover) crossoverIterator.next();
-			String name = (String) crossoverNamesIterator.next();
-			Iterator<Pair<Resource, Resource>> crossoverResourcePairIterator = crossover.iterator();
-			int crossoverNumber = 0;
+	}
+	
+	/**
+	 * Runs each crossover as a task on a fixed pool of at most {@link SimpleCrossover#parallelism} threads and waits for all of them.
+	 * The first exception thrown by a crossover is rethrown after the remaining crossovers have been cancelled and have ended.
+	 */
+	private void runInParallel () {
+		
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, crossovers.size()));
+		List<Future<?>> futures = new ArrayList<>();
+		InterruptedException interrupt = null;
+		
+		try {
 			
-			while (crossoverResourcePairIterator.hasNext()) {
-				crossoverNumber++;
-				
-				Pair<Resource, Resource> pair = (Pair<Resource, Resource>) crossoverResourcePairIterator.next();
-				if (pair.getFirst().getContents().size() != 1) throw new IllegalStateException("There is more or less then one root element in: " + name + "No" + crossoverNumber + "First");
-				if (pair.getSecond().getContents().size() != 1) throw new IllegalStateException("There is more or less then one root element in: " + name + "No" + crossoverNumber + "Second");
-				whenDone.accept(pair, Pair.of(name, crossoverNumber));
-
+			for (int i = 0; i < crossovers.size(); i++) {
+				Crossover crossover = crossovers.get(i);
+				String name = crossoverNames.get(i);
+				futures.add(executor.submit(() -> runCrossover(crossover, name)));
+			}
+			
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			
+		} catch (InterruptedException e) {
+			
+			interrupt = e;
+			
+		} catch (ExecutionException e) {
+			
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if (cause instanceof Error) throw (Error) cause;
+			throw new IllegalStateException(cause);
+			
+		} finally {
+			
+			// the crossovers stop at their next check of the interrupt, the whenDone-function must not be called afterwards
+			futures.forEach(future -> future.cancel(true));
+			executor.shutdownNow();
+			awaitTermination(executor);
+			
+		}
+		
+		if (interrupt != null) {
+			Thread.currentThread().interrupt();
+			CancellationException exception = new CancellationException("The run has been interrupted.");
+			exception.initCause(interrupt);
+			throw exception;
+		}
+		
+	}
+	
+	/**
+	 * Waits until all tasks of the shut down {@link ExecutorService executor} have ended. An interrupt while waiting doesn't
+	 * end the waiting, it is restored afterwards.
+	 * @param executor the shut down {@link ExecutorService executor}
+	 */
+	private static void awaitTermination (ExecutorService executor) {
+		
+		boolean interrupted = false;
+		
+		while (true) {
+			try {
+				if (executor.awaitTermination(1, TimeUnit.SECONDS)) break;
+			} catch (InterruptedException e) {
+				interrupted = true;
 			}
 		}
 		
+		if (interrupted) Thread.currentThread().interrupt();
+		
+	}
+	
+	/**
+	 * Creates the crossover pairs of the given crossover and passes them to the {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function}.
+	 * The iteration stops if the current thread is interrupted.
+	 * @param crossover the crossover to run
+	 * @param name the name of the crossover, see {@link SimpleCrossover#createCrossoverName(String, String)}
+	 * @throws CancellationException if the current thread has been interrupted, see {@link CrossoverBudget.StopReason#toException()}.
+	 */
+	private void runCrossover (Crossover crossover, String name) {
+		
+		CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>> budgetedIterator = crossover.iterator(new CrossoverBudget());
+		Iterator<Pair<Resource, Resource>> crossoverResourcePairIterator = maxRememberedPairs == 0 ? 
+				budgetedIterator : crossover.distinctOutputIterator(budgetedIterator, maxRememberedPairs);
+		int crossoverNumber = 0;
+		
+		while (crossoverResourcePairIterator.hasNext()) {
+			crossoverNumber++;
+			
+			Pair<Resource, Resource> pair = (Pair<Resource, Resource>) crossoverResourcePairIterator.next();
+			if (pair.getFirst().getContents().size() != 1) throw new IllegalStateException("There is more or less then one root element in: " + name + "No" + crossoverNumber + "First");
+			if (pair.getSecond().getContents().size() != 1) throw new IllegalStateException("There is more or less then one root element in: " + name + "No" + crossoverNumber + "Second");
+			whenDone.accept(pair, Pair.of(name, crossoverNumber));
+
+		}
+		
+		// an interrupted crossover must not look like a complete one
+		CrossoverBudget.StopReason stopReason = budgetedIterator.getStopReason();
+		if (!stopReason.isCompleted()) throw stopReason.toException();
+		
+	}
+	
+	/**
+	 * Creates all specified crossovers like {@link SimpleCrossover#run()} but writes them to the output directory with an
+	 * {@link OffspringWriter} instead of the {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function}, so that the
+	 * crossovers aren't stalled by the serialization and the written resources don't stay in memory.
+	 * @param queueCapacity the maximum number of offsprings waiting to be written
+	 * @param writerThreads the number of threads writing the offsprings
+	 * @param fsyncBatchSize the maximum number of files a writing thread writes before syncing them to the disk
+	 * @throws IOException if an offspring couldn't be written or the calling thread was interrupted while waiting for the
+	 * offsprings to be written, see {@link OffspringWriter#close()}.
+	 * @throws CancellationException if the run has been interrupted, see {@link SimpleCrossover#run()}.
+	 * @see OffspringWriter#OffspringWriter(File, OutputFormat, int, int, int)
+	 */
+	public void runAndWriteAsync(int queueCapacity, int writerThreads, int fsyncBatchSize) throws IOException {
+		
+		BiConsumer<Pair<Resource, Resource>, Pair<String, Integer>> previousWhenDone = whenDone;
+		
+		try (OffspringWriter writer = new OffspringWriter(outputDirectory, outputFormat, queueCapacity, writerThreads, fsyncBatchSize)) {
+			whenDone = writer;
+			run();
+		} finally {
+			whenDone = previousWhenDone;
+		}
+		
+	}
+	
+	/**
+	 * Creates all specified crossovers asynchronously like {@link SimpleCrossover#run()}.
+	 * @param executor the {@link Executor executor} to run the crossovers on
+	 * @return Returns a {@link CompletableFuture future} that completes when all crossovers are done
+	 * or exceptionally if a crossover or the {@link SimpleCrossover#setWhenDone(BiConsumer) whenDone-function} failed.
+	 * @throws IllegalArgumentException if the executor is null.
+	 */
+	public CompletableFuture<Void> runAsync (Executor executor) {
+		if (executor == null) throw new IllegalArgumentException("The executor must not be null.");
+		return CompletableFuture.runAsync(this, executor);
 	}
 	
 	/**
@@ -425,20 +675,41 @@ public class SimpleCrossover implements Runnable {
 	
 	/**
 	 * @param chance the chance to stop removing nodes from the view (each time) after half of the nodes have been removed
-	 * @return Returns a {@link Strategy} that removes random nodes from the view and all dangling edges.
+	 * @return Returns a {@link Strategy} that removes random nodes from the view and all dangling edges,
+	 * see {@link SimpleCrossover#createRandomProblemSplitStrategy(double, SplittableRandom)}.
 	 */
 	public static Strategy createRandomProblemSplitStrategy (double chance) {
+		return createRandomProblemSplitStrategy(chance, new SplittableRandom());
+	}
+	
+	/**
+	 * @param chance the chance to stop removing nodes from the view (each time) after half of the nodes have been removed
+	 * @param random the source of the random number generators, each invocation of the strategy uses a new generator {@link SplittableRandom#split() split}
+	 * off from it, so that invocations on different threads don't contend for the same generator. Given a seeded generator, the
+	 * strategy removes the same nodes if it is invoked in the same order.
+	 * @return Returns a {@link Strategy} that removes random nodes from the view and all dangling edges.
+	 * @throws IllegalArgumentException if the random is null.
+	 */
+	public static Strategy createRandomProblemSplitStrategy (double chance, SplittableRandom random) {
+		
+		if (random == null) throw new IllegalArgumentException("The random must not be null.");
+		
 		return (view) -> {
 			
+			SplittableRandom invocationRandom;
+			synchronized (random) {
+				invocationRandom = random.split();
+			}
+			
 			int amountOfNodes = view.getGraph().getNodes().size();
 			int half = amountOfNodes / 2;
 			
 			for (int i = 0; i < amountOfNodes; i++) {
 				
-				view.reduce(view.getObject(view.getRandomNode()));
+				view.reduce(view.getObject(view.getRandomNode(invocationRandom)));
 				
 				if (i >= half) {
-					if (Math.random() <= chance) {
+					if (invocationRandom.nextDouble() <= chance) {
 						break;
 					}
 				}
@@ -565,24 +836,20 @@ public class SimpleCrossover implements Runnable {
 		
 		final EReference finalClassesEReference = classesEReference;
 		
-		SearchSpaceElementSplitStrategy sss = new SearchSpaceElementSplitStrategy() {
-			@Override
-			public void apply(View sseOne) throws ViewSetOperationException, IllegalStateException {
-				
-				View changedSSEOne = sseOne.copy();
-				
-				changedSSEOne.reduce(finalClassesEReference);
-				
-				Crossover.DEFAULT_STRATEGY.setProblemSplitPart(super.problemSplitPart);
-				Crossover.DEFAULT_STRATEGY.apply(changedSSEOne);
-				
-				sseOne.clear();
-				sseOne.union(changedSSEOne);
-				sseOne.extend(finalClassesEReference);
-				sseOne.removeDangling();
-				
-			}
-		};
+		SearchSpaceElementSplitStrategy sss = SearchSpaceElementSplitStrategy.of((View sseOne, View problemSplitPart) -> {
+			
+			View changedSSEOne = sseOne.copy();
+			
+			changedSSEOne.reduce(finalClassesEReference);
+			
+			Crossover.DEFAULT_STRATEGY.apply(changedSSEOne, problemSplitPart);
+			
+			sseOne.clear();
+			sseOne.union(changedSSEOne);
+			sseOne.extend(finalClassesEReference);
+			sseOne.removeDangling();
+			
+		});
 		
 		try {
 			sc.addCrossover("CRA_Pres_One", "CRA_Pres_Two", pps, sss);
@@ -646,24 +913,20 @@ public class SimpleCrossover implements Runnable {
 		
 		// pps = SimpleCrossover.createRandomProblemSplitStrategy(0.8);
 		
-		SearchSpaceElementSplitStrategy sss = new SearchSpaceElementSplitStrategy() {
-			@Override
-			public void apply(View sseOne) throws ViewSetOperationException, IllegalStateException {
-				
-				View changedSSEOne = sseOne.copy();
-				
-				changedSSEOne.reduce(finalClassesEReference);
-				
-				Crossover.DEFAULT_STRATEGY.setProblemSplitPart(super.problemSplitPart);
-				Crossover.DEFAULT_STRATEGY.apply(changedSSEOne);
-				
-				sseOne.clear();
-				sseOne.union(changedSSEOne);
-				sseOne.extend(finalClassesEReference);
-				sseOne.removeDangling();
-				
-			}
-		};
+		SearchSpaceElementSplitStrategy sss = SearchSpaceElementSplitStrategy.of((View sseOne, View problemSplitPart) -> {
+			
+			View changedSSEOne = sseOne.copy();
+			
+			changedSSEOne.reduce(finalClassesEReference);
+			
+			Crossover.DEFAULT_STRATEGY.apply(changedSSEOne, problemSplitPart);
+			
+			sseOne.clear();
+			sseOne.union(changedSSEOne);
+			sseOne.extend(finalClassesEReference);
+			sseOne.removeDangling();
+			
+		});
 		
 		try {
 			sc.addCrossover("CRAInstanceOne", "CRAInstanceTwo", pps, sss, List.of(Pair.of("Class", List.of())));
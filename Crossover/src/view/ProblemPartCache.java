@@ -0,0 +1,339 @@
+package view;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.henshin.model.Mapping;
+import org.eclipse.emf.henshin.model.impl.MappingImpl;
+
+/**
+ * A cache for the problem parts of {@link Resource resources} used as a drop-in replacement of
+ * {@link ViewFactory#buildViewMapping(View, View, List, List, Function)}. </br>
+ * For each specification of a problem part (i.e. the {@link EClass eClasses}, {@link EReference eReferences} and the key)
+ * the first {@link Resource resource} is used as the canonical reference. The problem part {@link View view} of every
+ * {@link Resource resource} is computed once, together with an isomorphism onto the problem part of the reference.
+ * The isomorphism between two problem parts is then composed from the cached isomorphisms, so that N {@link Resource resources}
+ * need N problem part extractions instead of one for each pair of {@link Resource resources}. </br>
+ * The cached entries of a {@link Resource resource} are evicted as soon as the {@link Resource resource} is modified.
+ * If the reference is modified all entries of its specification are evicted. The keys of the specifications are compared
+ * by identity, so the same key instance should be used for all {@link Resource resources}, e.g. {@link ViewFactory#NO_KEY}. </br>
+ * The cache is thread-safe. The entry of a {@link Resource resource} is computed by one thread, while the entries of other
+ * {@link Resource resources} may be computed concurrently.
+ *
+ * @author Benjamin Wagner
+ */
+public class ProblemPartCache {
+
+	/**
+	 * A cached problem part of a {@link Resource resource}.
+	 */
+	private static class Entry {
+
+		/**
+		 * The problem part of the {@link Resource resource}, it must not be altered.
+		 */
+		private final View problemPart;
+
+		/**
+		 * The isomorphism from the {@link EObject eObjects} of the {@link Entry#problemPart problemPart} to the
+		 * {@link EObject eObjects} of the problem part of the reference.
+		 */
+		private final Map<EObject, EObject> toReference;
+
+		/**
+		 * The inverse of {@link Entry#toReference}.
+		 */
+		private final Map<EObject, EObject> fromReference;
+
+		private Entry (View problemPart, Map<EObject, EObject> toReference) {
+			this.problemPart = problemPart;
+			this.toReference = toReference;
+			this.fromReference = new HashMap<>();
+			toReference.forEach((eObject, referenceEObject) -> fromReference.put(referenceEObject, eObject));
+		}
+
+	}
+
+	/**
+	 * Marks a {@link Resource resource} whose problem part is not isomorphic to the problem part of the reference.
+	 */
+	private static final Entry NOT_ISOMORPHIC = new Entry(null, Map.of());
+
+	/**
+	 * The cached problem parts by the specification of the problem part and the {@link Resource resource}.
+	 * The specification is a {@link List list} consisting of the {@link EClass eClasses}, the {@link EReference eReferences} and the key.
+	 * Each entry is computed by the thread that added its {@link FutureTask task}, other threads needing it wait for the {@link FutureTask task}.
+	 */
+	private final ConcurrentMap<List<Object>, ConcurrentMap<Resource, FutureTask<Entry>>> entries;
+
+	/**
+	 * The reference {@link Resource resource} of each specification.
+	 */
+	private final ConcurrentMap<List<Object>, Resource> references;
+
+	/**
+	 * The adapters observing the {@link Resource resources} with cached entries, guarded by its own lock.
+	 */
+	private final Map<Resource, EContentAdapter> adapters;
+
+	/**
+	 * Creates a new empty {@link ProblemPartCache}.
+	 */
+	public ProblemPartCache () {
+		this.entries = new ConcurrentHashMap<>();
+		this.references = new ConcurrentHashMap<>();
+		this.adapters = new HashMap<>();
+	}
+
+	/**
+	 * Builds the graphs of the given Views like {@link ViewFactory#buildViewMapping(View, View, List, List, Function)}
+	 * but uses the cached problem parts of the {@link View#resource resources} if present. </br>
+	 * It may be called by multiple threads at the same time. Only the computation of the entry of the same {@link Resource resource}
+	 * is serialized, the threads needing it wait for the thread computing it.
+	 * @param viewOne first empty {@link View}
+	 * @param viewTwo second empty {@link View}
+	 * @param classes of the meta-model to buld the views from
+	 * @param references of the meta-model to buld the views from
+	 * @param key a function returning a stable identifier for an {@link EObject eObject} or {@code null} if there is none
+	 * @return Returns a set of mappings between the two graphs, representing an graph isomorphism. If no such isomorphism exists null is returned.
+	 */
+	public Set<Mapping> buildViewMapping (View viewOne, View viewTwo, List<EClass> classes, List<EReference> references, Function<EObject, ?> key) {
+
+		if (!viewOne.isEmpty() || !viewTwo.isEmpty()) throw new IllegalArgumentException("The views must be empty.");
+
+		List<Object> specification = List.of(List.copyOf(classes), List.copyOf(references), key);
+
+		Entry entryOne = getEntry(viewOne.resource, specification);
+		Entry entryTwo = getEntry(viewTwo.resource, specification);
+
+		if (entryOne == null || entryTwo == null) {
+			// at least one problem part is not isomorphic to the reference, build the views anyway
+			return ViewFactory.buildViewMapping(viewOne, viewTwo, classes, references, key);
+		}
+
+		fill(viewOne, entryOne.problemPart);
+		fill(viewTwo, entryTwo.problemPart);
+
+		// compose the isomorphism to the reference with the inverse isomorphism of the second view
+
+		return viewOne.graph.getNodes().stream().map(node -> {
+			EObject referenceEObject = entryOne.toReference.get(viewOne.getObject(node));
+			Mapping mapping = new MappingImpl();
+			mapping.setOrigin(node);
+			mapping.setImage(viewTwo.getNode(entryTwo.fromReference.get(referenceEObject)));
+			return mapping;
+		}).collect(Collectors.toSet());
+
+	}
+
+	/**
+	 * Returns the problem part of the given {@link Resource resource} like it is built by
+	 * {@link ProblemPartCache#buildViewMapping(View, View, List, List, Function)}, so that the problem part of a
+	 * {@link Resource resource} that is crossed with many others is only extracted once.
+	 * @param resource the {@link Resource resource} of the problem part
+	 * @param classes of the meta-model to buld the view from
+	 * @param references of the meta-model to buld the view from
+	 * @param key a function returning a stable identifier for an {@link EObject eObject} or {@code null} if there is none
+	 * @return Returns a new {@link View view} on the {@link Resource resource} containing its problem part.
+	 */
+	public View getProblemPart (Resource resource, List<EClass> classes, List<EReference> references, Function<EObject, ?> key) {
+
+		View problemPart = new View(resource);
+		Entry entry = getEntry(resource, List.of(List.copyOf(classes), List.copyOf(references), key));
+
+		if (entry == null) {
+			classes.forEach(problemPart::extend);
+			references.forEach(problemPart::extend);
+		} else {
+			fill(problemPart, entry.problemPart);
+		}
+
+		return problemPart;
+
+	}
+
+	/**
+	 * @param resource a {@link Resource resource}
+	 * @return Returns true if there is any cached entry for the given {@link Resource resource}.
+	 */
+	public boolean isCached (Resource resource) {
+		return entries.values().stream().anyMatch(entriesOfSpecification -> entriesOfSpecification.containsKey(resource));
+	}
+
+	/**
+	 * Removes all cached entries and stops observing the {@link Resource resources}.
+	 */
+	public void clear () {
+		synchronized (adapters) {
+			adapters.forEach((resource, adapter) -> resource.eAdapters().remove(adapter));
+			adapters.clear();
+			entries.clear();
+			references.clear();
+		}
+	}
+
+	/**
+	 * Returns the cached entry of the given {@link Resource resource} or computes it.
+	 * @param resource the {@link Resource resource} of the problem part
+	 * @param specification the specification of the problem part
+	 * @return Returns the entry or null if the problem part is not isomorphic to the problem part of the reference.
+	 */
+	private Entry getEntry (Resource resource, List<Object> specification) {
+
+		ConcurrentMap<Resource, FutureTask<Entry>> entriesOfSpecification = entries.computeIfAbsent(specification, spec -> new ConcurrentHashMap<>());
+		FutureTask<Entry> task = entriesOfSpecification.get(resource);
+
+		if (task == null) {
+			FutureTask<Entry> newTask = new FutureTask<>(() -> computeEntry(resource, specification));
+			task = entriesOfSpecification.putIfAbsent(resource, newTask);
+			if (task == null) {
+				task = newTask;
+				observe(resource);
+				task.run();
+			}
+		}
+
+		try {
+			Entry entry = task.get();
+			return (entry == NOT_ISOMORPHIC) ? null : entry;
+		} catch (ExecutionException e) {
+			// the failed computation isn't cached
+			entriesOfSpecification.remove(resource, task);
+			if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error) throw (Error) e.getCause();
+			throw new IllegalStateException("The problem part couldn't be computed.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the problem part.", e);
+		}
+
+	}
+
+	/**
+	 * Computes the entry of the given {@link Resource resource}. The problem part of a {@link Resource resource} that isn't the
+	 * reference is mapped onto the cached problem part of the reference, so that it is only extracted once.
+	 * @param resource the {@link Resource resource} of the problem part
+	 * @param specification the specification of the problem part
+	 * @return Returns the entry or {@link ProblemPartCache#NOT_ISOMORPHIC} if the problem part is not isomorphic to the problem part of the reference.
+	 */
+	@SuppressWarnings("unchecked")
+	private Entry computeEntry (Resource resource, List<Object> specification) {
+
+		List<EClass> classes = (List<EClass>) specification.get(0);
+		List<EReference> references = (List<EReference>) specification.get(1);
+		Function<EObject, ?> key = (Function<EObject, ?>) specification.get(2);
+
+		View problemPart = new View(resource);
+		classes.forEach(problemPart::extend);
+		references.forEach(problemPart::extend);
+
+		Map<EObject, EObject> toReference = new HashMap<>();
+		Resource reference = this.references.computeIfAbsent(specification, spec -> resource);
+
+		if (reference == resource) {
+			// the resource is the reference
+			problemPart.graphMap.keySet().forEach(eObject -> toReference.put(eObject, eObject));
+			return new Entry(problemPart, toReference);
+		}
+
+		Entry referenceEntry = getEntry(reference, specification);
+		if (referenceEntry == null) return NOT_ISOMORPHIC;
+		View referenceProblemPart = referenceEntry.problemPart;
+
+		// the matcher finds injective maps, so a smaller problem part would be mapped into the reference
+		boolean sameSize = problemPart.graph.getNodes().size() == referenceProblemPart.graph.getNodes().size() &&
+				problemPart.graph.getEdges().size() == referenceProblemPart.graph.getEdges().size();
+		Set<Mapping> mappings = sameSize ? ViewFactory.findViewMapping(problemPart, referenceProblemPart, key) : null;
+
+		// the negative result is cached as well, it is evicted like any other entry
+		if (mappings == null) return NOT_ISOMORPHIC;
+
+		mappings.forEach(mapping -> toReference.put(problemPart.getObject(mapping.getOrigin()), referenceProblemPart.getObject(mapping.getImage())));
+		return new Entry(problemPart, toReference);
+
+	}
+
+	/**
+	 * Fills the given empty {@link View view} with a copy of the given problem part.
+	 * @param view an empty {@link View view}
+	 * @param problemPart the cached problem part on the same {@link View#resource resource}
+	 */
+	private void fill (View view, View problemPart) {
+		View copy = problemPart.copy();
+		view.graph = copy.graph;
+		view.graphMap.putAll(copy.graphMap);
+		view.objectMap.putAll(copy.objectMap);
+	}
+
+	/**
+	 * Adds an adapter to the given {@link Resource resource} that evicts its entries on modification.
+	 * @param resource the {@link Resource resource} to observe
+	 */
+	private void observe (Resource resource) {
+
+		synchronized (adapters) {
+
+			if (adapters.containsKey(resource)) return;
+
+			EContentAdapter adapter = new EContentAdapter() {
+				@Override
+				public void notifyChanged (Notification notification) {
+					super.notifyChanged(notification);
+					if (!notification.isTouch()) evict(resource);
+				}
+			};
+
+			adapters.put(resource, adapter);
+			resource.eAdapters().add(adapter);
+
+		}
+
+	}
+
+	/**
+	 * Removes all entries of the given {@link Resource resource} and all entries using it as their reference.
+	 * @param resource the modified {@link Resource resource}
+	 */
+	private void evict (Resource resource) {
+
+		synchronized (adapters) {
+
+			EContentAdapter adapter = adapters.remove(resource);
+			if (adapter != null) resource.eAdapters().remove(adapter);
+
+			for (Map.Entry<List<Object>, ConcurrentMap<Resource, FutureTask<Entry>>> entriesOfSpecification : entries.entrySet()) {
+				if (references.remove(entriesOfSpecification.getKey(), resource)) {
+					entriesOfSpecification.getValue().clear();
+				} else {
+					entriesOfSpecification.getValue().remove(resource);
+				}
+			}
+
+			// stop observing resources without entries, entries are added before their resource is observed
+
+			for (Resource observedResource : new ArrayList<>(adapters.keySet())) {
+				if (!isCached(observedResource)) {
+					observedResource.eAdapters().remove(adapters.remove(observedResource));
+				}
+			}
+
+		}
+
+	}
+
+}
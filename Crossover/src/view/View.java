@@ -8,6 +8,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -97,17 +99,33 @@ public class View {
 	
 	/**
 	 * @return Returns a random {@link Node} form the {@link View#graph graph} or {@code null} if the {@link View#graph graph} is empty.
+	 * The {@link Node} is chosen by the {@link ThreadLocalRandom random number generator of the current thread}.
 	 */
 	public Node getRandomNode() {
 		if(graph.getNodes().isEmpty()) {
 			return null;
 		} else {
 			List<Node> nodes = graph.getNodes();
-			int randomIndex = (int) (Math.random() * nodes.size());
+			int randomIndex = ThreadLocalRandom.current().nextInt(nodes.size());
 			return nodes.get(randomIndex);
 		}
 	}
 	
+	/**
+	 * @param random the {@link SplittableRandom random number generator} to choose the {@link Node} by, it must not be used by other threads at the same time
+	 * @return Returns a random {@link Node} form the {@link View#graph graph} or {@code null} if the {@link View#graph graph} is empty.
+	 * @throws IllegalArgumentException if the random is null.
+	 */
+	public Node getRandomNode(SplittableRandom random) {
+		if (random == null) throw new IllegalArgumentException("The random must not be null.");
+		if(graph.getNodes().isEmpty()) {
+			return null;
+		} else {
+			List<Node> nodes = graph.getNodes();
+			return nodes.get(random.nextInt(nodes.size()));
+		}
+	}
+	
 	public Collection<EObject> getContainedEObjects () {
 		return graph.getNodes().stream().map(this::getObject).collect(Collectors.toSet());
 	}
@@ -805,6 +823,68 @@ public class View {
 		
 	}
 	
+	/**
+	 * Adds all {@link Edge edges} of the given {@link View view} to this {@link View} whose {@link Node nodes} are both part of this {@link View},
+	 * so that this {@link View} contains the subgraph of the given {@link View view} induced by its {@link Node nodes}.
+	 * An {@link Edge edge} is not added if this {@link View} already {@link View#contains(EObject, EObject, EReference, boolean) contains} it.
+	 * Unlike adding the {@link Edge edges} one by one, this runs in linear time in the number of {@link Node nodes} and {@link Edge edges}.
+	 * @param view a {@link View view} over the same {@link View#resource resource}, it will not be altered
+	 * @throws IllegalArgumentException if the given {@link View view} is over a different {@link View#resource resource}
+	 */
+	public void extendByInducedEdges(View view) throws IllegalArgumentException {
+
+		if (resource != view.resource) throw new IllegalArgumentException("The resources are not identical.");
+
+		Set<EObject> containedEObjects = new HashSet<>();
+		graph.getNodes().forEach(node -> containedEObjects.add(objectMap.get(node)));
+
+		// an edge is identified by its eObjects and type, it is contained if it or its opposite is part of the view
+
+		Set<List<Object>> containedEdges = new HashSet<>();
+
+		for (Edge edge : graph.getEdges()) {
+			addEdgeKeys(containedEdges, objectMap.get(edge.getSource()), objectMap.get(edge.getTarget()), edge.getType());
+		}
+
+		for (Edge edge : view.graph.getEdges()) {
+
+			EObject sourceEObject = view.objectMap.get(edge.getSource());
+			EObject targetEObject = view.objectMap.get(edge.getTarget());
+
+			if (!containedEObjects.contains(sourceEObject) || !containedEObjects.contains(targetEObject)) continue;
+			if (containedEdges.contains(List.of(sourceEObject, targetEObject, edge.getType()))) continue;
+
+			Edge newEdge = new EdgeImpl(graphMap.get(sourceEObject), graphMap.get(targetEObject), edge.getType());
+			newEdge.setGraph(graph);
+			graph.getEdges().add(newEdge);
+
+			addEdgeKeys(containedEdges, sourceEObject, targetEObject, edge.getType());
+
+		}
+
+	}
+
+	/**
+	 * Adds the keys under which the specified {@link Edge edge} is found in both directions to the given {@link Set set}.
+	 * @param edgeKeys the {@link Set set} of keys
+	 * @param sourceEObject the {@link EObject eObject} of the source {@link Node node}
+	 * @param targetEObject the {@link EObject eObject} of the target {@link Node node}
+	 * @param eReference the {@link Edge#getType() type} of the {@link Edge edge}
+	 */
+	private void addEdgeKeys(Set<List<Object>> edgeKeys, EObject sourceEObject, EObject targetEObject, EReference eReference) {
+
+		if (sourceEObject == null || targetEObject == null) return;
+
+		edgeKeys.add(List.of(sourceEObject, targetEObject, eReference));
+		edgeKeys.add(List.of(targetEObject, sourceEObject, eReference));
+
+		if (eReference.getEOpposite() != null) {
+			edgeKeys.add(List.of(sourceEObject, targetEObject, eReference.getEOpposite()));
+			edgeKeys.add(List.of(targetEObject, sourceEObject, eReference.getEOpposite()));
+		}
+
+	}
+
 	/**
 	 * Adds all {@link EObject eObjects} to the {@link View} that exist the {@link View#resource resource}.
 	 */
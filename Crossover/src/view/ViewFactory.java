@@ -1,6 +1,9 @@
 package view;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -9,28 +12,29 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.ecore.util.EcoreUtil.Copier;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.eclipse.emf.henshin.interpreter.EGraph;
-import org.eclipse.emf.henshin.interpreter.Engine;
-import org.eclipse.emf.henshin.interpreter.Match;
 import org.eclipse.emf.henshin.interpreter.impl.EGraphImpl;
-import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
 import org.eclipse.emf.henshin.model.Edge;
 import org.eclipse.emf.henshin.model.Mapping;
 import org.eclipse.emf.henshin.model.Node;
-import org.eclipse.emf.henshin.model.Rule;
+import org.eclipse.emf.henshin.model.impl.EdgeImpl;
 import org.eclipse.emf.henshin.model.impl.MappingImpl;
-import org.eclipse.emf.henshin.model.impl.RuleImpl;
+import org.eclipse.emf.henshin.model.impl.NodeImpl;
 
-import crossover.MappingUtil;
 import crossover.Pair;
 
 /**
@@ -41,6 +45,11 @@ import crossover.Pair;
  */
 public class ViewFactory {
 	
+	/**
+	 * A key for {@link ViewFactory#buildViewMapping(View, View, List, List, Function)} that doesn't identify any {@link EObject eObject}.
+	 */
+	public static final Function<EObject, Object> NO_KEY = eObject -> null;
+	
 	/**
 	 * Builds the graphs of the given Views based on the given {@code classes} and {@code references}.
 	 * The {@link View views} should have different {@link View#resource resources} on the same meta-model.
@@ -54,6 +63,26 @@ public class ViewFactory {
 	 * @return Returns a set of mappings between the two graphs, representing an graph isomorphism. If no such isomorphism exists null is returned.
 	 */
 	public static Set<Mapping> buildViewMapping (View viewOne, View viewTwo, List<EClass> classes, List<EReference> references) {
+		return buildViewMapping(viewOne, viewTwo, classes, references, NO_KEY);
+	}
+	
+	/**
+	 * Builds the graphs of the given Views based on the given {@code classes} and {@code references} like
+	 * {@link ViewFactory#buildViewMapping(View, View, List, List)} but maps the {@link Node nodes} by the given {@code key} first.
+	 * In search-based model engineering all search space elements are derived from the same problem instance,
+	 * so their problem parts are equal up to the identity of the {@link EObject eObjects}. If the {@code key} identifies
+	 * all {@link EObject eObjects} of the problem part, the mapping is found in linear time. 
+	 * {@link EObject EObjects} without a key or with a key that is not unique are matched by an isomorphism search
+	 * that complies to the keyed part. If there is no such isomorphism, the keys are ignored.
+	 * @param viewOne first empty {@link View}
+	 * @param viewTwo second empty {@link View}
+	 * @param classes of the meta-model to buld the views from
+	 * @param references of the meta-model to buld the views from
+	 * @param key a function returning a stable identifier for an {@link EObject eObject} or {@code null} if there is none,
+	 * e.g {@link ViewFactory#createXMIIDKey()} or {@link ViewFactory#createAttributeKey(EAttribute)}
+	 * @return Returns a set of mappings between the two graphs, representing an graph isomorphism. If no such isomorphism exists null is returned.
+	 */
+	public static Set<Mapping> buildViewMapping (View viewOne, View viewTwo, List<EClass> classes, List<EReference> references, Function<EObject, ?> key) {
 		
 		// build the views
 		
@@ -67,77 +96,164 @@ public class ViewFactory {
 			viewTwo.extend(eReference);
 		}
 		
-		// find an isomorphism
+		return findViewMapping(viewOne, viewTwo, key);
+		
+	}
+	
+	/**
+	 * Finds a graph isomorphism between the given built {@link View views} like {@link ViewFactory#buildViewMapping(View, View, List, List, Function)},
+	 * so that the {@link View view} of a problem part that is mapped to many others needs to be built only once.
+	 * @param viewOne first {@link View}, it is not altered
+	 * @param viewTwo second {@link View}, it is not altered
+	 * @param key a function returning a stable identifier for an {@link EObject eObject} or {@code null} if there is none
+	 * @return Returns a set of mappings between the two graphs, representing an graph isomorphism. If no such isomorphism exists null is returned.
+	 */
+	public static Set<Mapping> findViewMapping (View viewOne, View viewTwo, Function<EObject, ?> key) {
+		
+		// map the nodes by their keys, ambiguous keys are not used
+		
+		Map<Pair<EClass, Object>, Node> keyedNodesOfViewTwo = new HashMap<>();
+		Set<Pair<EClass, Object>> ambiguousKeys = new HashSet<>();
+		
+		for (Node node : viewTwo.graph.getNodes()) {
+			Object keyOfNode = key.apply(viewTwo.getObject(node));
+			if (keyOfNode == null) continue;
+			Pair<EClass, Object> typedKey = Pair.of(node.getType(), keyOfNode);
+			if (keyedNodesOfViewTwo.put(typedKey, node) != null) ambiguousKeys.add(typedKey);
+		}
+		
+		Map<Node, Node> partialMatch = new HashMap<>();
+		Set<Pair<EClass, Object>> usedKeys = new HashSet<>();
 		
-		Rule rule = new RuleImpl();
-		rule.setLhs(viewOne.graph);
-		rule.setCheckDangling(false);
-		rule.setInjectiveMatching(true);
-		EGraph eGraph = new EGraphImpl(viewTwo.resource.getContents().get(0));
-		Engine engine = new EngineImpl();
+		for (Node node : viewOne.graph.getNodes()) {
+			Object keyOfNode = key.apply(viewOne.getObject(node));
+			if (keyOfNode == null) continue;
+			Pair<EClass, Object> typedKey = Pair.of(node.getType(), keyOfNode);
+			if (!usedKeys.add(typedKey)) ambiguousKeys.add(typedKey);
+			if (keyedNodesOfViewTwo.containsKey(typedKey)) partialMatch.put(node, keyedNodesOfViewTwo.get(typedKey));
+		}
+		
+		partialMatch.keySet().removeIf(node -> ambiguousKeys.contains(Pair.of(node.getType(), key.apply(viewOne.getObject(node)))));
 		
-		Iterator<Match> matchIterator = engine.findMatches(rule, eGraph, null).iterator();
+		// complete the partial match, if all nodes are keyed this only checks the edges
 		
-		if (!matchIterator.hasNext()) return null; 
+		Iterator<Map<Node, Node>> matchIterator = ViewMatcher.getMatchIterator(viewOne, viewTwo, partialMatch);
 		
-		Match match = matchIterator.next();
+		if (!matchIterator.hasNext() && !partialMatch.isEmpty()) {
+			// the keys don't describe an isomorphism
+			matchIterator = ViewMatcher.getMatchIterator(viewOne, viewTwo);
+		}
 		
-		// convert the match (Node -> EObject) to a set of mappings (Node -> Node) by using the graphMap of viewTwo
+		if (!matchIterator.hasNext()) return null;
+		
+		Map<Node, Node> match = matchIterator.next();
 		
 		return viewOne.graph.getNodes().stream().map(node -> {
 		    Mapping mapping = new MappingImpl();
 		    mapping.setOrigin(node);
-		    mapping.setImage(viewTwo.getNode(match.getNodeTarget(node)));
+		    mapping.setImage(match.get(node));
 		    return mapping;
 		}).collect(Collectors.toSet());
 		
 	}
 	
+	/**
+	 * @return Returns a key for {@link ViewFactory#buildViewMapping(View, View, List, List, Function)} that identifies
+	 * {@link EObject eObjects} by their {@literal xmi:id}. {@link EObject EObjects} of {@link Resource resources} that are no
+	 * {@link XMLResource XMLResources} or don't have an {@literal xmi:id} have no key.
+	 */
+	public static Function<EObject, String> createXMIIDKey () {
+		return eObject -> {
+			Resource resource = eObject.eResource();
+			return (resource instanceof XMLResource) ? ((XMLResource) resource).getID(eObject) : null;
+		};
+	}
+	
+	/**
+	 * @param eAttribute an {@link EAttribute eAttribute} whose value identifies the {@link EObject eObjects}, e.g a name
+	 * @return Returns a key for {@link ViewFactory#buildViewMapping(View, View, List, List, Function)} that identifies
+	 * {@link EObject eObjects} by the value of the given {@link EAttribute eAttribute}. {@link EObject EObjects} whose 
+	 * {@link EObject#eClass() eClass} doesn't have the {@link EAttribute eAttribute} or whose value is unset have no key.
+	 */
+	public static Function<EObject, Object> createAttributeKey (EAttribute eAttribute) {
+		return eObject -> eObject.eClass().getEAllAttributes().contains(eAttribute) ? eObject.eGet(eAttribute) : null;
+	}
+	
 	/**
 	 * Projects the graph from {@code sourceView} to the graph of {@code targetView} using the given {@code viewMappings}.
 	 * @param sourceView the {@link View} to be projected onto the {@code targetView}
 	 * @param targetView the {@link View} containing the image of the by {@code viewMappings} projected {@code sourceView}
 	 * @param viewMappings the mappings from the graph of {@code sourceView} to the graph of {@code targetView}
-	 * @return Returns a new {@link View} containing the projected subgraph.
+	 * @return Returns a new {@link View} containing the projected subgraph. It is built in a single pass over the
+	 * {@code viewMappings} and both graphs.
 	 */
 	public static View intersectByMapping (View sourceView, View targetView, Set<Mapping> viewMappings) {
 		
-		// map the nodes from sourceView to nodes from targedView
-		Set<Node> mappedNodes = sourceView.graph.getNodes().stream()
-				.map(origin -> MappingUtil.getImageSingle(viewMappings, origin)).
-				filter(node -> node != null).
-				collect(Collectors.toSet());
+		// the images of the origins with exactly one image
+		Map<Node, Node> images = new HashMap<>();
+		Set<Node> originsWithMultipleImages = new HashSet<>();
 		
-		// create the new view and reduce it to the mapped nodes
-		View mappedView = targetView.copy();
-		targetView.graph.getNodes().stream().
-			filter(node -> !mappedNodes.contains(node)). // only keep nodes that should be removed
-			map(targetView::getObject). // get the corresponding  EObjects
-			forEach(mappedView::reduce); // reduce the new view by them
+		for (Mapping mapping : viewMappings) {
+			Node image = images.putIfAbsent(mapping.getOrigin(), mapping.getImage());
+			if (image != null && image != mapping.getImage()) originsWithMultipleImages.add(mapping.getOrigin());
+		}
 		
-		Set<Mapping> mappingsToMappedView = MappingUtil.mapByImage(viewMappings, node -> mappedView.getNode(targetView.getObject(node)));
+		images.keySet().removeAll(originsWithMultipleImages);
 		
-		// collect all mapped edges
-		Set<Edge> mappedEdges = sourceView.graph.getEdges().stream().map(edge -> {
-			
-			Node mappedSource = MappingUtil.getImageSingle(mappingsToMappedView, edge.getSource());
-			Node mappedTarget = MappingUtil.getImageSingle(mappingsToMappedView, edge.getTarget());
+		View mappedView = new View(targetView.resource);
+		Map<Node, Node> nodesOfMappedView = new HashMap<>();
 		
-			if (mappedSource == null || mappedTarget == null) return null;
-			
-		    for (Edge outgoingEdge : mappedSource.getOutgoing()) {
-				if (outgoingEdge.getTarget().equals(mappedTarget)) {
-					return outgoingEdge;
-				}
-			}
-		    
-		    return null;
-		    
-		}).filter(node -> node != null).collect(Collectors.toSet());
+		Function<Node, Node> getNodeOfMappedView = node -> nodesOfMappedView.computeIfAbsent(node, targetNode -> {
+			Node newNode = new NodeImpl();
+			newNode.setType(targetNode.getType());
+			EObject eObject = targetView.objectMap.get(targetNode);
+			mappedView.graphMap.put(eObject, newNode);
+			mappedView.objectMap.put(newNode, eObject);
+			return newNode;
+		});
+		
+		// add the mapped nodes
+		
+		Set<Node> mappedNodes = new HashSet<>();
+		
+		for (Node node : sourceView.graph.getNodes()) {
+			Node image = images.get(node);
+			if (image != null) mappedNodes.add(image);
+		}
+		
+		for (Node node : targetView.graph.getNodes()) {
+			if (mappedNodes.contains(node)) getNodeOfMappedView.apply(node).setGraph(mappedView.graph);
+		}
+		
+		// an edge is mapped to the first edge between the images of its nodes
+		
+		Map<Node, Map<Node, Edge>> edgesOfTargetView = new HashMap<>();
+		
+		for (Edge edge : targetView.graph.getEdges()) {
+			edgesOfTargetView.computeIfAbsent(edge.getSource(), node -> new HashMap<>()).putIfAbsent(edge.getTarget(), edge);
+		}
+		
+		Set<Edge> mappedEdges = new HashSet<>();
+		
+		for (Edge edge : sourceView.graph.getEdges()) {
+			Node mappedSource = images.get(edge.getSource());
+			Node mappedTarget = images.get(edge.getTarget());
+			if (mappedSource == null || mappedTarget == null) continue;
+			Edge mappedEdge = edgesOfTargetView.getOrDefault(mappedSource, Collections.emptyMap()).get(mappedTarget);
+			if (mappedEdge != null) mappedEdges.add(mappedEdge);
+		}
 		
-		// remove all not-mapped edges from the graph in the mappedView 
-		List<Edge> edgesToRemove = mappedView.graph.getEdges().stream().filter(edge -> !mappedEdges.contains(edge)).collect(Collectors.toList());
-		edgesToRemove.forEach(mappedView.graph::removeEdge);
+		// add the mapped edges in the order of the targetView
+		
+		for (Edge edge : targetView.graph.getEdges()) {
+			if (mappedEdges.contains(edge)) {
+				Edge newEdge = new EdgeImpl();
+				newEdge.setType(edge.getType());
+				newEdge.setSource(getNodeOfMappedView.apply(edge.getSource()));
+				newEdge.setTarget(getNodeOfMappedView.apply(edge.getTarget()));
+				newEdge.setGraph(mappedView.graph);
+			}
+		}
 		
 		return mappedView;
 		
@@ -146,22 +262,57 @@ public class ViewFactory {
 	/**
 	 * Checks whether the graph in {@code viewOne} is a subgraph of the graph in {@code viewTwo}.
 	 * More exact it checks if all of the {@link Node} and {@link Edge} Objects are contained in the graph of {@code viewTwo}.
+	 * Views of different sizes or over different {@link View#resource resources} are rejected in constant time, 
+	 * otherwise the nodes and edges are compared by hashed lookups in linear time.
 	 * @param viewOne the {@code View} whose graph is checked for being a subgraph
 	 * @param viewTwo the {@code View} whose graph is checked for containung a subgraph
 	 * @return Returns {@code true} if {@code viewOne} is a subgraph of {@code viewTwo} and {@code false} otherwise.
 	 */
 	public static boolean isSubgraph (View viewOne, View viewTwo) {
 		
-		if (viewOne.graph.getNodes().size() <= viewTwo.graph.getNodes().size() && 
-				viewOne.graph.getEdges().size() <= viewTwo.graph.getEdges().size()) {
-			for (Node node : viewOne.graph.getNodes())
-				if (!viewTwo.contains(viewOne.getObject(node))) return false;
-			for (Edge edge : viewOne.graph.getEdges())
-				if (!viewTwo.contains(viewOne.objectMap.get(edge.getSource()), viewOne.objectMap.get(edge.getTarget()), edge.getType(), true)) return false;
-			return true;
+		List<Node> nodesOfViewOne = viewOne.graph.getNodes();
+		List<Edge> edgesOfViewOne = viewOne.graph.getEdges();
+		
+		if (nodesOfViewOne.size() > viewTwo.graph.getNodes().size() || 
+				edgesOfViewOne.size() > viewTwo.graph.getEdges().size()) return false;
+		
+		if (nodesOfViewOne.isEmpty() && edgesOfViewOne.isEmpty()) return true;
+		
+		// the eObjects of different resources are disjoint
+		if (viewOne.resource != viewTwo.resource) return false;
+		
+		Set<Node> nodesOfViewTwo = new HashSet<>(viewTwo.graph.getNodes());
+		
+		for (Node node : nodesOfViewOne) {
+			if (!nodesOfViewTwo.contains(viewTwo.graphMap.get(viewOne.getObject(node)))) return false;
+		}
+		
+		if (edgesOfViewOne.isEmpty()) return true;
+		
+		// an edge is contained if there is an edge of the same or the opposite type in any direction, as in View#contains
+		
+		Set<List<Object>> edgesOfViewTwo = new HashSet<>();
+		
+		for (Edge edge : viewTwo.graph.getEdges()) {
+			EObject sourceEObject = viewTwo.objectMap.get(edge.getSource());
+			EObject targetEObject = viewTwo.objectMap.get(edge.getTarget());
+			if (sourceEObject == null || targetEObject == null || sourceEObject == targetEObject) continue;
+			edgesOfViewTwo.add(List.of(sourceEObject, targetEObject, edge.getType()));
+			edgesOfViewTwo.add(List.of(targetEObject, sourceEObject, edge.getType()));
+			if (edge.getType().getEOpposite() != null) {
+				edgesOfViewTwo.add(List.of(sourceEObject, targetEObject, edge.getType().getEOpposite()));
+				edgesOfViewTwo.add(List.of(targetEObject, sourceEObject, edge.getType().getEOpposite()));
+			}
+		}
+		
+		for (Edge edge : edgesOfViewOne) {
+			EObject sourceEObject = viewOne.objectMap.get(edge.getSource());
+			EObject targetEObject = viewOne.objectMap.get(edge.getTarget());
+			if (sourceEObject == null || targetEObject == null || sourceEObject == targetEObject) return false;
+			if (!edgesOfViewTwo.contains(List.of(sourceEObject, targetEObject, edge.getType()))) return false;
 		}
 		
-		return false;
+		return true;
 		
 	}
 	
@@ -261,48 +412,43 @@ public class ViewFactory {
 	 */
 	public static View doDFS (View view, Node node) throws IllegalArgumentException {
 		
-		if(!view.contains(node)) throw new IllegalArgumentException("The node is not part of the view.");
-		boolean viewContainsDanglingEdge = view.graph.getEdges().stream().anyMatch(edge -> !view.contains(edge.getSource()) || !view.contains(edge.getTarget()));
+		Set<Node> nodes = new HashSet<>(view.graph.getNodes());
+		
+		if(!nodes.contains(node)) throw new IllegalArgumentException("The node is not part of the view.");
+		boolean viewContainsDanglingEdge = view.graph.getEdges().stream().anyMatch(edge -> !nodes.contains(edge.getSource()) || !nodes.contains(edge.getTarget()));
 		if(viewContainsDanglingEdge) throw new IllegalArgumentException("The view must not contain dangling edges.");
 		
-		Set<Node> visitedNodes = new HashSet<>();
-		internalDoDFS(view, node, visitedNodes);
+		// the adjacent nodes of each node regardless of the direction of the edges
 		
-		View dfsView = new View(view.resource);
+		Map<Node, List<Node>> adjacentNodes = new HashMap<>();
 		
-		for (Node visitedNode : visitedNodes) {
-			dfsView.extend(view.getObject(visitedNode));
+		for (Edge edge : view.graph.getEdges()) {
+			adjacentNodes.computeIfAbsent(edge.getSource(), key -> new ArrayList<>()).add(edge.getTarget());
+			adjacentNodes.computeIfAbsent(edge.getTarget(), key -> new ArrayList<>()).add(edge.getSource());
 		}
 		
-		
-		for (Edge edge : view.getGraph().getEdges()) {
-			EObject sourceEObject = view.getObject(edge.getSource());
-			EObject targetEObject = view.getObject(edge.getTarget());
-			
-			if (dfsView.contains(sourceEObject) && dfsView.contains(targetEObject)) {
-				boolean successfullyExtended = dfsView.extend(sourceEObject, targetEObject, edge.getType());
-				if (!successfullyExtended) successfullyExtended = dfsView.extend(targetEObject, sourceEObject, edge.getType());
-				if (!successfullyExtended) throw new IllegalStateException("Couldn't extend by an edge");
+		Set<Node> visitedNodes = new HashSet<>();
+		Deque<Node> stack = new ArrayDeque<>();
+		stack.push(node);
+		
+		while (!stack.isEmpty()) {
+			Node currentNode = stack.pop();
+			if (visitedNodes.add(currentNode)) {
+				for (Node adjacentNode : adjacentNodes.getOrDefault(currentNode, Collections.emptyList())) {
+					if (!visitedNodes.contains(adjacentNode)) stack.push(adjacentNode);
+				}
 			}
 		}
 		
-		return dfsView;
+		View dfsView = new View(view.resource);
 		
-	}
-	
-	private static void internalDoDFS (View view, Node node, Set<Node> visitedNodes) {
+		for (Node visitedNode : visitedNodes) {
+			dfsView.extend(view.getObject(visitedNode));
+		}
 		
-		visitedNodes.add(node);
+		dfsView.extendByInducedEdges(view);
 		
-		for (Edge edge : view.graph.getEdges()) {
-			if (edge.getSource() == node) {
-				if(!visitedNodes.contains(edge.getTarget()))
-					internalDoDFS(view, edge.getTarget(), visitedNodes);
-			} else if (edge.getTarget() == node) {
-				if(!visitedNodes.contains(edge.getSource()))
-					internalDoDFS(view, edge.getSource(), visitedNodes);
-			}
-		}
+		return dfsView;
 		
 	}
 	
@@ -315,7 +461,23 @@ public class ViewFactory {
 	 * of the {@link View view} or one of the {@link View views} contain dangling edges.
 	 */
  	public static Iterator<View> getSubGraphIterator (View view, View subgraphView) throws IllegalArgumentException {
+ 		return getSubGraphIterator(view, subgraphView, () -> false);
+ 	}
+ 	
+	/**
+	 * Like {@link ViewFactory#getSubGraphIterator(View, View)} but ends the iteration as soon as the given condition is true.
+	 * The condition is checked before each set of {@link Node nodes} and {@link Edge edges} of the power sets is considered,
+	 * so that the iteration can be stopped while searching for the next subgraph.
+	 * @param view the {@link View view} to get subgraph-views of
+	 * @param subgraphView the {@link View view} to be contained in all subgraph returned by the iterator
+	 * @param stop the condition to end the iteration
+	 * @return Returns an {@link Iterator} of the {@link View views} found before the condition became true.
+	 * @throws IllegalArgumentException if the given {@link View subgraphView} is not a subgraph
+	 * of the {@link View view}, one of the {@link View views} contain dangling edges or the condition is null.
+	 */
+ 	public static Iterator<View> getSubGraphIterator (View view, View subgraphView, BooleanSupplier stop) throws IllegalArgumentException {
 		
+ 		if(stop == null) throw new IllegalArgumentException("The stop must not be null.");
 		if(!ViewFactory.isSubgraph(subgraphView, view)) throw new IllegalArgumentException("The subgraphView must be a subgraph of the view.");
 		boolean viewContainsDanglingEdge = view.graph.getEdges().stream().anyMatch(edge -> !view.contains(edge.getSource()) || !view.contains(edge.getTarget()));
 		if(viewContainsDanglingEdge) throw new IllegalArgumentException("The view must not contain dangling edges.");
@@ -383,6 +545,8 @@ public class ViewFactory {
 					
 					while (powersetIterator.hasNext()) {
 						
+						if (stop.getAsBoolean()) break;
+						
 						Set<Node> set = (Set<Node>) powersetIterator.next();
 						if (!set.containsAll(subgraphNodes)) continue;
 						
@@ -395,6 +559,11 @@ public class ViewFactory {
 						
 						while (edgePowerSetIterator.hasNext()) {
 							
+							if (stop.getAsBoolean()) {
+								computedViews.clear();
+								break;
+							}
+							
 							Set<Edge> subsetOfEdges = (Set<Edge>) edgePowerSetIterator.next();
 							if (!subsetOfEdges.containsAll(subgraphEdges)) continue;
 							
@@ -430,7 +599,7 @@ public class ViewFactory {
 					
 				} else {
 					
-					nextSubgraph = computedViews.poll();
+					nextSubgraph = stop.getAsBoolean() ? null : computedViews.poll();
 					
 				}
 				
@@ -0,0 +1,817 @@
+package view;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.henshin.model.Edge;
+import org.eclipse.emf.henshin.model.Node;
+
+/**
+ * A matcher that finds injective, type- and edge-preserving maps from the {@link View#graph graph} of one {@link View view}
+ * into the {@link View#graph graph} of another {@link View view} without converting them into a
+ * {@link org.eclipse.emf.henshin.model.Rule rule} and an {@link org.eclipse.emf.henshin.interpreter.EGraph eGraph}.
+ * The search is a VF2-style backtracking: the {@link Node nodes} of the pattern are ordered such that the most constrained
+ * {@link Node node} comes first and every following {@link Node node} is connected to as many of its predecessors as possible.
+ * Candidates are pruned by their type, their number of neighbours and the {@link Edge edges} to already matched {@link Node nodes}.
+ * <br/>
+ * A {@link Node node} of the pattern can be matched to a {@link Node node} whose type is the same or a subtype of its own type.
+ * An {@link Edge edge} of the pattern is preserved if the target contains an {@link Edge edge} of the same type between the images
+ * of its {@link Node nodes} or an {@link Edge edge} of the {@link EReference#getEOpposite() opposite type} in the reverse direction.
+ * Dangling {@link Edge edges} of both {@link View views} are ignored.
+ *
+ * @author Benjamin Wagner
+ */
+public class ViewMatcher {
+
+	/**
+	 * The {@link Node nodes} of the pattern in the order they are matched.
+	 */
+	private final Node[] order;
+
+	/**
+	 * The number of {@link Node nodes} at the beginning of the {@link ViewMatcher#order order} that are fixed by the partial match.
+	 */
+	private final int numberOfFixedNodes;
+
+	/**
+	 * For each position in the {@link ViewMatcher#order order} the positions of the preceding neighbours, used to find candidates.
+	 */
+	private final int[] anchors;
+
+	/**
+	 * For each position in the {@link ViewMatcher#order order} the {@link Edge edges} of the pattern to the preceding {@link Node nodes}.
+	 */
+	private final List<List<Edge>> backEdges;
+
+	/**
+	 * For each position in the {@link ViewMatcher#order order} the {@link Node nodes} of the target that may be used as its image if
+	 * the {@link Node node} has no preceding neighbour.
+	 */
+	private final List<List<Node>> typeCandidates;
+
+	/**
+	 * The neighbours of the pattern {@link Node nodes}.
+	 */
+	private final Map<Node, List<Node>> patternNeighbours;
+
+	/**
+	 * The neighbours of the target {@link Node nodes}.
+	 */
+	private final Map<Node, List<Node>> targetNeighbours;
+
+	/**
+	 * All non-dangling {@link Edge edges} of the target by their source and target {@link Node nodes}.
+	 */
+	private final Map<Node, Map<Node, Set<EReference>>> targetEdges;
+
+	/**
+	 * The {@link Node nodes} of the target accepted by the node filter for each pattern {@link Node node}, null if there is no node filter.
+	 */
+	private final Map<Node, Set<Node>> acceptedImages;
+
+	/**
+	 * Creates a matcher from the {@link View#graph graph} of the {@link View fromView} to that of the {@link View toView}.
+	 * @param fromView the {@link View view} containing the pattern
+	 * @param toView the {@link View view} to find the pattern in
+	 * @param partialMatch {@link Node nodes} of the {@link View fromView} that must be mapped to the given {@link Node nodes}
+	 * of the {@link View toView}, may be empty
+	 * @param nodeFilter a condition a pattern {@link Node node} and its image must satisfy in addition to the types, may be null
+	 */
+	private ViewMatcher (View fromView, View toView, Map<Node, Node> partialMatch, BiPredicate<Node, Node> nodeFilter) {
+
+		List<Node> patternNodes = fromView.graph.getNodes();
+		List<Node> targetNodes = toView.graph.getNodes();
+
+		this.patternNeighbours = computeNeighbours(fromView);
+		this.targetNeighbours = computeNeighbours(toView);
+		this.targetEdges = new HashMap<>();
+		this.acceptedImages = nodeFilter == null ? null : new HashMap<>();
+
+		// only the non-dangling edges of the graph are relevant, the nodes may still reference removed edges
+		Map<Node, List<Edge>> patternEdges = new HashMap<>();
+		for (Edge edge : fromView.graph.getEdges()) {
+			if (patternNeighbours.containsKey(edge.getSource()) && patternNeighbours.containsKey(edge.getTarget())) {
+				patternEdges.computeIfAbsent(edge.getSource(), node -> new ArrayList<>()).add(edge);
+				if (edge.getSource() != edge.getTarget())
+					patternEdges.computeIfAbsent(edge.getTarget(), node -> new ArrayList<>()).add(edge);
+			}
+		}
+
+		for (Edge edge : toView.graph.getEdges()) {
+			if (targetNeighbours.containsKey(edge.getSource()) && targetNeighbours.containsKey(edge.getTarget())) {
+				targetEdges.computeIfAbsent(edge.getSource(), node -> new HashMap<>()).
+					computeIfAbsent(edge.getTarget(), node -> new HashSet<>()).add(edge.getType());
+			}
+		}
+
+		// find the candidates of each pattern node by its type
+
+		Map<EClass, List<Node>> targetNodesByType = new HashMap<>();
+		targetNodes.forEach(node -> targetNodesByType.computeIfAbsent(node.getType(), type -> new ArrayList<>()).add(node));
+
+		Map<Node, List<Node>> candidatesByNode = new HashMap<>();
+		Map<EClass, List<Node>> candidatesByType = new HashMap<>();
+
+		for (Node patternNode : patternNodes) {
+
+			List<Node> candidates;
+
+			if (partialMatch.containsKey(patternNode)) {
+				Node image = partialMatch.get(patternNode);
+				candidates = targetNeighbours.containsKey(image) ? List.of(image) : List.of();
+			} else {
+				candidates = candidatesByType.computeIfAbsent(patternNode.getType(), type -> {
+					List<Node> nodesOfType = new ArrayList<>();
+					targetNodesByType.forEach((targetType, nodes) -> {
+						if (type.isSuperTypeOf(targetType)) nodesOfType.addAll(nodes);
+					});
+					return nodesOfType;
+				});
+			}
+
+			// the filter is applied once per pair of nodes, so that the candidates are ordered by their actual number
+			if (nodeFilter != null) {
+				candidates = candidates.stream().filter(candidate -> nodeFilter.test(patternNode, candidate)).collect(Collectors.toList());
+				acceptedImages.put(patternNode, new HashSet<>(candidates));
+			}
+
+			candidatesByNode.put(patternNode, candidates);
+
+		}
+
+		// order the pattern nodes
+
+		int size = patternNodes.size();
+		this.order = new Node[size];
+		this.anchors = new int[size];
+		this.backEdges = new ArrayList<>(size);
+		this.typeCandidates = new ArrayList<>(size);
+
+		Map<Node, Integer> positions = new HashMap<>();
+		Map<Node, Integer> connectionsToOrdered = new HashMap<>();
+		Set<Node> unordered = new HashSet<>(patternNodes);
+		
+		// the fixed nodes come first, so a total partial match is ordered in linear time
+		Iterator<Node> fixedNodes = patternNodes.stream().filter(partialMatch::containsKey).iterator();
+		int fixed = 0;
+
+		for (int position = 0; position < size; position++) {
+
+			Node next = null;
+
+			if (fixedNodes.hasNext()) {
+				next = fixedNodes.next();
+				fixed++;
+			} else {
+				for (Node candidate : patternNodes) {
+					if (!unordered.contains(candidate)) continue;
+					if (next == null || isMoreConstrained(candidate, next, connectionsToOrdered, candidatesByNode)) next = candidate;
+				}
+			}
+
+			unordered.remove(next);
+			positions.put(next, position);
+			order[position] = next;
+			typeCandidates.add(candidatesByNode.get(next));
+
+			anchors[position] = -1;
+
+			// prefer the fixed node as anchor, otherwise the first found neighbour
+			for (Node neighbour : patternNeighbours.get(next)) {
+				Integer neighbourPosition = positions.get(neighbour);
+				if (neighbourPosition != null && neighbourPosition != position &&
+						(anchors[position] == -1 || partialMatch.containsKey(neighbour)))
+					anchors[position] = neighbourPosition;
+				if (unordered.contains(neighbour)) connectionsToOrdered.merge(neighbour, 1, Integer::sum);
+			}
+
+			if (partialMatch.containsKey(next)) anchors[position] = -1;
+
+			List<Edge> edgesToOrdered = new ArrayList<>();
+			for (Edge edge : patternEdges.getOrDefault(next, Collections.emptyList())) {
+				if (positions.containsKey(edge.getSource()) && positions.containsKey(edge.getTarget())) edgesToOrdered.add(edge);
+			}
+			backEdges.add(edgesToOrdered);
+
+		}
+
+		this.numberOfFixedNodes = fixed;
+
+	}
+
+	/**
+	 * @return Returns whether the {@link Node candidate} should be matched before the {@link Node other} one.
+	 * {@link Node Nodes} with at most one candidate come first, then {@link Node nodes} with more connections to already ordered ones, then those with
+	 * fewer candidates and finally those with more neighbours.
+	 */
+	private boolean isMoreConstrained (Node candidate, Node other, Map<Node, Integer> connectionsToOrdered, Map<Node, List<Node>> candidatesByNode) {
+
+		int candidatesOfCandidate = candidatesByNode.get(candidate).size();
+		int candidatesOfOther = candidatesByNode.get(other).size();
+
+		if ((candidatesOfCandidate <= 1) != (candidatesOfOther <= 1)) return candidatesOfCandidate <= 1;
+
+		int connectionsOfCandidate = connectionsToOrdered.getOrDefault(candidate, 0);
+		int connectionsOfOther = connectionsToOrdered.getOrDefault(other, 0);
+
+		if (connectionsOfCandidate != connectionsOfOther) return connectionsOfCandidate > connectionsOfOther;
+		if (candidatesOfCandidate != candidatesOfOther) return candidatesOfCandidate < candidatesOfOther;
+		return patternNeighbours.get(candidate).size() > patternNeighbours.get(other).size();
+
+	}
+
+	/**
+	 * @param view the {@link View view} to compute the neighbours in
+	 * @return Returns a {@link Map map} from each {@link Node node} of the {@link View#graph graph} to the {@link Node nodes}
+	 * connected to it by a non-dangling {@link Edge edge}. The neighbours are ordered like the {@link Edge edges} of the
+	 * {@link View#graph graph} so that the order of the found matches is reproducible.
+	 */
+	private static Map<Node, List<Node>> computeNeighbours (View view) {
+
+		Map<Node, Set<Node>> neighbours = new HashMap<>();
+		view.graph.getNodes().forEach(node -> neighbours.put(node, new LinkedHashSet<>()));
+
+		for (Edge edge : view.graph.getEdges()) {
+			Set<Node> sourceNeighbours = neighbours.get(edge.getSource());
+			Set<Node> targetNeighbours = neighbours.get(edge.getTarget());
+			if (sourceNeighbours == null || targetNeighbours == null || edge.getSource() == edge.getTarget()) continue;
+			sourceNeighbours.add(edge.getTarget());
+			targetNeighbours.add(edge.getSource());
+		}
+
+		Map<Node, List<Node>> neighbourLists = new HashMap<>();
+		neighbours.forEach((node, neighboursOfNode) -> neighbourLists.put(node, new ArrayList<>(neighboursOfNode)));
+		return neighbourLists;
+
+	}
+
+	/**
+	 * Checks whether the target contains an {@link Edge edge} of the given type between the given {@link Node nodes}
+	 * or an {@link Edge edge} of the opposite type in the reverse direction.
+	 */
+	private boolean targetContainsEdge (Node source, Node target, EReference type) {
+
+		Map<Node, Set<EReference>> edgesFromSource = targetEdges.getOrDefault(source, Collections.emptyMap());
+		if (edgesFromSource.getOrDefault(target, Collections.emptySet()).contains(type)) return true;
+
+		if (type.getEOpposite() == null) return false;
+
+		Map<Node, Set<EReference>> edgesFromTarget = targetEdges.getOrDefault(target, Collections.emptyMap());
+		return edgesFromTarget.getOrDefault(source, Collections.emptySet()).contains(type.getEOpposite());
+
+	}
+
+	/**
+	 * Checks whether the pattern {@link Node node} at the given position can be mapped to the {@link Node candidate}.
+	 * @param position the position of the pattern {@link Node node} in the {@link ViewMatcher#order order}
+	 * @param candidate a {@link Node node} of the target
+	 * @param match the current match, all pattern {@link Node nodes} before the position are mapped
+	 * @param used the {@link Node nodes} of the target used in the current match
+	 */
+	private boolean isFeasible (int position, Node candidate, Map<Node, Node> match, Set<Node> used) {
+
+		Node patternNode = order[position];
+
+		if (used.contains(candidate)) return false;
+		if (!patternNode.getType().isSuperTypeOf(candidate.getType())) return false;
+		if (acceptedImages != null && !acceptedImages.get(patternNode).contains(candidate)) return false;
+		if (patternNeighbours.get(patternNode).size() > targetNeighbours.get(candidate).size()) return false;
+
+		for (Edge edge : backEdges.get(position)) {
+			Node source = edge.getSource() == patternNode ? candidate : match.get(edge.getSource());
+			Node target = edge.getTarget() == patternNode ? candidate : match.get(edge.getTarget());
+			if (!targetContainsEdge(source, target, edge.getType())) return false;
+		}
+
+		return true;
+
+	}
+
+	/**
+	 * @param position the position of the pattern {@link Node node} in the {@link ViewMatcher#order order}
+	 * @param match the current match, all pattern {@link Node nodes} before the position are mapped
+	 * @return Returns the {@link Node nodes} of the target to try for the pattern {@link Node node} at the given position.
+	 */
+	private List<Node> getCandidates (int position, Map<Node, Node> match) {
+		if (anchors[position] == -1) return typeCandidates.get(position);
+		return targetNeighbours.get(match.get(order[anchors[position]]));
+	}
+
+	/**
+	 * @param splitPosition a position in the {@link ViewMatcher#order order} after the {@link ViewMatcher#numberOfFixedNodes fixed nodes}
+	 * @return Returns the candidates of the pattern {@link Node node} at the given position, they only depend on the fixed {@link Node nodes}.
+	 */
+	private List<Node> getSplitCandidates (int splitPosition) {
+
+		if (anchors[splitPosition] == -1) return typeCandidates.get(splitPosition);
+
+		List<Node> imageOfAnchor = typeCandidates.get(anchors[splitPosition]);
+		if (imageOfAnchor.isEmpty()) return Collections.emptyList();
+		return targetNeighbours.get(imageOfAnchor.get(0));
+
+	}
+
+	/**
+	 * Enumerates all matches lazily.
+	 * @return Returns an {@link Iterator} of matches, each being a new {@link Map map} from all {@link Node nodes} of the pattern
+	 * to {@link Node nodes} of the target.
+	 */
+	private Iterator<Map<Node, Node>> iterator () {
+		return iterator(-1, null, null);
+	}
+
+	/**
+	 * Enumerates all matches lazily that map the pattern {@link Node node} at the given position to the given {@link Node candidate}.
+	 * The matcher is not altered by the enumeration, so that multiple {@link Iterator iterators} may be used concurrently.
+	 * @param splitPosition a position in the {@link ViewMatcher#order order} or -1 to enumerate all matches
+	 * @param splitCandidate the only candidate of the pattern {@link Node node} at the {@code splitPosition}
+	 * @param stop a condition checked before each candidate is tried, the enumeration ends as soon as it is true, may be null
+	 * @return Returns an {@link Iterator} of matches, each being a new {@link Map map} from all {@link Node nodes} of the pattern
+	 * to {@link Node nodes} of the target.
+	 */
+	private Iterator<Map<Node, Node>> iterator (int splitPosition, Node splitCandidate, BooleanSupplier stop) {
+		return new Iterator<Map<Node,Node>>() {
+
+			boolean computedNextMatch = false;
+			Map<Node, Node> nextMatch = null;
+
+			/**
+			 * The candidates for each position that have been computed so far.
+			 */
+			final List<List<Node>> candidates = new ArrayList<>();
+
+			/**
+			 * The index of the currently used candidate for each position.
+			 */
+			final int[] candidateIndices = new int[order.length];
+
+			final Map<Node, Node> match = new HashMap<>();
+			final Set<Node> used = new HashSet<>();
+
+			/**
+			 * Whether the search has been started, the empty pattern has exactly one match.
+			 */
+			boolean started = false;
+			boolean finished = false;
+
+			@Override
+			public boolean hasNext() {
+
+				if (!computedNextMatch) {
+					computeNextMatch();
+					computedNextMatch = true;
+				}
+
+				return (nextMatch != null);
+
+			}
+
+			@Override
+			public Map<Node, Node> next() {
+
+				if (hasNext()) {
+					computedNextMatch = false;
+				}
+
+				return nextMatch;
+
+			}
+
+			private void computeNextMatch () {
+
+				if (finished) {
+					nextMatch = null;
+					return;
+				}
+
+				int position;
+
+				if (!started) {
+					started = true;
+					if (order.length == 0) {
+						finished = true;
+						nextMatch = new HashMap<>();
+						return;
+					}
+					candidates.add(getCandidatesOfPosition(0));
+					candidateIndices[0] = -1;
+					position = 0;
+				} else {
+					// continue after the last found match
+					position = order.length - 1;
+					unassign(position);
+				}
+
+				while (position >= 0) {
+
+					List<Node> candidatesOfPosition = candidates.get(position);
+					int index = candidateIndices[position] + 1;
+
+					while (index < candidatesOfPosition.size()) {
+						if (stop != null && stop.getAsBoolean()) {
+							finished = true;
+							nextMatch = null;
+							return;
+						}
+						if (isFeasible(position, candidatesOfPosition.get(index), match, used)) break;
+						index++;
+					}
+
+					if (index >= candidatesOfPosition.size()) {
+						// backtrack
+						candidates.remove(position);
+						position--;
+						if (position >= 0) unassign(position);
+						continue;
+					}
+
+					candidateIndices[position] = index;
+					match.put(order[position], candidatesOfPosition.get(index));
+					used.add(candidatesOfPosition.get(index));
+
+					if (position == order.length - 1) {
+						nextMatch = new HashMap<>(match);
+						return;
+					}
+
+					position++;
+					candidates.add(getCandidatesOfPosition(position));
+					candidateIndices[position] = -1;
+
+				}
+
+				finished = true;
+				nextMatch = null;
+
+			}
+
+			private void unassign (int position) {
+				Node image = match.remove(order[position]);
+				if (image != null) used.remove(image);
+			}
+
+			private List<Node> getCandidatesOfPosition (int position) {
+				if (position == splitPosition) return List.of(splitCandidate);
+				return getCandidates(position, match);
+			}
+
+		};
+	}
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} that preserve the types of the {@link Node nodes} and all {@link Edge edges} of the {@link View fromView}.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @param partialMatch a {@link Map map} of {@link Node nodes} from the {@link View fromView} to {@link Node nodes} of the
+	 * {@link View toView} that all matches have to comply to
+	 * @return Returns an {@link Iterator} of all matches as described above. The matches are computed lazily, each one is
+	 * a new {@link Map map}.
+	 * @throws IllegalArgumentException if one of the parameters is null
+	 */
+	public static Iterator<Map<Node, Node>> getMatchIterator (View fromView, View toView, Map<Node, Node> partialMatch) throws IllegalArgumentException {
+
+		if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
+		if (toView == null) throw new IllegalArgumentException("The toView must not be null.");
+		if (partialMatch == null) throw new IllegalArgumentException("The partialMatch must not be null.");
+
+		return new ViewMatcher(fromView, toView, partialMatch, null).iterator();
+
+	}
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} like {@link ViewMatcher#getMatchIterator(View, View, Map)} but ends the enumeration as soon as the
+	 * given condition is true. The condition is checked before each candidate of a pattern {@link Node node} is tried,
+	 * so that the search can be stopped within the enumeration of a single match.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @param partialMatch a {@link Map map} of {@link Node nodes} from the {@link View fromView} to {@link Node nodes} of the
+	 * {@link View toView} that all matches have to comply to
+	 * @param stop the condition to end the enumeration
+	 * @return Returns an {@link Iterator} of the matches found before the condition became true.
+	 * @throws IllegalArgumentException if one of the parameters is null
+	 */
+	public static Iterator<Map<Node, Node>> getMatchIterator (View fromView, View toView, Map<Node, Node> partialMatch, BooleanSupplier stop) throws IllegalArgumentException {
+
+		if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
+		if (toView == null) throw new IllegalArgumentException("The toView must not be null.");
+		if (partialMatch == null) throw new IllegalArgumentException("The partialMatch must not be null.");
+		if (stop == null) throw new IllegalArgumentException("The stop must not be null.");
+
+		return new ViewMatcher(fromView, toView, partialMatch, null).iterator(-1, null, stop);
+
+	}
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} that preserve the types of the {@link Node nodes} and all {@link Edge edges} of the {@link View fromView}.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @return Returns an {@link Iterator} of all matches as described above. The matches are computed lazily, each one is
+	 * a new {@link Map map}.
+	 * @throws IllegalArgumentException if one of the parameters is null
+	 */
+	public static Iterator<Map<Node, Node>> getMatchIterator (View fromView, View toView) throws IllegalArgumentException {
+		return getMatchIterator(fromView, toView, Collections.emptyMap());
+	}
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} like {@link ViewMatcher#getMatchIterator(View, View)} that additionally map each {@link Node node}
+	 * only to {@link Node nodes} accepted by the given filter. The filter is evaluated once for each pattern {@link Node node}
+	 * and each target {@link Node node} of a suitable type before the search, so that rejected candidates are never tried.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @param nodeFilter the condition a pattern {@link Node node} and its image must satisfy
+	 * @return Returns an {@link Iterator} of all matches as described above. The matches are computed lazily, each one is
+	 * a new {@link Map map}.
+	 * @throws IllegalArgumentException if one of the parameters is null
+	 */
+	public static Iterator<Map<Node, Node>> getMatchIterator (View fromView, View toView, BiPredicate<Node, Node> nodeFilter) throws IllegalArgumentException {
+
+		if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
+		if (toView == null) throw new IllegalArgumentException("The toView must not be null.");
+		if (nodeFilter == null) throw new IllegalArgumentException("The nodeFilter must not be null.");
+
+		return new ViewMatcher(fromView, toView, Collections.emptyMap(), nodeFilter).iterator();
+
+	}
+
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} like {@link ViewMatcher#getMatchIterator(View, View, Map)} but enumerates them in parallel.
+	 * The search space is split by the candidates of the first pattern {@link Node node} that is not fixed by the partial match.
+	 * Each part is searched by a task on the given {@link ForkJoinPool pool} and the found matches are passed to the returned
+	 * {@link Iterator} through a bounded queue, so that the workers pause if the matches are not consumed. If the returned
+	 * {@link Iterator} becomes unreachable before all matches have been consumed, the workers stop.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @param partialMatch a {@link Map map} of {@link Node nodes} from the {@link View fromView} to {@link Node nodes} of the
+	 * {@link View toView} that all matches have to comply to
+	 * @param pool the {@link ForkJoinPool pool} to run the workers on
+	 * @param capacity the maximal number of found matches waiting to be consumed
+	 * @return Returns an {@link Iterator} of all matches as described above. Unlike the sequential {@link Iterator} the order of the
+	 * matches is not reproducible.
+	 * @throws IllegalArgumentException if one of the parameters is null or the capacity is not positive
+	 */
+	public static Iterator<Map<Node, Node>> getParallelMatchIterator (View fromView, View toView, Map<Node, Node> partialMatch,
+			ForkJoinPool pool, int capacity) throws IllegalArgumentException {
+		return getParallelMatchIterator(fromView, toView, partialMatch, pool, capacity, () -> false);
+	}
+
+	/**
+	 * Finds all injective maps from the {@link Node nodes} of the {@link View fromView} to the {@link Node nodes} of the
+	 * {@link View toView} like {@link ViewMatcher#getParallelMatchIterator(View, View, Map, ForkJoinPool, int)} but ends the
+	 * enumeration as soon as the given condition is true. The condition is checked by the workers before each candidate of a
+	 * pattern {@link Node node} is tried and by the returned {@link Iterator} before each match, so that it may be called
+	 * concurrently by multiple threads.
+	 * @param fromView the {@link View view} containing the pattern, it must not be altered while the {@link Iterator} is used
+	 * @param toView the {@link View view} to find the pattern in, it must not be altered while the {@link Iterator} is used
+	 * @param partialMatch a {@link Map map} of {@link Node nodes} from the {@link View fromView} to {@link Node nodes} of the
+	 * {@link View toView} that all matches have to comply to
+	 * @param pool the {@link ForkJoinPool pool} to run the workers on
+	 * @param capacity the maximal number of found matches waiting to be consumed
+	 * @param stop the condition to end the enumeration, it must be thread-safe
+	 * @return Returns an {@link Iterator} of the matches found before the condition became true.
+	 * @throws IllegalArgumentException if one of the parameters is null or the capacity is not positive
+	 */
+	public static Iterator<Map<Node, Node>> getParallelMatchIterator (View fromView, View toView, Map<Node, Node> partialMatch,
+			ForkJoinPool pool, int capacity, BooleanSupplier stop) throws IllegalArgumentException {
+
+		if (fromView == null) throw new IllegalArgumentException("The fromView must not be null.");
+		if (toView == null) throw new IllegalArgumentException("The toView must not be null.");
+		if (partialMatch == null) throw new IllegalArgumentException("The partialMatch must not be null.");
+		if (pool == null) throw new IllegalArgumentException("The pool must not be null.");
+		if (capacity < 1) throw new IllegalArgumentException("The capacity must be positive.");
+		if (stop == null) throw new IllegalArgumentException("The stop must not be null.");
+
+		ViewMatcher matcher = new ViewMatcher(fromView, toView, partialMatch, null);
+
+		// there is nothing to split if all nodes are fixed
+		if (matcher.numberOfFixedNodes >= matcher.order.length) return matcher.iterator(-1, null, stop);
+
+		List<Node> splitCandidates = matcher.getSplitCandidates(matcher.numberOfFixedNodes);
+		if (splitCandidates.isEmpty()) return Collections.emptyIterator();
+
+		return new ParallelMatchIterator(matcher, splitCandidates, pool, capacity, stop);
+
+	}
+
+	/**
+	 * An {@link Iterator} over the matches found by workers on a {@link ForkJoinPool}.
+	 * The workers only hold a {@link WeakReference weak reference} to the {@link Iterator} to detect if it has been abandoned.
+	 * They stop as soon as the {@link Iterator} has been abandoned, the given condition is true or one of them failed.
+	 * After the last worker ended, the {@link ParallelMatchIterator#done done-flag} is set, so that the {@link Iterator}
+	 * ends once the queue is empty, even if the {@link ParallelMatchIterator#END end marker} couldn't be enqueued.
+	 */
+	private static class ParallelMatchIterator implements Iterator<Map<Node, Node>> {
+
+		/**
+		 * Wakes the consumer up after all workers are done.
+		 */
+		private static final Map<Node, Node> END = Collections.unmodifiableMap(new HashMap<>());
+
+		/**
+		 * The time in milliseconds a worker or the consumer waits for the queue before it checks whether it should stop.
+		 */
+		private static final long POLL_TIMEOUT = 100;
+
+		private final BlockingQueue<Map<Node, Node>> queue;
+
+		private final AtomicReference<Throwable> failure;
+
+		/**
+		 * Set by the consumer to stop all workers.
+		 */
+		private final AtomicBoolean cancelled;
+
+		/**
+		 * Set after all workers are done and no more matches are put into the queue.
+		 */
+		private final AtomicBoolean done;
+
+		private final BooleanSupplier stop;
+
+		private boolean computedNextMatch = false;
+		private Map<Node, Node> nextMatch = null;
+		private boolean finished = false;
+
+		private ParallelMatchIterator (ViewMatcher matcher, List<Node> splitCandidates, ForkJoinPool pool, int capacity, BooleanSupplier stop) {
+
+			BlockingQueue<Map<Node, Node>> queue = new ArrayBlockingQueue<>(capacity);
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+			AtomicBoolean cancelled = new AtomicBoolean(false);
+			AtomicBoolean done = new AtomicBoolean(false);
+			AtomicInteger runningWorkers = new AtomicInteger(splitCandidates.size());
+			WeakReference<ParallelMatchIterator> consumer = new WeakReference<>(this);
+			int splitPosition = matcher.numberOfFixedNodes;
+
+			// the workers must not reference this iterator, otherwise it would never become unreachable
+			BooleanSupplier workerStop = () -> cancelled.get() || failure.get() != null || consumer.get() == null || stop.getAsBoolean();
+
+			this.queue = queue;
+			this.failure = failure;
+			this.cancelled = cancelled;
+			this.done = done;
+			this.stop = stop;
+
+			for (Node splitCandidate : splitCandidates) {
+				pool.execute(() -> {
+					try {
+						Iterator<Map<Node, Node>> matchIterator = matcher.iterator(splitPosition, splitCandidate, workerStop);
+						while (matchIterator.hasNext() && put(queue, matchIterator.next(), workerStop)) {}
+					} catch (Throwable throwable) {
+						failure.compareAndSet(null, throwable);
+					} finally {
+						if (runningWorkers.decrementAndGet() == 0) {
+							done.set(true);
+							// the consumer also ends on the done-flag, so the end marker may be dropped if the queue is full
+							queue.offer(END);
+						}
+					}
+				});
+			}
+
+		}
+
+		/**
+		 * Puts the element into the queue, waiting for space if necessary.
+		 * @return Returns false if the element couldn't be put because the worker should stop or the thread has been interrupted.
+		 */
+		private static boolean put (BlockingQueue<Map<Node, Node>> queue, Map<Node, Node> element, BooleanSupplier stop) {
+
+			if (queue.offer(element)) return true;
+
+			// let the pool compensate for the blocked worker, so that the consumer may run on the same pool
+			boolean[] isPut = {false};
+
+			try {
+				ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+					@Override
+					public boolean block() throws InterruptedException {
+						isPut[0] = queue.offer(element, POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+						return isPut[0] || stop.getAsBoolean();
+					}
+
+					@Override
+					public boolean isReleasable() {
+						if (!isPut[0]) isPut[0] = queue.offer(element);
+						return isPut[0] || stop.getAsBoolean();
+					}
+
+				});
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return isPut[0];
+
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (!computedNextMatch) {
+				computeNextMatch();
+				computedNextMatch = true;
+			}
+
+			return (nextMatch != null);
+
+		}
+
+		@Override
+		public Map<Node, Node> next() {
+
+			if (hasNext()) {
+				computedNextMatch = false;
+			}
+
+			return nextMatch;
+
+		}
+
+		private void computeNextMatch () {
+
+			nextMatch = null;
+
+			if (finished) return;
+
+			if (stop.getAsBoolean()) {
+				finish();
+				return;
+			}
+
+			// let the pool compensate for the waiting consumer, so that the workers may run if it is called on the same pool
+			AtomicReference<Map<Node, Node>> polled = new AtomicReference<>();
+
+			try {
+				ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+
+					@Override
+					public boolean block() throws InterruptedException {
+						polled.set(queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS));
+						return isReleasable();
+					}
+
+					@Override
+					public boolean isReleasable() {
+						if (polled.get() == null) polled.set(queue.poll());
+						return polled.get() != null || (done.get() && queue.isEmpty()) || failure.get() != null || stop.getAsBoolean();
+					}
+
+				});
+			} catch (InterruptedException e) {
+				finish();
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the next match.", e);
+			}
+
+			if (failure.get() != null) {
+				finish();
+				throw new IllegalStateException("A worker failed to enumerate the matches.", failure.get());
+			}
+
+			if (polled.get() == null || polled.get() == END) {
+				finish();
+			} else {
+				nextMatch = polled.get();
+			}
+
+		}
+
+		/**
+		 * Ends the iteration and stops the workers.
+		 */
+		private void finish () {
+			finished = true;
+			cancelled.set(true);
+			queue.clear();
+		}
+
+	}
+
+}
@@ -0,0 +1,199 @@
+package crossover;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.henshin.model.resource.HenshinResourceSet;
+
+import view.View;
+import view.ViewSetOperationException;
+
+/**
+ * A simple microbenchmark of the {@link Crossover}. It is not a test and has to be run manually by its main method
+ * from the project directory. Each measurement is repeated after a warm up and the mean time per operation is printed.
+ *
+ * @author Benjamin Wagner
+ */
+public class CrossoverBenchmark {
+
+	private static final int WARM_UP_ITERATIONS = 50;
+	private static final int ITERATIONS = 500;
+
+	private static final int OUTPUT_CROSSOVER_PAIRS = 1000;
+	private static final int OUTPUT_WARM_UP_ROUNDS = 1;
+	private static final int OUTPUT_ROUNDS = 3;
+
+	public static void main (String[] args) throws CrossoverUsageException, ViewSetOperationException, IOException {
+
+		HenshinResourceSet resourceSet = new HenshinResourceSet("test/resources");
+		Resource craEcore = resourceSet.getResource("CRA.ecore");
+		Resource craInstanceOne = resourceSet.getResource("CRAInstanceOne.xmi");
+		Resource craInstanceTwo = resourceSet.getResource("CRAInstanceTwo.xmi");
+
+		// complete crossovers with a new engine per crossover pair and with reused engines
+
+		Crossover crossoverWithNewEngines = createCrossover(craEcore, craInstanceOne, craInstanceTwo);
+		crossoverWithNewEngines.setEngineProvider(new EngineProvider(1));
+
+		measure("crossover with an engine per crossover pair", () -> {
+			for (@SuppressWarnings("unused") Pair<Resource, Resource> pair : crossoverWithNewEngines) {}
+		});
+
+		Crossover crossover = createCrossover(craEcore, craInstanceOne, craInstanceTwo);
+		crossover.setEngineProvider(new EngineProvider(EngineProvider.DEFAULT_MAX_USES));
+
+		measure("crossover with engines reused per thread", () -> {
+			for (@SuppressWarnings("unused") Pair<Resource, Resource> pair : crossover) {}
+		});
+
+		// writing offsprings to the disk
+
+		Pair<Resource, Resource> offsprings = crossover.iterator().next();
+
+		measureOffspringOutput("default whenDone-function (saveEObject, XMI)", (outputDirectory, crossoverPairs) -> {
+			HenshinResourceSet outputResourceSet = new HenshinResourceSet(outputDirectory.getPath());
+			for (int i = 0; i < crossoverPairs.size(); i++) {
+				outputResourceSet.saveEObject(crossoverPairs.get(i).getFirst().getContents().get(0), "offspringNo" + i + "First.xmi");
+				outputResourceSet.saveEObject(crossoverPairs.get(i).getSecond().getContents().get(0), "offspringNo" + i + "Second.xmi");
+			}
+		}, offsprings);
+
+		// unlike the default whenDone-function, the writer also syncs the files to the disk before close returns
+		measureOffspringOutput("OffspringWriter (BINARY)", (outputDirectory, crossoverPairs) -> {
+			try (OffspringWriter writer = new OffspringWriter(outputDirectory, OutputFormat.BINARY, 64, 2, 64)) {
+				for (int i = 0; i < crossoverPairs.size(); i++) {
+					writer.accept(crossoverPairs.get(i), Pair.of("offspring", i));
+				}
+			}
+		}, offsprings);
+
+	}
+
+	/**
+	 * A way of writing crossover {@link Pair pairs} to the disk.
+	 */
+	private interface OffspringOutput {
+
+		/**
+		 * Writes both offsprings of each crossover {@link Pair pair} to a file in the output directory.
+		 * The method returns when all files are written.
+		 */
+		void write (File outputDirectory, List<Pair<Resource, Resource>> crossoverPairs) throws IOException;
+
+	}
+
+	/**
+	 * Measures writing {@link CrossoverBenchmark#OUTPUT_CROSSOVER_PAIRS} copies of the given crossover {@link Pair pair} to a new temporary
+	 * directory with the given {@link OffspringOutput output} after a warm up. It prints the mean time per offspring and the mean size of
+	 * the written files. The copies are created before the time is taken.
+	 * @param name the name of the {@link OffspringOutput output}
+	 * @param output the {@link OffspringOutput output} to measure
+	 * @param offsprings the crossover {@link Pair pair} to copy
+	 */
+	private static void measureOffspringOutput (String name, OffspringOutput output, Pair<Resource, Resource> offsprings) throws IOException {
+
+		long duration = 0;
+		long bytes = 0;
+		long files = 0;
+
+		for (int round = 0; round < OUTPUT_WARM_UP_ROUNDS + OUTPUT_ROUNDS; round++) {
+
+			List<Pair<Resource, Resource>> crossoverPairs = new ArrayList<>(OUTPUT_CROSSOVER_PAIRS);
+			for (int i = 0; i < OUTPUT_CROSSOVER_PAIRS; i++) {
+				crossoverPairs.add(Pair.of(copy(offsprings.getFirst()), copy(offsprings.getSecond())));
+			}
+
+			Path outputDirectory = Files.createTempDirectory("offsprings");
+
+			try {
+
+				long start = System.nanoTime();
+				output.write(outputDirectory.toFile(), crossoverPairs);
+				long roundDuration = System.nanoTime() - start;
+
+				if (round >= OUTPUT_WARM_UP_ROUNDS) {
+					duration += roundDuration;
+					try (Stream<Path> writtenFiles = Files.list(outputDirectory)) {
+						for (Path file : (Iterable<Path>) writtenFiles::iterator) {
+							bytes += Files.size(file);
+							files++;
+						}
+					}
+				}
+
+			} finally {
+				try (Stream<Path> writtenFiles = Files.list(outputDirectory)) {
+					for (Path file : (Iterable<Path>) writtenFiles::iterator) Files.delete(file);
+				}
+				Files.delete(outputDirectory);
+			}
+
+		}
+
+		System.out.println(String.format(Locale.ROOT, "%-50s %12.1f us/offspring", name, duration / 1000.0 / files));
+		System.out.println(String.format(Locale.ROOT, "%-50s %12d bytes/offspring", name, bytes / files));
+
+	}
+
+	/**
+	 * @return Returns a {@link Resource resource} that is not contained in a {@link ResourceSet resource set} with a copy of the contents of the given one.
+	 */
+	private static Resource copy (Resource resource) {
+		Resource copy = new ResourceImpl();
+		copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+		return copy;
+	}
+
+	/**
+	 * Creates a {@link Crossover} of the given CRA instances with the features of the class model as the problem part.
+	 */
+	private static Crossover createCrossover (Resource craEcore, Resource craInstanceOne, Resource craInstanceTwo) throws CrossoverUsageException, ViewSetOperationException {
+
+		EClass classModelEClass = (EClass) craEcore.getEObject("//ClassModel");
+		EClass attributeEClass = (EClass) craEcore.getEObject("//Attribute");
+		EClass methodEClass = (EClass) craEcore.getEObject("//Method");
+
+		List<EClass> problemPartEClasses = List.of(classModelEClass, attributeEClass, methodEClass);
+		List<EReference> problemPartEReferences = List.of(
+				(EReference) classModelEClass.getEStructuralFeature("features"),
+				(EReference) methodEClass.getEStructuralFeature("dataDependency"),
+				(EReference) methodEClass.getEStructuralFeature("functionalDependency")
+		);
+
+		Strategy problemPartSplitStrategy = (View view) -> view.reduce(attributeEClass);
+
+		return new Crossover(craEcore, Pair.of(craInstanceOne, craInstanceTwo), problemPartSplitStrategy,
+				problemPartEClasses, problemPartEReferences, Crossover.DEFAULT_STRATEGY);
+
+	}
+
+	/**
+	 * Runs the operation {@link CrossoverBenchmark#WARM_UP_ITERATIONS} times and then measures {@link CrossoverBenchmark#ITERATIONS} runs.
+	 * @param name the name of the operation
+	 * @param operation the operation to measure
+	 */
+	private static void measure (String name, Runnable operation) {
+
+		for (int i = 0; i < WARM_UP_ITERATIONS; i++) operation.run();
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) operation.run();
+		long duration = System.nanoTime() - start;
+
+		System.out.println(String.format(Locale.ROOT, "%-50s %12.1f us/op", name, duration / 1000.0 / ITERATIONS));
+
+	}
+
+}
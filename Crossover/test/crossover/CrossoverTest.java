@@ -6,6 +6,9 @@ package crossover;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -13,27 +16,47 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.henshin.interpreter.EGraph;
 import org.eclipse.emf.henshin.interpreter.Engine;
 import org.eclipse.emf.henshin.interpreter.Match;
 import org.eclipse.emf.henshin.interpreter.impl.EGraphImpl;
 import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
+import org.eclipse.emf.henshin.model.Graph;
 import org.eclipse.emf.henshin.model.Mapping;
 import org.eclipse.emf.henshin.model.Node;
 import org.eclipse.emf.henshin.model.Rule;
@@ -55,11 +78,10 @@ import view.ViewSetOperationException;
 class CrossoverTest extends TestResources {
 	
 	/**
-	 * Test method for {@link Crossover#findBorder(Resource,List,List)}.
+	 * Test method for {@link CrossoverContext#getProblemBorder()}.
 	 */
 	@Test
-	final void testFindBorder() throws ClassNotFoundException, InstantiationException, IllegalAccessException,
-								NoSuchMethodException, SecurityException, IllegalArgumentException, InvocationTargetException {
+	final void testFindBorder() throws CrossoverUsageException {
 		
 		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "NamedElement", "ClassModel", "Class", "Feature", "Attribute", "Method");
 		// EClass namedElementEClass = eClasses[0];
@@ -97,25 +119,15 @@ class CrossoverTest extends TestResources {
 	}
 	
 	/**
-	 * Runs the {@link Crossover#findBorder} method with the given {@link EClass eClasses} and {@link EReference eReferences}.
+	 * Computes the border of a {@link CrossoverContext} with the given {@link EClass eClasses} and {@link EReference eReferences}.
 	 * Asserts the View to contain all of the given {@link EObject expected eObjects}.
 	 * @param problemPartEClasses the {@link EClass eClasses} of the problem part to use in the method call
 	 * @param problemPartEReferences the {@link EReference eReferences} of the problem part to use in the method call
 	 * @param expected the expected border {@link EObject eObjects}
 	 */
-	private void runFindBorder (List<EClass> problemPartEClasses, List<EReference> problemPartEReferences, List<EObject> expected) throws NoSuchMethodException, SecurityException, InstantiationException, 
-																																	IllegalAccessException, IllegalArgumentException, InvocationTargetException {
+	private void runFindBorder (List<EClass> problemPartEClasses, List<EReference> problemPartEReferences, List<EObject> expected) throws CrossoverUsageException {
 		
-		// get an instance of the private findBorder method
-		Class<Crossover> clazz = Crossover.class;
-		Constructor<Crossover> crossoverConstructor = clazz.getDeclaredConstructor(new Class[0]);
-		crossoverConstructor.setAccessible(true);
-		Crossover crossover = crossoverConstructor.newInstance();
-		Method findBorder = clazz.getDeclaredMethod("findBorder", Resource.class, List.class, List.class);
-		findBorder.setAccessible(true);
-		
-		// invoke the method
-		View view = (View) findBorder.invoke(crossover, CRA_ECORE, problemPartEClasses, problemPartEReferences);
+		View view = new CrossoverContext(CRA_ECORE, problemPartEClasses, problemPartEReferences).getProblemBorder();
 		
 		// assert
 		Collection<EObject> eObjects = view.getContainedEObjects();
@@ -123,6 +135,34 @@ class CrossoverTest extends TestResources {
 		
 	}
 	
+	/**
+	 * Test method for {@link CrossoverContext#getSubTypes(EClass)}.
+	 */
+	@Test
+	final void testGetSubTypes() throws CrossoverUsageException {
+		
+		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "NamedElement", "ClassModel", "Class", "Feature", "Attribute", "Method");
+		EClass namedElementEClass = eClasses[0];
+		EClass classModelEClass = eClasses[1];
+		EClass featureEClass = eClasses[3];
+		EClass attributeEClass = eClasses[4];
+		EClass methodEClass = eClasses[5];
+		
+		CrossoverContext context = new CrossoverContext(CRA_ECORE, List.of(classModelEClass), List.of());
+		
+		assertEquals(Set.of(attributeEClass, methodEClass), context.getSubTypes(featureEClass));
+		assertTrue(context.getSubTypes(namedElementEClass).containsAll(List.of(classModelEClass, eClasses[2], featureEClass, attributeEClass, methodEClass)));
+		assertTrue(context.getSubTypes(methodEClass).isEmpty());
+		
+		try {
+			new CrossoverContext(null, List.of(), List.of());
+			fail("Expected a CrossoverUsageException but no was thrown.");
+		} catch (CrossoverUsageException e) {
+			assertEquals("The metamodel must not be null or empty.", e.getMessage());
+		}
+		
+	}
+	
 	/**
 	 * Test method for {@link Crossover#splitProblemPart(View,View,Strategy)}.
 	 */
@@ -1354,6 +1394,796 @@ class CrossoverTest extends TestResources {
 		
 	}
 
+	/**
+	 * Test method for {@link Crossover#stream()} and {@link Crossover#parallelStream()}.
+	 * Both streams must contain the same crossover pairs as the {@link Crossover#iterator() iterator}.
+	 */
+	@Test
+	final void testStream() throws CrossoverUsageException, ViewSetOperationException {
+		
+		Crossover crossover = createCRACrossover();
+		
+		List<String> expectedPairs = new ArrayList<>();
+		crossover.forEach(pair -> expectedPairs.add(describe(pair)));
+		expectedPairs.sort(Comparator.naturalOrder());
+		
+		assertFalse(expectedPairs.isEmpty());
+		
+		List<String> pairsOfStream = crossover.stream().map(this::describe).sorted().collect(Collectors.toList());
+		assertEquals(expectedPairs, pairsOfStream);
+		
+		List<String> pairsOfParallelStream = crossover.parallelStream().map(this::describe).sorted().collect(Collectors.toList());
+		assertEquals(expectedPairs, pairsOfParallelStream);
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#deltaIterator()}. Applying the deltas must yield the same crossover pairs in the same order
+	 * as the {@link Crossover#iterator() iterator}, also if the intersection isn't empty and the containments differ between the offsprings.
+	 */
+	@Test
+	final void testDeltaIterator() throws CrossoverUsageException, ViewSetOperationException {
+		
+		assertDeltasYieldCrossoverPairs(createCRACrossover(), CRA_INSTANCE_ONE, CRA_INSTANCE_TWO);
+		
+		// the sprints are contained in the plan of the intersection and the links to them are moved by the deltas
+		Crossover crossover = createScrumPlanningCrossover();
+		assertDeltasYieldCrossoverPairs(crossover, SCRUM_PLANNIG_INSTANCE_TWO, SCRUM_PLANNIG_INSTANCE_THREE);
+		
+		Iterator<Pair<OffspringDelta, OffspringDelta>> deltaIterator = crossover.deltaIterator();
+		boolean addsContainedSprints = false;
+		
+		while (deltaIterator.hasNext()) {
+			Pair<OffspringDelta, OffspringDelta> deltaPair = deltaIterator.next();
+			for (OffspringDelta delta : List.of(deltaPair.getFirst(), deltaPair.getSecond())) {
+				addsContainedSprints |= delta.getAddedLinks().stream().anyMatch(link -> link.getEReference().isContainment() &&
+						link.getTarget().eClass().getName().equals("Sprint"));
+			}
+		}
+		
+		assertTrue(addsContainedSprints);
+		
+	}
+	
+	/**
+	 * Asserts that the deltas of the {@link Crossover#deltaIterator()} yield the crossover pairs of the {@link Crossover#iterator() iterator}
+	 * in the same order and share the removed part.
+	 * @param crossover the {@link Crossover} to check
+	 * @param searchSpaceElementOne the first search space element of the {@link Crossover}
+	 * @param searchSpaceElementTwo the second search space element of the {@link Crossover}
+	 */
+	private void assertDeltasYieldCrossoverPairs (Crossover crossover, Resource searchSpaceElementOne, Resource searchSpaceElementTwo) {
+		
+		List<String> expectedPairs = new ArrayList<>();
+		crossover.forEach(pair -> expectedPairs.add(describe(pair)));
+		assertFalse(expectedPairs.isEmpty());
+		
+		List<String> pairsOfDeltas = new ArrayList<>();
+		Set<Set<EObject>> removedObjects = new HashSet<>();
+		Iterator<Pair<OffspringDelta, OffspringDelta>> deltaIterator = crossover.deltaIterator();
+		
+		while (deltaIterator.hasNext()) {
+			
+			Pair<OffspringDelta, OffspringDelta> deltaPair = deltaIterator.next();
+			assertNotNull(deltaPair);
+			
+			// both offsprings are based on the same parent
+			assertTrue(deltaPair.getFirst().getParent() == deltaPair.getSecond().getParent());
+			assertTrue(deltaPair.getFirst().getParent() == searchSpaceElementOne || deltaPair.getFirst().getParent() == searchSpaceElementTwo);
+			removedObjects.add(deltaPair.getFirst().getRemovedObjects());
+			
+			pairsOfDeltas.add(describe(Pair.of(deltaPair.getFirst().apply(), deltaPair.getSecond().apply())));
+			
+		}
+		
+		assertEquals(expectedPairs, pairsOfDeltas);
+		
+		// the removed part is shared by all deltas
+		assertEquals(1, removedObjects.size());
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#handleIterator()}. The handles must create the same crossover pairs in the same order as the
+	 * {@link Crossover#iterator() iterator}.
+	 */
+	@Test
+	final void testHandleIterator() throws CrossoverUsageException, ViewSetOperationException {
+		
+		assertHandlesCreateCrossoverPairs(createCRACrossover());
+		assertHandlesCreateCrossoverPairs(createScrumPlanningCrossover());
+		
+	}
+	
+	/**
+	 * Asserts that the handles of the {@link Crossover#handleIterator()} create the crossover pairs of the {@link Crossover#iterator() iterator}
+	 * in the same order.
+	 * @param crossover the {@link Crossover} to check
+	 */
+	private void assertHandlesCreateCrossoverPairs (Crossover crossover) {
+		
+		List<String> expectedPairs = new ArrayList<>();
+		crossover.forEach(pair -> expectedPairs.add(describe(pair)));
+		assertFalse(expectedPairs.isEmpty());
+		
+		List<String> pairsOfHandles = new ArrayList<>();
+		Iterator<CrossoverPairHandle> handleIterator = crossover.handleIterator();
+		
+		while (handleIterator.hasNext()) {
+			
+			CrossoverPairHandle handle = handleIterator.next();
+			assertNotNull(handle);
+			assertEquals(handle.getSpan().getIntersection().getGraph().getNodes().size(), handle.getIntersectionSize());
+			assertEquals(handle.getIntersectionSize(), handle.getMapping().size());
+			
+			// the offsprings are created independently and only once
+			Resource second = handle.getSecond();
+			assertTrue(second == handle.getSecond());
+			Resource first = handle.getFirst();
+			assertTrue(first == handle.getFirst());
+			
+			pairsOfHandles.add(describe(handle.toPair()));
+			
+		}
+		
+		assertEquals(expectedPairs, pairsOfHandles);
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#distinctOutputIterator(int)}. It must emit exactly one crossover {@link Pair pair} for each
+	 * distinct pair of {@link ModelHash hashes} of the {@link Crossover#iterator() iterator}, given that there are no
+	 * hash collisions of non-isomorphic offsprings.
+	 */
+	@Test
+	final void testDistinctOutputIterator() throws CrossoverUsageException, ViewSetOperationException {
+		
+		Crossover crossover = createCRACrossover();
+		
+		Set<List<Long>> expectedHashes = new HashSet<>();
+		crossover.forEach(pair -> expectedHashes.add(List.of(ModelHash.hash(pair.getFirst()), ModelHash.hash(pair.getSecond()))));
+		
+		Set<List<Long>> hashes = new HashSet<>();
+		Iterator<Pair<Resource, Resource>> distinctOutputIterator = crossover.distinctOutputIterator(Integer.MAX_VALUE);
+		
+		while (distinctOutputIterator.hasNext()) {
+			Pair<Resource, Resource> pair = distinctOutputIterator.next();
+			assertTrue(hashes.add(List.of(ModelHash.hash(pair.getFirst()), ModelHash.hash(pair.getSecond()))));
+		}
+		
+		assertEquals(expectedHashes, hashes);
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> crossover.distinctOutputIterator(0));
+		assertEquals("The maxRememberedPairs must be positive.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#iterator(CrossoverBudget)}. The iteration must stop as soon as a limit is reached
+	 * and report the limit as the reason.
+	 */
+	@Test
+	final void testBudgetedIterator() throws CrossoverUsageException, ViewSetOperationException {
+		
+		Crossover crossover = createCRACrossover();
+		
+		int numberOfCrossoverPairs = 0;
+		for (Iterator<Pair<Resource, Resource>> iterator = crossover.iterator(); iterator.hasNext(); iterator.next()) {
+			numberOfCrossoverPairs++;
+		}
+		
+		// without limits
+		
+		CrossoverBudget budget = new CrossoverBudget();
+		assertEquals(numberOfCrossoverPairs, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.EXHAUSTED));
+		
+		// the limits
+		
+		budget.setMaxCrossoverPairs(1);
+		assertEquals(1, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.MAX_CROSSOVER_PAIRS));
+		
+		// reaching the limit doesn't search for another span to tell whether there are more crossover pairs
+		budget.setMaxCrossoverPairs(numberOfCrossoverPairs);
+		assertEquals(numberOfCrossoverPairs, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.MAX_CROSSOVER_PAIRS));
+		
+		budget.setMaxCrossoverPairs(numberOfCrossoverPairs + 1);
+		assertEquals(numberOfCrossoverPairs, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.EXHAUSTED));
+		
+		budget.setMaxCrossoverPairs(numberOfCrossoverPairs - 1);
+		assertEquals(numberOfCrossoverPairs - 1, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.MAX_CROSSOVER_PAIRS));
+		
+		budget = new CrossoverBudget();
+		budget.setMaxSubgraphs(0);
+		assertEquals(0, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.MAX_SUBGRAPHS));
+		
+		budget = new CrossoverBudget();
+		budget.setMaxMatchAttempts(0);
+		assertEquals(0, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.MAX_MATCH_ATTEMPTS));
+		
+		budget = new CrossoverBudget();
+		budget.setDeadline(Instant.now().minusSeconds(1));
+		assertEquals(0, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.DEADLINE));
+		
+		budget = new CrossoverBudget();
+		budget.setDeadline(Instant.MAX);
+		assertEquals(numberOfCrossoverPairs, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.EXHAUSTED));
+		
+		budget = new CrossoverBudget();
+		budget.setCancellationToken(() -> true);
+		assertEquals(0, countCrossoverPairs(crossover, budget, CrossoverBudget.StopReason.CANCELLED));
+		
+		Thread.currentThread().interrupt();
+		try {
+			assertEquals(0, countCrossoverPairs(crossover, new CrossoverBudget(), CrossoverBudget.StopReason.INTERRUPTED));
+		} finally {
+			Thread.interrupted();
+		}
+		
+		// the parameters
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> crossover.iterator(null));
+		assertEquals("The budget must not be null.", exception.getMessage());
+		
+		exception = assertThrows(IllegalArgumentException.class, () -> new CrossoverBudget().setMaxMatchAttempts(-1));
+		assertEquals("The maxMatchAttempts must not be negative.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Iterates over the crossover {@link Pair pairs} within the given {@link CrossoverBudget budget}.
+	 * @param crossover the {@link Crossover} to iterate
+	 * @param budget the {@link CrossoverBudget budget} of the iteration
+	 * @param expectedStopReason the expected reason why the iteration stopped
+	 * @return Returns the number of crossover {@link Pair pairs}.
+	 */
+	private int countCrossoverPairs (Crossover crossover, CrossoverBudget budget, CrossoverBudget.StopReason expectedStopReason) {
+		
+		CrossoverBudget.BudgetedIterator<Pair<Resource, Resource>> iterator = crossover.iterator(budget);
+		int numberOfCrossoverPairs = 0;
+		
+		while (iterator.hasNext()) {
+			assertEquals(null, iterator.getStopReason());
+			assertNotNull(iterator.next());
+			numberOfCrossoverPairs++;
+		}
+		
+		assertEquals(expectedStopReason, iterator.getStopReason());
+		return numberOfCrossoverPairs;
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#computeAsync(long, Executor)}. The future must contain the first crossover {@link Pair pairs}.
+	 */
+	@Test
+	final void testComputeAsync() throws CrossoverUsageException, ViewSetOperationException, InterruptedException, ExecutionException {
+		
+		Crossover crossover = createCRACrossover();
+		
+		List<Pair<Resource, Resource>> expectedCrossoverPairs = new ArrayList<>();
+		crossover.forEach(expectedCrossoverPairs::add);
+		
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		
+		try {
+			assertEquals(1, crossover.computeAsync(1, executor).get().size());
+			assertEquals(expectedCrossoverPairs.size(), crossover.computeAsync(Long.MAX_VALUE, executor).get().size());
+			assertEquals(0, crossover.computeAsync(0, executor).get().size());
+		} finally {
+			executor.shutdown();
+		}
+		
+		// a rejected computation
+		
+		CompletableFuture<List<Pair<Resource, Resource>>> rejected = crossover.computeAsync(1, runnable -> {
+			throw new RejectedExecutionException();
+		});
+		assertTrue(rejected.isCompletedExceptionally());
+		
+		// an interrupted computation must not complete with the crossover pairs found so far
+		
+		CompletableFuture<List<Pair<Resource, Resource>>> interrupted = crossover.computeAsync(Long.MAX_VALUE, CrossoverTest::runInterrupted);
+		CancellationException cancellationException = assertThrows(CancellationException.class, interrupted::get);
+		assertTrue(cancellationException.getCause() instanceof InterruptedException);
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> crossover.computeAsync(-1, Runnable::run));
+		assertEquals("The maxCrossoverPairs must not be negative.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#publisher(Executor)}. The crossover {@link Pair pairs} must only be sent as requested.
+	 */
+	@Test
+	final void testPublisher() throws CrossoverUsageException, ViewSetOperationException {
+		
+		Crossover crossover = createCRACrossover();
+		
+		int numberOfCrossoverPairs = 0;
+		for (Iterator<Pair<Resource, Resource>> iterator = crossover.iterator(); iterator.hasNext(); iterator.next()) {
+			numberOfCrossoverPairs++;
+		}
+		
+		// the executor runs the tasks on the calling thread so that the signals are sent synchronously
+		Flow.Publisher<Pair<Resource, Resource>> publisher = crossover.publisher(Runnable::run);
+		
+		List<Pair<Resource, Resource>> received = new ArrayList<>();
+		List<String> signals = new ArrayList<>();
+		List<Flow.Subscription> subscriptions = new ArrayList<>();
+		
+		Flow.Subscriber<Pair<Resource, Resource>> subscriber = new Flow.Subscriber<>() {
+			
+			@Override
+			public void onSubscribe (Flow.Subscription subscription) {
+				subscriptions.add(subscription);
+			}
+			
+			@Override
+			public void onNext (Pair<Resource, Resource> crossoverPair) {
+				received.add(crossoverPair);
+			}
+			
+			@Override
+			public void onError (Throwable throwable) {
+				signals.add("error");
+			}
+			
+			@Override
+			public void onComplete () {
+				signals.add("complete");
+			}
+			
+		};
+		
+		publisher.subscribe(subscriber);
+		assertEquals(0, received.size());
+		
+		subscriptions.get(0).request(1);
+		assertEquals(1, received.size());
+		assertEquals(List.of(), signals);
+		
+		subscriptions.get(0).request(Long.MAX_VALUE);
+		assertEquals(numberOfCrossoverPairs, received.size());
+		assertEquals(List.of("complete"), signals);
+		
+		// a cancelled subscription
+		
+		received.clear();
+		signals.clear();
+		publisher.subscribe(subscriber);
+		subscriptions.get(1).cancel();
+		subscriptions.get(1).request(1);
+		assertEquals(0, received.size());
+		assertEquals(List.of(), signals);
+		
+		// an invalid request
+		
+		publisher.subscribe(subscriber);
+		subscriptions.get(2).request(0);
+		assertEquals(List.of("error"), signals);
+		
+		// an interrupted iteration must be signalled as an error
+		
+		signals.clear();
+		crossover.publisher(CrossoverTest::runInterrupted).subscribe(subscriber);
+		subscriptions.get(3).request(Long.MAX_VALUE);
+		assertEquals(0, received.size());
+		assertEquals(List.of("error"), signals);
+		
+	}
+	
+	/**
+	 * Runs the {@link Runnable runnable} on the current thread while it is interrupted and clears the interrupt afterwards.
+	 * @param runnable the {@link Runnable runnable} to run
+	 */
+	private static void runInterrupted (Runnable runnable) {
+		Thread.currentThread().interrupt();
+		try {
+			runnable.run();
+		} finally {
+			Thread.interrupted();
+		}
+	}
+	
+	/**
+	 * Test method for {@link SearchSpaceElementSplitStrategy#apply(View, View)}. Crossovers created on different threads with the
+	 * shared {@link Crossover#DEFAULT_STRATEGY} must be equal to a crossover created on a single thread and strategies only
+	 * overriding {@link Strategy#apply(View)} must be given the problem split part by the adapter.
+	 */
+	@Test
+	final void testConcurrentSearchSpaceElementSplitStrategy() throws Exception {
+		
+		Crossover expectedCrossover = createCRACrossover();
+		
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Crossover>> crossovers = new ArrayList<>();
+		
+		try {
+			for (int i = 0; i < 16; i++) {
+				crossovers.add(executor.submit(() -> createCRACrossover()));
+			}
+			for (Future<Crossover> crossover : crossovers) {
+				assertEquals(expectedCrossover, crossover.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		
+		// the adapter for stateful strategies
+		
+		List<View> givenProblemSplitParts = new ArrayList<>();
+		SearchSpaceElementSplitStrategy statefulStrategy = new SearchSpaceElementSplitStrategy() {
+			@Override
+			public void apply(View view) {
+				givenProblemSplitParts.add(super.problemSplitPart);
+			}
+		};
+		
+		View problemSplitPart = new View(CRA_INSTANCE_ONE);
+		statefulStrategy.apply(new View(CRA_INSTANCE_ONE), problemSplitPart);
+		assertEquals(1, givenProblemSplitParts.size());
+		assertSame(problemSplitPart, givenProblemSplitParts.get(0));
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> SearchSpaceElementSplitStrategy.of(null));
+		assertEquals("The strategy must not be null.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Test method for {@link Crossover#Crossover(Crossover, Resource, Collection)}. The rebuilt {@link Crossover} must be equal to
+	 * a new {@link Crossover} of the changed search space elements.
+	 */
+	@Test
+	final void testRebuildCrossover() throws CrossoverUsageException, ViewSetOperationException, ReflectiveOperationException {
+		
+		Resource searchSpaceElementOne = new ResourceImpl();
+		searchSpaceElementOne.getContents().addAll(EcoreUtil.copyAll(CRA_INSTANCE_ONE.getContents()));
+		Resource searchSpaceElementTwo = new ResourceImpl();
+		searchSpaceElementTwo.getContents().addAll(EcoreUtil.copyAll(CRA_INSTANCE_TWO.getContents()));
+		
+		Crossover crossover = createCRACrossover(Pair.of(searchSpaceElementOne, searchSpaceElementTwo));
+		
+		List<Notification> notifications = new ArrayList<>();
+		searchSpaceElementTwo.eAdapters().add(new EContentAdapter() {
+			@Override
+			public void notifyChanged(Notification notification) {
+				super.notifyChanged(notification);
+				notifications.add(notification);
+			}
+		});
+		
+		EObject classModel = searchSpaceElementTwo.getContents().get(0);
+		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "ClassModel", "Class", "Attribute");
+		
+		// a change of the solution part keeps the problem split
+		
+		@SuppressWarnings("unchecked")
+		List<EObject> classes = (List<EObject>) classModel.eGet(getEReferenceFromEClass(eClasses[0], "classes"));
+		classes.add(EcoreUtil.create(eClasses[1]));
+		assertFalse(notifications.isEmpty());
+		
+		Crossover rebuiltCrossover = new Crossover(crossover, searchSpaceElementTwo, notifications);
+		assertEquals(createCRACrossover(Pair.of(searchSpaceElementOne, searchSpaceElementTwo)), rebuiltCrossover);
+		
+		Field problemSplitSSEOneField = Crossover.class.getDeclaredField("problemSplitSSEOne");
+		problemSplitSSEOneField.setAccessible(true);
+		assertSame(problemSplitSSEOneField.get(crossover), problemSplitSSEOneField.get(rebuiltCrossover));
+		
+		// the graphs of the splits become the right hand sides of the rules, so the rebuilt crossover must not share them
+		Set<Graph> graphsOfSplits = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (String fieldName : List.of("splitOfSSEOne", "splitOfSSETwo")) {
+			Field splitField = Crossover.class.getDeclaredField(fieldName);
+			splitField.setAccessible(true);
+			for (Crossover eachCrossover : List.of(crossover, rebuiltCrossover)) {
+				@SuppressWarnings("unchecked")
+				Pair<View, View> split = (Pair<View, View>) splitField.get(eachCrossover);
+				assertTrue(graphsOfSplits.add(split.getFirst().getGraph()));
+				assertTrue(graphsOfSplits.add(split.getSecond().getGraph()));
+			}
+		}
+		
+		// a change of the problem part rebuilds the crossover from scratch
+		
+		notifications.clear();
+		@SuppressWarnings("unchecked")
+		List<EObject> features = (List<EObject>) classModel.eGet(getEReferenceFromEClass(eClasses[0], "features"));
+		features.add(EcoreUtil.create(eClasses[2]));
+		
+		Crossover recreatedCrossover = new Crossover(rebuiltCrossover, searchSpaceElementTwo, notifications);
+		assertEquals(createCRACrossover(Pair.of(searchSpaceElementOne, searchSpaceElementTwo)), recreatedCrossover);
+		assertNotSame(problemSplitSSEOneField.get(rebuiltCrossover), problemSplitSSEOneField.get(recreatedCrossover));
+		
+		CrossoverUsageException exception = assertThrows(CrossoverUsageException.class, () -> new Crossover(crossover, CRA_INSTANCE_TWO, notifications));
+		assertEquals("The changedSearchSpaceElement must be a search space element of the previous crossover.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Test method for {@link EliteCrossover#createCrossovers()}. The {@link Crossover crossovers} must be equal to the ones created separately.
+	 */
+	@Test
+	final void testEliteCrossover() throws CrossoverUsageException, ViewSetOperationException {
+		
+		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "ClassModel", "Attribute", "Method");
+		
+		List<EClass> problemPartEClasses = List.of(eClasses[0], eClasses[1], eClasses[2]);
+		List<EReference> problemPartEReferences = List.of(
+				getEReferenceFromEClass(eClasses[0], "features"), 
+				getEReferenceFromEClass(eClasses[2], "dataDependency"), 
+				getEReferenceFromEClass(eClasses[2], "functionalDependency")
+		);
+		
+		CrossoverContext context = new CrossoverContext(CRA_ECORE, problemPartEClasses, problemPartEReferences);
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(eClasses[1]);
+		};
+		
+		Resource copyOfInstanceTwo = new ResourceImpl();
+		copyOfInstanceTwo.getContents().addAll(EcoreUtil.copyAll(CRA_INSTANCE_TWO.getContents()));
+		List<Resource> partners = List.of(CRA_INSTANCE_TWO, copyOfInstanceTwo);
+		
+		EliteCrossover eliteCrossover = new EliteCrossover(context, CRA_INSTANCE_ONE, partners, problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+		List<Crossover> crossovers = eliteCrossover.createCrossovers();
+		assertEquals(partners.size(), crossovers.size());
+		
+		for (int i = 0; i < partners.size(); i++) {
+			Crossover expectedCrossover = new Crossover(context, Pair.of(CRA_INSTANCE_ONE, partners.get(i)), problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+			assertEquals(expectedCrossover, crossovers.get(i));
+			
+			List<String> expectedPairs = new ArrayList<>();
+			expectedCrossover.forEach(pair -> expectedPairs.add(describe(pair)));
+			expectedPairs.sort(Comparator.naturalOrder());
+			
+			List<String> pairs = new ArrayList<>();
+			crossovers.get(i).forEach(pair -> pairs.add(describe(pair)));
+			pairs.sort(Comparator.naturalOrder());
+			
+			assertEquals(expectedPairs, pairs);
+		}
+		
+		CrossoverUsageException exception = assertThrows(CrossoverUsageException.class, () -> eliteCrossover.crossWith(null));
+		assertEquals("The partner must not be null.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * @return Returns a {@link Crossover} of the {@link TestResources#CRA_INSTANCE_ONE} and {@link TestResources#CRA_INSTANCE_TWO}
+	 * with the class model, its features and their dependencies as the problem part.
+	 */
+	private Crossover createCRACrossover () throws CrossoverUsageException, ViewSetOperationException {
+		return createCRACrossover(Pair.of(CRA_INSTANCE_ONE, CRA_INSTANCE_TWO));
+	}
+	
+	/**
+	 * @param searchSpaceElements two instances of the {@link TestResources#CRA_ECORE}
+	 * @return Returns a {@link Crossover} of the search space elements with the class model, its features and their dependencies as the problem part.
+	 */
+	private Crossover createCRACrossover (Pair<Resource, Resource> searchSpaceElements) throws CrossoverUsageException, ViewSetOperationException {
+		
+		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "ClassModel", "Attribute", "Method");
+		EClass classModelEClass = eClasses[0];
+		EClass attributeEClass = eClasses[1];
+		EClass methodEClass = eClasses[2];
+		
+		List<EClass> problemPartEClasses = List.of(classModelEClass, attributeEClass, methodEClass);
+		List<EReference> problemPartEReferences = List.of(
+				getEReferenceFromEClass(classModelEClass, "features"), 
+				getEReferenceFromEClass(methodEClass, "dataDependency"), 
+				getEReferenceFromEClass(methodEClass, "functionalDependency")
+		);
+		
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(attributeEClass);
+		};
+		
+		Crossover crossover = new Crossover(CRA_ECORE, searchSpaceElements, problemPartSplitStrategy, 
+				problemPartEClasses, problemPartEReferences, Crossover.DEFAULT_STRATEGY);
+		
+		return crossover;
+		
+	}
+	
+	/**
+	 * @return Returns a {@link Crossover} of the {@link TestResources#SCRUM_PLANNIG_INSTANCE_TWO} and {@link TestResources#SCRUM_PLANNIG_INSTANCE_ONE}
+	 * with the plan, its backlog, work items and stakeholders as the problem part and the plan and its backlog as the sub-metamodel
+	 * of the intersection. The sprints of the solution part are contained in the plan, so the offsprings differ in their containments.
+	 */
+	private Crossover createScrumPlanningCrossover () throws CrossoverUsageException, ViewSetOperationException {
+		
+		EClass[] eClasses = getEClassFromResource(SCRUM_PLANNIG_ECORE, "Plan", "Backlog", "WorkItem", "Stakeholder");
+		EClass planEClass = eClasses[0];
+		EClass backlogEClass = eClasses[1];
+		EClass workItemEClass = eClasses[2];
+		EClass stakeholderEClass = eClasses[3];
+		
+		EReference planBacklog = getEReferenceFromEClass(planEClass, "backlog");
+		
+		List<EClass> problemPartEClasses = List.of(planEClass, backlogEClass, workItemEClass, stakeholderEClass);
+		List<EReference> problemPartEReferences = List.of(
+				planBacklog,
+				getEReferenceFromEClass(planEClass, "stakeholders"),
+				getEReferenceFromEClass(backlogEClass, "workitems"),
+				getEReferenceFromEClass(stakeholderEClass, "workitems"),
+				getEReferenceFromEClass(workItemEClass, "stakeholder")
+		);
+		
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(workItemEClass);
+		};
+		
+		View subMetaModelOfIntersection = new View(SCRUM_PLANNIG_ECORE);
+		subMetaModelOfIntersection.extend((EObject) planEClass);
+		subMetaModelOfIntersection.extend((EObject) backlogEClass);
+		subMetaModelOfIntersection.extend((EObject) planBacklog);
+		
+		return new Crossover(SCRUM_PLANNIG_ECORE, Pair.of(SCRUM_PLANNIG_INSTANCE_TWO, SCRUM_PLANNIG_INSTANCE_THREE), problemPartSplitStrategy,
+				problemPartEClasses, problemPartEReferences, Crossover.DEFAULT_STRATEGY, subMetaModelOfIntersection);
+		
+	}
+	
+	/**
+	 * @param pair a crossover pair
+	 * @return Returns a description of the crossover pair that is independent of the identity of its {@link EObject eObjects} 
+	 * but contains their types, attributes and references.
+	 */
+	private String describe (Pair<Resource, Resource> pair) {
+		return describe(pair.getFirst()) + " | " + describe(pair.getSecond());
+	}
+	
+	private String describe (Resource resource) {
+		
+		List<String> descriptions = new ArrayList<>();
+		
+		resource.getAllContents().forEachRemaining(eObject -> {
+			StringBuilder description = new StringBuilder(eObject.eClass().getName());
+			eObject.eClass().getEAllAttributes().forEach(eAttribute -> description.append(" ").append(eObject.eGet(eAttribute)));
+			for (EReference eReference : eObject.eClass().getEAllReferences()) {
+				Object value = eObject.eGet(eReference);
+				Collection<?> referencedEObjects = (value instanceof Collection) ? (Collection<?>) value : (value == null ? List.of() : List.of(value));
+				description.append(" ").append(eReference.getName()).append(referencedEObjects.stream().
+						map(referencedEObject -> ((EObject) referencedEObject).eClass().getName()).sorted().collect(Collectors.toList()));
+			}
+			descriptions.add(description.toString());
+		});
+		
+		descriptions.sort(Comparator.naturalOrder());
+		return descriptions.toString();
+		
+	}
+	
+	/**
+	 * Test method for {@link SimpleCrossover#setParallelism(int)}. A parallel run must produce the same named and numbered
+	 * crossover {@link Pair pairs} as a sequential run.
+	 */
+	@Test
+	final void testParallelSimpleCrossover() throws CrossoverUsageException, ViewSetOperationException {
+		
+		Map<Pair<String, Integer>, List<Long>> sequentialHashes = runSimpleCrossover(1);
+		Map<Pair<String, Integer>, List<Long>> parallelHashes = runSimpleCrossover(3);
+		
+		assertFalse(sequentialHashes.isEmpty());
+		assertEquals(Set.of("CRAInstanceOneXCRAInstanceTwo", "CRAInstanceOneXCRAInstanceTwoVer1", "CRAInstanceOneXCRAInstanceTwoVer2"), 
+				sequentialHashes.keySet().stream().map(Pair::getFirst).collect(Collectors.toSet()));
+		assertEquals(sequentialHashes, parallelHashes);
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new SimpleCrossover("test/resources/").setParallelism(0));
+		assertEquals("The parallelism must be positive.", exception.getMessage());
+		
+	}
+	
+	/**
+	 * Test method for {@link SimpleCrossover#run()}. An interrupted parallel run must stop its crossovers, throw a
+	 * {@link CancellationException} and must not call the whenDone-function after it returned.
+	 */
+	@Test
+	final void testInterruptedParallelSimpleCrossover() throws CrossoverUsageException, ViewSetOperationException, InterruptedException {
+		
+		SimpleCrossover sc = createSimpleCrossover();
+		Thread runningThread = Thread.currentThread();
+		AtomicInteger numberOfCalls = new AtomicInteger();
+		
+		sc.setWhenDone((pairOfResources, identifierPair) -> {
+			numberOfCalls.incrementAndGet();
+			runningThread.interrupt();
+		});
+		sc.setParallelism(3);
+		
+		try {
+			CancellationException exception = assertThrows(CancellationException.class, sc::run);
+			assertTrue(exception.getCause() instanceof InterruptedException);
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+		
+		int numberOfCallsAfterRun = numberOfCalls.get();
+		Thread.sleep(100);
+		assertEquals(numberOfCallsAfterRun, numberOfCalls.get());
+		
+	}
+	
+	/**
+	 * Runs three differently split crossovers of the {@link TestResources#CRA_INSTANCE_ONE} and the {@link TestResources#CRA_INSTANCE_TWO} by a {@link SimpleCrossover}.
+	 * @param parallelism the {@link SimpleCrossover#setParallelism(int) parallelism} of the run
+	 * @return Returns the {@link ModelHash hashes} of the crossover {@link Pair pairs} by their identifiers.
+	 */
+	private Map<Pair<String, Integer>, List<Long>> runSimpleCrossover (int parallelism) throws CrossoverUsageException, ViewSetOperationException {
+		
+		SimpleCrossover sc = createSimpleCrossover();
+		
+		Map<Pair<String, Integer>, List<Long>> hashes = new ConcurrentHashMap<>();
+		sc.setWhenDone((pairOfResources, identifierPair) -> {
+			hashes.put(identifierPair, List.of(ModelHash.hash(pairOfResources.getFirst()), ModelHash.hash(pairOfResources.getSecond())));
+		});
+		
+		sc.setParallelism(parallelism);
+		sc.run();
+		
+		return hashes;
+		
+	}
+	
+	/**
+	 * @return Returns a {@link SimpleCrossover} with three differently split crossovers of the {@link TestResources#CRA_INSTANCE_ONE}
+	 * and the {@link TestResources#CRA_INSTANCE_TWO}.
+	 */
+	private SimpleCrossover createSimpleCrossover () throws CrossoverUsageException, ViewSetOperationException {
+		
+		SimpleCrossover sc = new SimpleCrossover("test/resources/");
+		
+		sc.defineMetamodel(
+				"CRA", 
+				List.of("CRAInstanceOne", "CRAInstanceTwo"), 
+				List.of(
+						Pair.of("ClassModel", List.of("features")),
+						Pair.of("Attribute", List.of()), 
+						Pair.of("Method", List.of("dataDependency", "functionalDependency"))
+				)
+		);
+		
+		EClass[] eClasses = getEClassFromResource(sc.getLoadedResource("CRA"), "Attribute", "Method");
+		
+		// equal crossovers are only added once, so the problem parts are split differently
+		for (EClass eClass : eClasses) {
+			sc.addCrossover("CRAInstanceOne", "CRAInstanceTwo", (View view) -> {
+				view.reduce(eClass);
+			});
+		}
+		sc.addCrossover("CRAInstanceOne", "CRAInstanceTwo", (View view) -> {});
+		
+		return sc;
+		
+	}
+	
+	/**
+	 * Test method for {@link SimpleCrossover#createRandomProblemSplitStrategy(double, SplittableRandom)}. Strategies with equally
+	 * seeded generators must split the problem part the same way.
+	 */
+	@Test
+	final void testCreateRandomProblemSplitStrategy() throws ViewSetOperationException {
+		
+		Strategy strategyOne = SimpleCrossover.createRandomProblemSplitStrategy(0.5, new SplittableRandom(42));
+		Strategy strategyTwo = SimpleCrossover.createRandomProblemSplitStrategy(0.5, new SplittableRandom(42));
+		
+		for (int i = 0; i < 5; i++) {
+			
+			View viewOne = new View(CRA_INSTANCE_ONE);
+			viewOne.extendByAllNodes();
+			viewOne.extendByMissingEdges();
+			View viewTwo = viewOne.copy();
+			
+			strategyOne.apply(viewOne);
+			strategyTwo.apply(viewTwo);
+			
+			assertEquals(viewOne, viewTwo);
+			
+		}
+		
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> SimpleCrossover.createRandomProblemSplitStrategy(0.5, null));
+		assertEquals("The random must not be null.", exception.getMessage());
+		
+	}
+	
 	/**
 	 * @param resourceOne
 	 * @param resourceTwo
@@ -1412,24 +2242,20 @@ class CrossoverTest extends TestResources {
 			view.reduce(finalAttributeEClass);
 		};
 		
-		SearchSpaceElementSplitStrategy sss = new SearchSpaceElementSplitStrategy() {
-			@Override
-			public void apply(View sseOne) throws ViewSetOperationException, IllegalStateException {
-				
-				View changedSSEOne = sseOne.copy();
-				
-				changedSSEOne.reduce(finalClassesEReference);
-				
-				Crossover.DEFAULT_STRATEGY.setProblemSplitPart(super.problemSplitPart);
-				Crossover.DEFAULT_STRATEGY.apply(changedSSEOne);
-				
-				sseOne.clear();
-				sseOne.union(changedSSEOne);
-				sseOne.extend(finalClassesEReference);
-				sseOne.removeDangling();
-				
-			}
-		};
+		SearchSpaceElementSplitStrategy sss = SearchSpaceElementSplitStrategy.of((View sseOne, View problemSplitPart) -> {
+			
+			View changedSSEOne = sseOne.copy();
+			
+			changedSSEOne.reduce(finalClassesEReference);
+			
+			Crossover.DEFAULT_STRATEGY.apply(changedSSEOne, problemSplitPart);
+			
+			sseOne.clear();
+			sseOne.union(changedSSEOne);
+			sseOne.extend(finalClassesEReference);
+			sseOne.removeDangling();
+			
+		});
 		
 		try {
 			sc.addCrossover(resourceOne, resourceTwo, pps, sss);
@@ -1535,24 +2361,20 @@ class CrossoverTest extends TestResources {
 		
 		final EReference finalClassesEReference = classesEReference;
 		
-		SearchSpaceElementSplitStrategy sss = new SearchSpaceElementSplitStrategy() {
-			@Override
-			public void apply(View sseOne) throws ViewSetOperationException, IllegalStateException {
-				
-				View changedSSEOne = sseOne.copy();
-				
-				changedSSEOne.reduce(finalClassesEReference);
-				
-				Crossover.DEFAULT_STRATEGY.setProblemSplitPart(super.problemSplitPart);
-				Crossover.DEFAULT_STRATEGY.apply(changedSSEOne);
-				
-				sseOne.clear();
-				sseOne.union(changedSSEOne);
-				sseOne.extend(finalClassesEReference);
-				sseOne.removeDangling();
-				
-			}
-		};
+		SearchSpaceElementSplitStrategy sss = SearchSpaceElementSplitStrategy.of((View sseOne, View problemSplitPart) -> {
+			
+			View changedSSEOne = sseOne.copy();
+			
+			changedSSEOne.reduce(finalClassesEReference);
+			
+			Crossover.DEFAULT_STRATEGY.apply(changedSSEOne, problemSplitPart);
+			
+			sseOne.clear();
+			sseOne.union(changedSSEOne);
+			sseOne.extend(finalClassesEReference);
+			sseOne.removeDangling();
+			
+		});
 		
 		try {
 			sc.addCrossover("CRA_Pres_One", "CRA_Pres_Two", pps, sss);
@@ -5,6 +5,7 @@ package crossover;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -455,6 +456,43 @@ class MappingUtilTest extends TestResources {
 		
 	}
 	
+	/**
+	 * Test method for {@link crossover.MappingUtil#getMappingSetIterator(view.View, view.View, java.util.Map, boolean)}
+	 * with the validation of the parameters being skipped.
+	 */
+	@Test
+	final void testGetMappingSetIteratorWithoutValidation() {
+		
+		View viewOne = new View(SCRUM_PLANNIG_INSTANCE_THREE);
+		View viewTwo = new View(SCRUM_PLANNIG_INSTANCE_TWO);
+		
+		viewOne.extendByAllNodes();
+		viewTwo.extendByAllNodes();
+		
+		if (viewTwo.getGraph().getNodes().size() > viewOne.getGraph().getNodes().size()) {
+			View tempView = viewOne;
+			viewOne = viewTwo;
+			viewTwo = tempView;
+		}
+		
+		// from B to A instead of A to B
+		Map<EObject, EObject> map = findRandomInjection(viewTwo, viewTwo.copy());
+		
+		try {
+			MappingUtil.getMappingSetIterator(viewTwo, viewOne, map, true);
+			fail("Expected an IllegalArgumentException but no was thrown.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The identity map must map from the fromView to the toView.", e.getMessage());
+		}
+		
+		try {
+			assertNotNull(MappingUtil.getMappingSetIterator(viewTwo, viewOne, map, false));
+		} catch (IllegalArgumentException e) {
+			fail("Expected no IllegalArgumentException but one was thrown.");
+		}
+		
+	}
+	
 	/**
 	 * @param fromView the domain of the map
 	 * @param toView containing the codomain of the map
@@ -0,0 +1,153 @@
+package crossover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+import view.TestResources;
+
+/**
+ * @author Benjamin Wagner
+ */
+class ModelHashTest extends TestResources {
+
+	/**
+	 * Test method for {@link ModelHash#hash(Resource)}. Isomorphic models must have equal hashes.
+	 */
+	@Test
+	final void testHashOfIsomorphicModels () {
+
+		Resource copy = copy(CRA_INSTANCE_ONE);
+		assertEquals(ModelHash.hash(CRA_INSTANCE_ONE), ModelHash.hash(copy));
+
+		// the order of the features does not matter
+
+		EObject classModel = copy.getContents().get(0);
+		EReference features = getEReferenceFromEClass(getEClassFromResource(CRA_ECORE, "ClassModel")[0], "features");
+		@SuppressWarnings("unchecked")
+		EList<EObject> featuresOfClassModel = (EList<EObject>) classModel.eGet(features);
+		ECollections.reverse(featuresOfClassModel);
+
+		assertEquals(ModelHash.hash(CRA_INSTANCE_ONE), ModelHash.hash(copy));
+
+	}
+
+	/**
+	 * Test method for {@link ModelHash#hash(Resource, int)}. Different models must have different hashes.
+	 */
+	@Test
+	final void testHashOfDifferentModels () {
+
+		assertNotEquals(ModelHash.hash(CRA_INSTANCE_ONE), ModelHash.hash(CRA_INSTANCE_TWO));
+
+		// removing a link
+
+		Resource copy = copy(CRA_INSTANCE_ONE);
+		EClass methodEClass = getEClassFromResource(CRA_ECORE, "Method")[0];
+		EReference dataDependency = getEReferenceFromEClass(methodEClass, "dataDependency");
+
+		EObject methodWithDataDependency = null;
+		for (EObject eObject : (Iterable<EObject>) copy::getAllContents) {
+			if (eObject.eClass() == methodEClass && !((EList<?>) eObject.eGet(dataDependency)).isEmpty()) {
+				methodWithDataDependency = eObject;
+				break;
+			}
+		}
+
+		((EList<?>) methodWithDataDependency.eGet(dataDependency)).remove(0);
+		assertNotEquals(ModelHash.hash(CRA_INSTANCE_ONE), ModelHash.hash(copy));
+
+		// changing an attribute
+
+		copy = copy(CRA_INSTANCE_ONE);
+		EObject classModel = copy.getContents().get(0);
+		classModel.eSet(classModel.eClass().getEStructuralFeature("name"), "anotherName");
+		assertNotEquals(ModelHash.hash(CRA_INSTANCE_ONE), ModelHash.hash(copy));
+
+		assertNotEquals(ModelHash.hash(CRA_INSTANCE_ONE, 0), ModelHash.hash(CRA_INSTANCE_ONE, 1));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ModelHash.hash(CRA_INSTANCE_ONE, -1));
+		assertEquals("The iterations must not be negative.", exception.getMessage());
+
+	}
+
+	/**
+	 * Test method for {@link ModelHash#isIsomorphic(Resource, Resource)}. It must confirm equal hashes of isomorphic models only,
+	 * e.g. a cycle of six methods and two cycles of three methods have equal hashes but are not isomorphic.
+	 */
+	@Test
+	final void testIsIsomorphic () {
+
+		Resource copy = copy(CRA_INSTANCE_ONE);
+		assertTrue(ModelHash.isIsomorphic(CRA_INSTANCE_ONE, copy));
+		assertFalse(ModelHash.isIsomorphic(CRA_INSTANCE_ONE, CRA_INSTANCE_TWO));
+
+		EObject classModel = copy.getContents().get(0);
+		classModel.eSet(classModel.eClass().getEStructuralFeature("name"), "anotherName");
+		assertFalse(ModelHash.isIsomorphic(CRA_INSTANCE_ONE, copy));
+
+		Resource oneCycle = createMethodCycles(6);
+		Resource twoCycles = createMethodCycles(3, 3);
+		assertEquals(ModelHash.hash(oneCycle), ModelHash.hash(twoCycles));
+		assertFalse(ModelHash.isIsomorphic(oneCycle, twoCycles));
+		assertTrue(ModelHash.isIsomorphic(twoCycles, createMethodCycles(3, 3)));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ModelHash.isIsomorphic(null, copy));
+		assertEquals("The resources must not be null.", exception.getMessage());
+
+	}
+
+	/**
+	 * @param lengths the lengths of the cycles
+	 * @return Returns a new {@link Resource resource} containing a class model whose methods form cycles of functional dependencies.
+	 */
+	@SuppressWarnings("unchecked")
+	private Resource createMethodCycles (int... lengths) {
+
+		EClass classModelEClass = getEClassFromResource(CRA_ECORE, "ClassModel")[0];
+		EClass methodEClass = getEClassFromResource(CRA_ECORE, "Method")[0];
+		EReference features = getEReferenceFromEClass(classModelEClass, "features");
+		EReference functionalDependency = getEReferenceFromEClass(methodEClass, "functionalDependency");
+
+		EObject classModel = EcoreUtil.create(classModelEClass);
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(classModel);
+
+		for (int length : lengths) {
+			EObject[] methods = new EObject[length];
+			for (int i = 0; i < length; i++) {
+				methods[i] = EcoreUtil.create(methodEClass);
+				((EList<EObject>) classModel.eGet(features)).add(methods[i]);
+			}
+			for (int i = 0; i < length; i++) {
+				((EList<EObject>) methods[i].eGet(functionalDependency)).add(methods[(i + 1) % length]);
+			}
+		}
+
+		return resource;
+
+	}
+
+	/**
+	 * @param resource a {@link Resource resource}
+	 * @return Returns a new {@link Resource resource} containing a copy of the contents of the given {@link Resource resource}.
+	 */
+	private static Resource copy (Resource resource) {
+		Resource copy = new ResourceImpl();
+		copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+		return copy;
+	}
+
+}
@@ -0,0 +1,116 @@
+package crossover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.InterruptedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.henshin.model.resource.HenshinResourceSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import view.TestResources;
+
+/**
+ * @author Benjamin Wagner
+ */
+class OffspringWriterTest extends TestResources {
+
+	/**
+	 * Test method for {@link OffspringWriter#accept(Pair, Pair)}. The written offsprings must be equal to the accepted ones
+	 * in each {@link OutputFormat format} and their {@link Resource resources} must be emptied.
+	 */
+	@ParameterizedTest
+	@EnumSource(OutputFormat.class)
+	final void testWrite (OutputFormat outputFormat, @TempDir File outputDirectory) throws Exception {
+
+		Map<String, Long> expectedHashes = new HashMap<>();
+		Map<String, Resource> acceptedResources = new HashMap<>();
+
+		// a small queue and batch so that the producer has to wait and the files are synced in several batches
+		try (OffspringWriter writer = new OffspringWriter(outputDirectory, outputFormat, 2, 2, 3)) {
+			for (int i = 1; i <= 10; i++) {
+				Resource first = copy(CRA_INSTANCE_ONE);
+				Resource second = copy(CRA_INSTANCE_TWO);
+				String fileName = "CrossoverNo" + i + "%s." + outputFormat.getFileExtension();
+				expectedHashes.put(String.format(fileName, "First"), ModelHash.hash(first));
+				expectedHashes.put(String.format(fileName, "Second"), ModelHash.hash(second));
+				acceptedResources.put(String.format(fileName, "First"), first);
+				acceptedResources.put(String.format(fileName, "Second"), second);
+				writer.accept(Pair.of(first, second), Pair.of("Crossover", i));
+			}
+		}
+
+		HenshinResourceSet resourceSet = new HenshinResourceSet(outputDirectory.getPath());
+		EPackage craEPackage = (EPackage) CRA_ECORE.getContents().get(0);
+		resourceSet.getPackageRegistry().put(craEPackage.getNsURI(), craEPackage);
+
+		assertEquals(expectedHashes.size(), outputDirectory.list().length);
+
+		for (Map.Entry<String, Long> expectedHash : expectedHashes.entrySet()) {
+			Resource writtenResource = outputFormat.load(new File(outputDirectory, expectedHash.getKey()), resourceSet);
+			assertEquals(expectedHash.getValue(), ModelHash.hash(writtenResource));
+			assertTrue(acceptedResources.get(expectedHash.getKey()).getContents().isEmpty());
+		}
+
+	}
+
+	/**
+	 * Test method for {@link OffspringWriter#close()}. A closed writer must not accept crossover {@link Pair pairs}.
+	 */
+	@Test
+	final void testClose (@TempDir File outputDirectory) throws Exception {
+
+		OffspringWriter writer = new OffspringWriter(outputDirectory, 1, 1, 1);
+		writer.close();
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+			writer.accept(Pair.of(copy(CRA_INSTANCE_ONE), copy(CRA_INSTANCE_TWO)), Pair.of("Crossover", 1)));
+		assertEquals("The writer is closed.", exception.getMessage());
+
+		IllegalArgumentException illegalArgumentException = assertThrows(IllegalArgumentException.class, () -> new OffspringWriter(outputDirectory, 0, 1, 1));
+		assertEquals("The queueCapacity must be positive.", illegalArgumentException.getMessage());
+
+	}
+
+	/**
+	 * Test method for {@link OffspringWriter#close()} on an interrupted thread. It must throw an {@link InterruptedIOException}
+	 * and keep the interrupt status of the thread.
+	 */
+	@Test
+	final void testCloseWhenInterrupted (@TempDir File outputDirectory) throws Exception {
+
+		OffspringWriter writer = new OffspringWriter(outputDirectory, 1, 1, 1);
+
+		Thread.currentThread().interrupt();
+
+		try {
+			assertThrows(InterruptedIOException.class, writer::close);
+			assertTrue(Thread.currentThread().isInterrupted());
+		} finally {
+			Thread.interrupted();
+		}
+
+	}
+
+	/**
+	 * @param resource a {@link Resource resource}
+	 * @return Returns a new {@link Resource resource} containing a copy of the contents of the given {@link Resource resource}.
+	 */
+	private static Resource copy (Resource resource) {
+		Resource copy = new ResourceImpl();
+		copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+		return copy;
+	}
+
+}
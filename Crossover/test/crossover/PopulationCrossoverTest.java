@@ -0,0 +1,252 @@
+package crossover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.henshin.model.Graph;
+import org.junit.jupiter.api.Test;
+
+import view.TestResources;
+import view.View;
+
+/**
+ * @author Benjamin Wagner
+ */
+class PopulationCrossoverTest extends TestResources {
+
+	/**
+	 * Test method for {@link PopulationCrossover#getGroups()}. The pairs must be grouped by the individual shared by more pairs.
+	 */
+	@Test
+	final void testGetGroups () throws CrossoverUsageException {
+
+		List<Resource> population = List.of(CRA_INSTANCE_ONE, CRA_INSTANCE_TWO, CRA_INSTANCE_ONE, CRA_INSTANCE_TWO);
+		PopulationCrossover.PairingScheme star = populationSize -> List.of(Pair.of(1, 0), Pair.of(1, 2), Pair.of(3, 1), Pair.of(2, 3));
+
+		PopulationCrossover populationCrossover = new PopulationCrossover(createContext(), population, star, view -> {}, Crossover.DEFAULT_STRATEGY);
+
+		Map<Integer, List<Integer>> expectedGroups = new HashMap<>();
+		expectedGroups.put(1, List.of(0, 2, 3));
+		expectedGroups.put(2, List.of(3));
+		assertEquals(expectedGroups, populationCrossover.getGroups());
+		assertEquals(List.of(Pair.of(1, 0), Pair.of(1, 2), Pair.of(1, 3), Pair.of(2, 3)), populationCrossover.getPairs());
+
+		assertEquals(List.of(Pair.of(0, 1), Pair.of(2, 3)), PopulationCrossover.ADJACENT_PAIRS.createPairs(5));
+		assertEquals(6, PopulationCrossover.ALL_PAIRS.createPairs(4).size());
+
+		CrossoverUsageException exception = assertThrows(CrossoverUsageException.class, () ->
+			new PopulationCrossover(createContext(), population, populationSize -> List.of(Pair.of(0, 0)), view -> {}, Crossover.DEFAULT_STRATEGY));
+		assertEquals("The pairingScheme must not pair an individual with itself.", exception.getMessage());
+
+		exception = assertThrows(CrossoverUsageException.class, () ->
+			new PopulationCrossover(createContext(), population, populationSize -> List.of(Pair.of(0, 4)), view -> {}, Crossover.DEFAULT_STRATEGY));
+		assertEquals("The pairingScheme returned an index out of the population.", exception.getMessage());
+
+	}
+
+	/**
+	 * Test method for {@link PopulationCrossover#run(ExecutorService, java.util.function.BiConsumer)}. Each pair must produce
+	 * as many crossover pairs as a separately created {@link Crossover}.
+	 */
+	@Test
+	final void testRun () throws Exception {
+
+		CrossoverContext context = createContext();
+		EClass attributeEClass = getEClassFromResource(CRA_ECORE, "Attribute")[0];
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(attributeEClass);
+		};
+
+		Resource copyOfInstanceTwo = new ResourceImpl();
+		copyOfInstanceTwo.getContents().addAll(EcoreUtil.copyAll(CRA_INSTANCE_TWO.getContents()));
+		List<Resource> population = List.of(CRA_INSTANCE_ONE, CRA_INSTANCE_TWO, copyOfInstanceTwo);
+
+		PopulationCrossover populationCrossover = new PopulationCrossover(context, population, PopulationCrossover.ALL_PAIRS, problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+
+		Map<Pair<Integer, Integer>, AtomicInteger> numberOfCrossoverPairs = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		try {
+			populationCrossover.run(executor, (indices, crossoverPair) ->
+				numberOfCrossoverPairs.computeIfAbsent(indices, key -> new AtomicInteger()).incrementAndGet());
+		} finally {
+			executor.shutdown();
+		}
+
+		for (Pair<Integer, Integer> indices : populationCrossover.getPairs()) {
+			Crossover crossover = new Crossover(context, Pair.of(population.get(indices.getFirst()), population.get(indices.getSecond())),
+					problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+			AtomicInteger expectedNumberOfCrossoverPairs = new AtomicInteger();
+			crossover.forEach(crossoverPair -> expectedNumberOfCrossoverPairs.incrementAndGet());
+			assertEquals(expectedNumberOfCrossoverPairs.get(), numberOfCrossoverPairs.getOrDefault(indices, new AtomicInteger()).get());
+		}
+
+	}
+
+	/**
+	 * Test method for {@link PopulationCrossover#run(ExecutorService, java.util.function.BiConsumer)}. The crossovers of an elite
+	 * with several partners run on different threads must produce the same offsprings as separately created {@link Crossover crossovers}.
+	 */
+	@Test
+	final void testRunWithSharedElite () throws Exception {
+
+		CrossoverContext context = createContext();
+		EClass attributeEClass = getEClassFromResource(CRA_ECORE, "Attribute")[0];
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(attributeEClass);
+		};
+
+		// the elite is chosen such that its split stays the first split of its crossovers
+		List<Resource> population = List.of(CRA_INSTANCE_TWO, CRA_INSTANCE_ONE, copy(CRA_INSTANCE_ONE), copy(CRA_INSTANCE_ONE), copy(CRA_INSTANCE_ONE));
+		PopulationCrossover.PairingScheme star = populationSize -> List.of(Pair.of(0, 1), Pair.of(0, 2), Pair.of(0, 3), Pair.of(0, 4));
+
+		PopulationCrossover populationCrossover = new PopulationCrossover(context, population, star, problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+		assertEquals(Map.of(0, List.of(1, 2, 3, 4)), populationCrossover.getGroups());
+
+		// the graphs becoming the right hand sides of the rules must not be shared between the crossovers of the elite
+
+		EliteCrossover eliteCrossover = new EliteCrossover(context, population.get(0), population.subList(1, population.size()), problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+		Field splitOfSSEOneField = Crossover.class.getDeclaredField("splitOfSSEOne");
+		splitOfSSEOneField.setAccessible(true);
+		Set<Graph> rightHandSides = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (Crossover crossover : eliteCrossover.createCrossovers()) {
+			@SuppressWarnings("unchecked")
+			Pair<View, View> splitOfSSEOne = (Pair<View, View>) splitOfSSEOneField.get(crossover);
+			assertTrue(rightHandSides.add(splitOfSSEOne.getFirst().getGraph()));
+			assertTrue(rightHandSides.add(splitOfSSEOne.getSecond().getGraph()));
+		}
+
+		// the offsprings of crossovers run on different threads
+
+		Map<Pair<Integer, Integer>, List<List<Long>>> offsprings = new ConcurrentHashMap<>();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			for (int i = 0; i < 5; i++) {
+				offsprings.clear();
+				populationCrossover.run(executor, (indices, crossoverPair) ->
+					offsprings.computeIfAbsent(indices, key -> Collections.synchronizedList(new ArrayList<>())).add(hash(crossoverPair)));
+				for (Pair<Integer, Integer> indices : populationCrossover.getPairs()) {
+					Crossover crossover = new Crossover(context, Pair.of(population.get(indices.getFirst()), population.get(indices.getSecond())),
+							problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+					List<List<Long>> expectedOffsprings = new ArrayList<>();
+					crossover.forEach(crossoverPair -> expectedOffsprings.add(hash(crossoverPair)));
+					assertEquals(sorted(expectedOffsprings), sorted(offsprings.getOrDefault(indices, List.of())));
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	/**
+	 * Test method for {@link PopulationCrossover#run(ExecutorService, java.util.function.BiConsumer)}. A failing crossover must stop
+	 * the other crossovers, be reported as the cause of the {@link ExecutionException} and whenDone must not be called afterwards.
+	 */
+	@Test
+	final void testRunStopsOnFailure () throws Exception {
+
+		CrossoverContext context = createContext();
+		EClass attributeEClass = getEClassFromResource(CRA_ECORE, "Attribute")[0];
+		Strategy problemPartSplitStrategy = (View view) -> {
+			view.reduce(attributeEClass);
+		};
+
+		List<Resource> population = List.of(CRA_INSTANCE_TWO, CRA_INSTANCE_ONE, copy(CRA_INSTANCE_ONE), copy(CRA_INSTANCE_ONE), copy(CRA_INSTANCE_ONE));
+		PopulationCrossover populationCrossover = new PopulationCrossover(context, population, PopulationCrossover.ALL_PAIRS, problemPartSplitStrategy, Crossover.DEFAULT_STRATEGY);
+
+		RuntimeException failure = new RuntimeException("whenDone failed");
+		AtomicInteger numberOfCalls = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> populationCrossover.run(executor, (indices, crossoverPair) -> {
+				numberOfCalls.incrementAndGet();
+				throw failure;
+			}));
+			assertSame(failure, exception.getCause());
+		} finally {
+			executor.shutdown();
+		}
+
+		// every started task stops before its next crossover pair
+		int numberOfCallsAfterRun = numberOfCalls.get();
+		assertTrue(numberOfCallsAfterRun <= populationCrossover.getPairs().size());
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(numberOfCallsAfterRun, numberOfCalls.get());
+
+	}
+
+	/**
+	 * @param crossoverPair a crossover {@link Pair pair}
+	 * @return Returns the {@link ModelHash hashes} of both offsprings.
+	 */
+	private static List<Long> hash (Pair<Resource, Resource> crossoverPair) {
+		return List.of(ModelHash.hash(crossoverPair.getFirst()), ModelHash.hash(crossoverPair.getSecond()));
+	}
+
+	/**
+	 * @param hashes the {@link ModelHash hashes} of crossover {@link Pair pairs}
+	 * @return Returns a sorted copy of the given hashes.
+	 */
+	private static List<List<Long>> sorted (List<List<Long>> hashes) {
+		List<List<Long>> sortedHashes = new ArrayList<>(hashes);
+		sortedHashes.sort(Comparator.comparing((List<Long> hash) -> hash.get(0)).thenComparing(hash -> hash.get(1)));
+		return sortedHashes;
+	}
+
+	/**
+	 * @param resource a {@link Resource resource}
+	 * @return Returns a new {@link Resource resource} containing a copy of the contents of the given {@link Resource resource}.
+	 */
+	private static Resource copy (Resource resource) {
+		Resource copy = new ResourceImpl();
+		copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+		return copy;
+	}
+
+	/**
+	 * @return Returns a {@link CrossoverContext} for the {@link TestResources#CRA_ECORE} with the class model, its features
+	 * and their dependencies as the problem part.
+	 */
+	private CrossoverContext createContext () throws CrossoverUsageException {
+
+		EClass[] eClasses = getEClassFromResource(CRA_ECORE, "ClassModel", "Attribute", "Method");
+
+		List<EClass> problemPartEClasses = List.of(eClasses[0], eClasses[1], eClasses[2]);
+		List<EReference> problemPartEReferences = List.of(
+				getEReferenceFromEClass(eClasses[0], "features"),
+				getEReferenceFromEClass(eClasses[2], "dataDependency"),
+				getEReferenceFromEClass(eClasses[2], "functionalDependency")
+		);
+
+		return new CrossoverContext(CRA_ECORE, problemPartEClasses, problemPartEReferences);
+
+	}
+
+}
@@ -0,0 +1,280 @@
+/**
+ *
+ */
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.henshin.model.Edge;
+import org.eclipse.emf.henshin.model.Mapping;
+import org.eclipse.emf.henshin.model.Node;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Benjamin Wagner
+ *
+ */
+class ProblemPartCacheTest extends TestResources {
+
+	private List<EClass> getProblemPartEClasses () {
+		return List.of(getEClassFromResource(SCRUM_PLANNIG_ECORE, "Plan", "Backlog", "Stakeholder", "WorkItem"));
+	}
+
+	private List<EReference> getProblemPartEReferences (List<EClass> problemPartEClasses) {
+		List<EReference> problemPartEReferences = new ArrayList<>();
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(0), "backlog"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(0), "stakeholders"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(1), "workitems"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(2), "workitems"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(3), "stakeholder"));
+		return problemPartEReferences;
+	}
+
+	/**
+	 * @param resource a {@link Resource resource} with one root element
+	 * @return Returns a new {@link Resource resource} containing a copy of the given one's contents.
+	 */
+	private Resource copyResource (Resource resource) {
+		Resource copy = new ResourceImpl();
+		copy.getContents().addAll(EcoreUtil.copyAll(resource.getContents()));
+		return copy;
+	}
+
+	/**
+	 * Test method for {@link view.ProblemPartCache#buildViewMapping(View, View, List, List, java.util.function.Function)}.
+	 * The cached mappings must be equal in size to those of {@link ViewFactory#buildViewMapping(View, View, List, List)}
+	 * and be graph isomorphisms.
+	 */
+	@Test
+	final void testBuildViewMapping () {
+
+		List<EClass> problemPartEClasses = getProblemPartEClasses();
+		List<EReference> problemPartEReferences = getProblemPartEReferences(problemPartEClasses);
+
+		Resource resourceOne = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+		Resource resourceTwo = copyResource(SCRUM_PLANNIG_INSTANCE_THREE);
+		Resource resourceThree = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+
+		ProblemPartCache problemPartCache = new ProblemPartCache();
+
+		for (Resource[] pair : List.of(
+				new Resource[] {resourceOne, resourceTwo},
+				new Resource[] {resourceTwo, resourceThree},
+				new Resource[] {resourceThree, resourceOne},
+				new Resource[] {resourceTwo, resourceTwo})) {
+
+			View viewOne = new View(pair[0]);
+			View viewTwo = new View(pair[1]);
+			Set<Mapping> mappings = problemPartCache.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+			assertNotNull(mappings);
+
+			View expectedViewOne = new View(pair[0]);
+			View expectedViewTwo = new View(pair[1]);
+			Set<Mapping> expectedMappings = ViewFactory.buildViewMapping(expectedViewOne, expectedViewTwo, problemPartEClasses, problemPartEReferences);
+
+			assertTrue(expectedViewOne.equals(viewOne));
+			assertTrue(expectedViewTwo.equals(viewTwo));
+			assertEquals(expectedMappings.size(), mappings.size());
+			assertMappingIsIsomorphism(mappings, viewOne, viewTwo);
+
+		}
+
+		assertTrue(problemPartCache.isCached(resourceOne));
+		assertTrue(problemPartCache.isCached(resourceTwo));
+		assertTrue(problemPartCache.isCached(resourceThree));
+
+	}
+
+	/**
+	 * Test method for the eviction of the {@link view.ProblemPartCache} on the modification of a {@link Resource resource}.
+	 */
+	@Test
+	final void testEviction () {
+
+		List<EClass> problemPartEClasses = getProblemPartEClasses();
+		List<EReference> problemPartEReferences = getProblemPartEReferences(problemPartEClasses);
+		EAttribute importance = (EAttribute) problemPartEClasses.get(3).getEStructuralFeature("Importance");
+
+		Resource reference = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+		Resource resourceOne = copyResource(SCRUM_PLANNIG_INSTANCE_THREE);
+		Resource resourceTwo = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+
+		ProblemPartCache problemPartCache = new ProblemPartCache();
+		problemPartCache.buildViewMapping(new View(reference), new View(resourceOne), problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+		problemPartCache.buildViewMapping(new View(resourceOne), new View(resourceTwo), problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+
+		// modifying a resource evicts its entries only
+
+		EObject workItem = getEObjectsFromResource(resourceOne, eObject -> eObject.eClass().getName().equals("WorkItem")).get(0).iterator().next();
+		workItem.eSet(importance, 42);
+
+		assertFalse(problemPartCache.isCached(resourceOne));
+		assertTrue(problemPartCache.isCached(resourceTwo));
+		assertTrue(problemPartCache.isCached(reference));
+		assertTrue(resourceOne.eAdapters().isEmpty());
+
+		View viewOne = new View(resourceOne);
+		View viewTwo = new View(resourceTwo);
+		Set<Mapping> mappings = problemPartCache.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+		assertNotNull(mappings);
+		assertMappingIsIsomorphism(mappings, viewOne, viewTwo);
+		assertTrue(problemPartCache.isCached(resourceOne));
+
+		// modifying the reference evicts all entries
+
+		workItem = getEObjectsFromResource(reference, eObject -> eObject.eClass().getName().equals("WorkItem")).get(0).iterator().next();
+		workItem.eSet(importance, 42);
+
+		assertFalse(problemPartCache.isCached(reference));
+		assertFalse(problemPartCache.isCached(resourceOne));
+		assertFalse(problemPartCache.isCached(resourceTwo));
+
+		// clearing the cache removes all adapters
+
+		problemPartCache.buildViewMapping(new View(resourceOne), new View(resourceTwo), problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+		assertFalse(resourceTwo.eAdapters().isEmpty());
+		problemPartCache.clear();
+		assertFalse(problemPartCache.isCached(resourceOne));
+		assertTrue(resourceOne.eAdapters().isEmpty());
+		assertTrue(resourceTwo.eAdapters().isEmpty());
+
+	}
+
+	/**
+	 * Test method for {@link view.ProblemPartCache#buildViewMapping(View, View, List, List, java.util.function.Function)}
+	 * with a problem part that is not isomorphic to the problem part of the reference. The negative result must be cached too.
+	 */
+	@Test
+	final void testBuildViewMappingOfNonIsomorphicProblemPart () {
+
+		List<EClass> problemPartEClasses = getProblemPartEClasses();
+		List<EReference> problemPartEReferences = getProblemPartEReferences(problemPartEClasses);
+
+		Resource reference = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+		Resource resource = copyResource(SCRUM_PLANNIG_INSTANCE_TWO);
+		EcoreUtil.delete(getEObjectsFromResource(resource, eObject -> eObject.eClass().getName().equals("WorkItem")).get(0).iterator().next());
+
+		ProblemPartCache problemPartCache = new ProblemPartCache();
+
+		for (int i = 0; i < 2; i++) {
+			View viewOne = new View(reference);
+			View viewTwo = new View(resource);
+			assertNull(problemPartCache.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY));
+			assertTrue(problemPartCache.isCached(resource));
+		}
+
+		// the negative result is evicted on modification
+
+		EObject stakeholder = getEObjectsFromResource(resource, eObject -> eObject.eClass().getName().equals("Stakeholder")).get(0).iterator().next();
+		EcoreUtil.delete(stakeholder);
+		assertFalse(problemPartCache.isCached(resource));
+		assertTrue(resource.eAdapters().isEmpty());
+
+	}
+
+	/**
+	 * Test method for {@link view.ProblemPartCache#buildViewMapping(View, View, List, List, java.util.function.Function)}
+	 * and {@link view.ProblemPartCache#getProblemPart(Resource, List, List, java.util.function.Function)} called by multiple threads
+	 * at the same time.
+	 */
+	@Test
+	final void testConcurrentBuildViewMapping () throws InterruptedException, ExecutionException {
+
+		List<EClass> problemPartEClasses = getProblemPartEClasses();
+		List<EReference> problemPartEReferences = getProblemPartEReferences(problemPartEClasses);
+
+		List<Resource> resources = List.of(
+				copyResource(SCRUM_PLANNIG_INSTANCE_TWO),
+				copyResource(SCRUM_PLANNIG_INSTANCE_THREE),
+				copyResource(SCRUM_PLANNIG_INSTANCE_TWO),
+				copyResource(SCRUM_PLANNIG_INSTANCE_THREE));
+
+		ProblemPartCache problemPartCache = new ProblemPartCache();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (Resource resourceOne : resources) {
+				for (Resource resourceTwo : resources) {
+					futures.add(executor.submit(() -> {
+						View viewOne = new View(resourceOne);
+						View viewTwo = new View(resourceTwo);
+						Set<Mapping> mappings = problemPartCache.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY);
+						assertNotNull(mappings);
+						assertMappingIsIsomorphism(mappings, viewOne, viewTwo);
+					}));
+				}
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+
+		} finally {
+			executor.shutdownNow();
+		}
+
+		for (Resource resource : resources) {
+			assertTrue(problemPartCache.isCached(resource));
+			View expectedProblemPart = new View(resource);
+			problemPartEClasses.forEach(expectedProblemPart::extend);
+			problemPartEReferences.forEach(expectedProblemPart::extend);
+			assertTrue(expectedProblemPart.equals(problemPartCache.getProblemPart(resource, problemPartEClasses, problemPartEReferences, ViewFactory.NO_KEY)));
+		}
+
+	}
+
+	/**
+	 * Asserts that the given {@link Mapping mappings} are a bijection between the {@link Node nodes} of the {@link View views}
+	 * that preserves the types and {@link Edge edges}.
+	 * @param mappings the {@link Mapping mappings} from {@link View viewOne} to {@link View viewTwo}
+	 * @param viewOne the {@link View view} containing the origins
+	 * @param viewTwo the {@link View view} containing the images
+	 */
+	private void assertMappingIsIsomorphism (Set<Mapping> mappings, View viewOne, View viewTwo) {
+
+		Map<Node, Node> match = new HashMap<>();
+		mappings.forEach(mapping -> match.put(mapping.getOrigin(), mapping.getImage()));
+
+		assertEquals(viewOne.graph.getNodes().size(), match.size());
+		assertEquals(viewTwo.graph.getNodes().size(), Set.copyOf(match.values()).size());
+
+		match.forEach((origin, image) -> {
+			assertTrue(viewTwo.contains(image));
+			assertEquals(origin.getType(), image.getType());
+		});
+
+		assertEquals(viewOne.graph.getEdges().size(), viewTwo.graph.getEdges().size());
+
+		for (Edge edge : viewOne.graph.getEdges()) {
+			EObject sourceEObject = viewTwo.getObject(match.get(edge.getSource()));
+			EObject targetEObject = viewTwo.getObject(match.get(edge.getTarget()));
+			assertTrue(viewTwo.contains(sourceEObject, targetEObject, edge.getType(), false));
+		}
+
+	}
+
+}
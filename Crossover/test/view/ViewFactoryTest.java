@@ -27,6 +27,8 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.henshin.interpreter.EGraph;
 import org.eclipse.emf.henshin.model.Edge;
 import org.eclipse.emf.henshin.model.Mapping;
@@ -105,6 +107,68 @@ class ViewFactoryTest extends TestResources {
 		
 	}
 	
+	/**
+	 * Test method for {@link view.ViewFactory#buildViewMapping(view.View, view.View, java.util.List, java.util.List, Function)}.
+	 */
+	@Test
+	final void testBuildViewMappingWithKey () {
+		
+		List<EClass> problemPartEClasses = List.of(getEClassFromResource(SCRUM_PLANNIG_ECORE, "Plan", "Backlog", "Stakeholder", "WorkItem"));
+		List<EReference> problemPartEReferences = new ArrayList<>();
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(0), "backlog"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(0), "stakeholders"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(1), "workitems"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(2), "workitems"));
+		problemPartEReferences.add(getEReferenceFromEClass(problemPartEClasses.get(3), "stakeholder"));
+		
+		Function<EObject, String> fragmentKey = eObject -> eObject.eResource().getURIFragment(eObject);
+		
+		// the key identifies all eObjects, so the mapping must comply with it
+		
+		View viewOne = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		View viewTwo = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		Set<Mapping> viewMappings = ViewFactory.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, fragmentKey);
+		assertNotNull(viewMappings);
+		assertViewContainsElements(viewOne, problemPartEClasses, problemPartEReferences);
+		assertViewContainsElements(viewTwo, problemPartEClasses, problemPartEReferences);
+		assertMappingIsTotal(viewMappings, viewOne, problemPartEClasses);
+		assertMappingIsGraphIsomorphism(viewMappings, viewOne, viewTwo, problemPartEReferences);
+		for (Mapping mapping : viewMappings) {
+			assertEquals(viewOne.getObject(mapping.getOrigin()), viewTwo.getObject(mapping.getImage()));
+		}
+		
+		// a key that contradicts the structure is ignored
+		
+		Resource reorderedResource = new ResourceImpl();
+		reorderedResource.getContents().addAll(EcoreUtil.copyAll(SCRUM_PLANNIG_INSTANCE_ONE.getContents()));
+		EObject plan = reorderedResource.getContents().get(0);
+		@SuppressWarnings("unchecked")
+		EList<EObject> stakeholders = (EList<EObject>) plan.eGet(getEReferenceFromEClass(problemPartEClasses.get(0), "stakeholders"));
+		stakeholders.move(0, 1);
+		
+		viewOne = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		viewTwo = new View(reorderedResource);
+		viewMappings = ViewFactory.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, fragmentKey);
+		assertNotNull(viewMappings);
+		assertMappingIsTotal(viewMappings, viewOne, problemPartEClasses);
+		assertMappingIsGraphIsomorphism(viewMappings, viewOne, viewTwo, problemPartEReferences);
+		
+		// ambiguous keys and missing keys are ignored
+		
+		EClass workItem = problemPartEClasses.get(3);
+		EAttribute importance = (EAttribute) workItem.getEStructuralFeature("Importance");
+		
+		for (Function<EObject, ?> key : List.of(ViewFactory.createAttributeKey(importance), ViewFactory.createXMIIDKey())) {
+			viewOne = new View(SCRUM_PLANNIG_INSTANCE_TWO);
+			viewTwo = new View(SCRUM_PLANNIG_INSTANCE_THREE);
+			viewMappings = ViewFactory.buildViewMapping(viewOne, viewTwo, problemPartEClasses, problemPartEReferences, key);
+			assertNotNull(viewMappings);
+			assertMappingIsTotal(viewMappings, viewOne, problemPartEClasses);
+			assertMappingIsGraphIsomorphism(viewMappings, viewOne, viewTwo, problemPartEReferences);
+		}
+		
+	}
+	
 	/**
 	 * Makes assertions that are true if and only if the {@link View view} contains all of the
 	 * given {@link EClass eClasses} and {@link EReference eReferences}.
@@ -396,6 +460,26 @@ class ViewFactoryTest extends TestResources {
 		assertTrue(ViewFactory.isSubgraph(copyOfViewOne, viewOne));
 		assertFalse(ViewFactory.isSubgraph(viewOne, copyOfViewOne));
 		
+		// edges of the opposite type
+		
+		viewOne.clear();
+		viewTwo = new View(SCRUM_PLANNIG_INSTANCE_TWO);
+		
+		viewOne.extend(problemPartEClasses.get(2));
+		viewOne.extend(problemPartEClasses.get(3));
+		viewOne.extend(problemPartEReferences.get(3));
+		
+		viewTwo.extend(problemPartEClasses.get(2));
+		viewTwo.extend(problemPartEClasses.get(3));
+		viewTwo.extend(problemPartEReferences.get(4));
+		
+		assertTrue(ViewFactory.isSubgraph(viewOne, viewTwo));
+		assertTrue(ViewFactory.isSubgraph(viewTwo, viewOne));
+		
+		viewTwo.reduce(problemPartEReferences.get(4));
+		assertFalse(ViewFactory.isSubgraph(viewOne, viewTwo));
+		assertTrue(ViewFactory.isSubgraph(viewTwo, viewOne));
+		
 	}
 
 	// CreateEGraphFromView
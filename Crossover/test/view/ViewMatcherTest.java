@@ -0,0 +1,369 @@
+/**
+ *
+ */
+package view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.henshin.interpreter.EGraph;
+import org.eclipse.emf.henshin.interpreter.Engine;
+import org.eclipse.emf.henshin.interpreter.Match;
+import org.eclipse.emf.henshin.interpreter.impl.EngineImpl;
+import org.eclipse.emf.henshin.model.Edge;
+import org.eclipse.emf.henshin.model.Node;
+import org.eclipse.emf.henshin.model.Rule;
+import org.eclipse.emf.henshin.model.impl.RuleImpl;
+import org.junit.jupiter.api.Test;
+
+import crossover.Pair;
+
+/**
+ * @author Benjamin Wagner
+ *
+ */
+class ViewMatcherTest extends TestResources {
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getMatchIterator(view.View, view.View)} on a {@link View view}
+	 * and its {@link View#copy() copy}. The found matches are the automorphisms of the {@link View view}.
+	 */
+	@Test
+	final void testGetMatchIteratorOnCopy () {
+
+		View view = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		view.extendByAllNodes();
+		view.extendByMissingEdges();
+		View copyOfView = view.copy();
+
+		List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getMatchIterator(view, copyOfView));
+
+		// two stakeholders with two workitems each
+		assertEquals(8, matches.size());
+		assertEquals(8, new HashSet<>(matches).size());
+
+		Map<Node, Node> identity = new HashMap<>();
+		view.graph.getNodes().forEach(node -> identity.put(node, copyOfView.getNode(view.getObject(node))));
+		assertTrue(matches.contains(identity));
+
+		matches.forEach(match -> assertMatchIsValid(match, view, copyOfView));
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getMatchIterator(view.View, view.View, java.util.function.BiPredicate)}.
+	 * Only matches mapping each node to a node accepted by the filter must be found.
+	 */
+	@Test
+	final void testGetMatchIteratorWithNodeFilter () {
+
+		View view = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		view.extendByAllNodes();
+		view.extendByMissingEdges();
+		View copyOfView = view.copy();
+
+		// the identity is the only match mapping each node onto the node of the same object
+		List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getMatchIterator(view, copyOfView,
+				(node, candidate) -> view.getObject(node) == copyOfView.getObject(candidate)));
+
+		assertEquals(1, matches.size());
+		matches.get(0).forEach((node, image) -> assertEquals(view.getObject(node), copyOfView.getObject(image)));
+
+		// a filter rejecting all candidates of one node prevents all matches
+		Node rejectedNode = view.graph.getNodes().get(0);
+		assertFalse(ViewMatcher.getMatchIterator(view, copyOfView, (node, candidate) -> node != rejectedNode).hasNext());
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getMatchIterator(view.View, view.View, Map)} with a partial match.
+	 */
+	@Test
+	final void testGetMatchIteratorWithPartialMatch () {
+
+		View view = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		view.extendByAllNodes();
+		view.extendByMissingEdges();
+		View copyOfView = view.copy();
+
+		EObject[] stakeholders = getEObjectsFromResource(SCRUM_PLANNIG_INSTANCE_ONE,
+				eObject -> eObject.eClass().getName().equals("Stakeholder")).get(0).toArray(new EObject[0]);
+		assertEquals(2, stakeholders.length);
+
+		// fixing one stakeholder fixes the other one
+		Map<Node, Node> partialMatch = new HashMap<>();
+		partialMatch.put(view.getNode(stakeholders[0]), copyOfView.getNode(stakeholders[0]));
+
+		List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getMatchIterator(view, copyOfView, partialMatch));
+
+		assertEquals(4, matches.size());
+
+		for (Map<Node, Node> match : matches) {
+			assertMatchIsValid(match, view, copyOfView);
+			assertEquals(stakeholders[0], copyOfView.getObject(match.get(view.getNode(stakeholders[0]))));
+			assertEquals(stakeholders[1], copyOfView.getObject(match.get(view.getNode(stakeholders[1]))));
+		}
+
+		// fixing a stakeholder to a workitem forbids all matches
+		EObject workitem = getEObjectsFromResource(SCRUM_PLANNIG_INSTANCE_ONE,
+				eObject -> eObject.eClass().getName().equals("WorkItem")).get(0).iterator().next();
+		partialMatch.put(view.getNode(stakeholders[0]), copyOfView.getNode(workitem));
+
+		assertFalse(ViewMatcher.getMatchIterator(view, copyOfView, partialMatch).hasNext());
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getMatchIterator(view.View, view.View)} with empty and larger patterns.
+	 */
+	@Test
+	final void testGetMatchIteratorEdgeCases () {
+
+		View emptyView = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		View view = new View(SCRUM_PLANNIG_INSTANCE_TWO);
+		view.extendByAllNodes();
+		view.extendByMissingEdges();
+
+		// the empty pattern has exactly one match
+		Iterator<Map<Node, Node>> matchIterator = ViewMatcher.getMatchIterator(emptyView, view);
+		assertTrue(matchIterator.hasNext());
+		assertTrue(matchIterator.next().isEmpty());
+		assertFalse(matchIterator.hasNext());
+
+		// a pattern with more nodes than the target has no match
+		View reducedView = view.copy();
+		reducedView.reduce(reducedView.getObject(reducedView.getRandomNode()));
+		reducedView.removeDangling();
+		assertFalse(ViewMatcher.getMatchIterator(view, reducedView).hasNext());
+
+		try {
+			ViewMatcher.getMatchIterator(view, null);
+			fail("Expected an IllegalArgumentException but no was thrown.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The toView must not be null.", e.getMessage());
+		}
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getMatchIterator(view.View, view.View)}. Compares the number of found matches
+	 * with the number of {@link Match matches} the Henshin {@link Engine} finds.
+	 */
+	@Test
+	final void testGetMatchIteratorAgreesWithEngine () {
+
+		for (Pair<View, View> pair : List.of(
+				Pair.of(new View(SCRUM_PLANNIG_INSTANCE_TWO), new View(SCRUM_PLANNIG_INSTANCE_THREE)),
+				Pair.of(new View(CRA_INSTANCE_ONE), new View(CRA_INSTANCE_TWO)),
+				Pair.of(new View(MULTI_REF_MODEL_INSTANCE_ONE), new View(MULTI_REF_MODEL_INSTANCE_ONE)))) {
+
+			View fromView = pair.getFirst();
+			View toView = pair.getSecond();
+			fromView.extendByAllNodes();
+			fromView.extendByMissingEdges();
+			toView.extendByAllNodes();
+			toView.extendByMissingEdges();
+
+			// reduce the pattern so that there are non-trivial matches
+			fromView.reduce(fromView.getObject(fromView.getGraph().getNodes().get(0)));
+			fromView.removeDangling();
+
+			List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getMatchIterator(fromView, toView));
+			matches.forEach(match -> assertMatchIsValid(match, fromView, toView));
+
+			Rule rule = new RuleImpl();
+			rule.setLhs(fromView.copy().getGraph());
+			rule.setCheckDangling(false);
+			rule.setInjectiveMatching(true);
+			Pair<EGraph, Map<EObject, EObject>> eGraphPair = ViewFactory.createEGraphFromView(toView);
+			Engine engine = new EngineImpl();
+
+			int engineMatchCount = 0;
+			for (@SuppressWarnings("unused") Match match : engine.findMatches(rule, eGraphPair.getFirst(), null)) engineMatchCount++;
+
+			assertEquals(engineMatchCount, matches.size());
+
+		}
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getParallelMatchIterator(View, View, Map, ForkJoinPool, int)}.
+	 * The parallel enumeration must find the same matches as the sequential one.
+	 */
+	@Test
+	final void testGetParallelMatchIterator () {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			for (Pair<View, View> pair : List.of(
+					Pair.of(new View(SCRUM_PLANNIG_INSTANCE_ONE), new View(SCRUM_PLANNIG_INSTANCE_ONE)),
+					Pair.of(new View(SCRUM_PLANNIG_INSTANCE_TWO), new View(SCRUM_PLANNIG_INSTANCE_THREE)),
+					Pair.of(new View(CRA_INSTANCE_ONE), new View(CRA_INSTANCE_TWO)))) {
+
+				View fromView = pair.getFirst();
+				View toView = pair.getSecond();
+				fromView.extendByAllNodes();
+				fromView.extendByMissingEdges();
+				toView.extendByAllNodes();
+				toView.extendByMissingEdges();
+				fromView.reduce(fromView.getObject(fromView.getGraph().getNodes().get(0)));
+				fromView.removeDangling();
+
+				Set<Map<Node, Node>> expectedMatches = new HashSet<>(collectMatches(ViewMatcher.getMatchIterator(fromView, toView)));
+
+				// a capacity of one makes the workers wait for the consumer
+				for (int capacity : new int[] {1, 64}) {
+					List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getParallelMatchIterator(fromView, toView, Collections.emptyMap(), pool, capacity));
+					assertEquals(expectedMatches.size(), matches.size());
+					assertEquals(expectedMatches, new HashSet<>(matches));
+				}
+
+			}
+
+			// with a partial match the search is split after the fixed nodes
+
+			View view = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+			view.extendByAllNodes();
+			view.extendByMissingEdges();
+			View copyOfView = view.copy();
+
+			EObject stakeholder = getEObjectsFromResource(SCRUM_PLANNIG_INSTANCE_ONE,
+					eObject -> eObject.eClass().getName().equals("Stakeholder")).get(0).iterator().next();
+			Map<Node, Node> partialMatch = Map.of(view.getNode(stakeholder), copyOfView.getNode(stakeholder));
+
+			Set<Map<Node, Node>> expectedMatches = new HashSet<>(collectMatches(ViewMatcher.getMatchIterator(view, copyOfView, partialMatch)));
+			List<Map<Node, Node>> matches = collectMatches(ViewMatcher.getParallelMatchIterator(view, copyOfView, partialMatch, pool, 2));
+			assertEquals(4, matches.size());
+			assertEquals(expectedMatches, new HashSet<>(matches));
+
+			// a total partial match
+
+			Map<Node, Node> identity = new HashMap<>();
+			view.graph.getNodes().forEach(node -> identity.put(node, copyOfView.getNode(view.getObject(node))));
+			matches = collectMatches(ViewMatcher.getParallelMatchIterator(view, copyOfView, identity, pool, 2));
+			assertEquals(List.of(identity), matches);
+
+			try {
+				ViewMatcher.getParallelMatchIterator(view, copyOfView, identity, pool, 0);
+				fail("Expected an IllegalArgumentException but no was thrown.");
+			} catch (IllegalArgumentException e) {
+				assertEquals("The capacity must be positive.", e.getMessage());
+			}
+
+		} finally {
+			pool.shutdownNow();
+		}
+
+	}
+
+	/**
+	 * Test method for {@link view.ViewMatcher#getParallelMatchIterator(View, View, Map, ForkJoinPool, int, BooleanSupplier)}.
+	 * The condition must be checked by the workers, which must end once it is true.
+	 */
+	@Test
+	final void testGetParallelMatchIteratorWithStop () {
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+
+			View fromView = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+			View toView = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+			fromView.extendByAllNodes();
+			fromView.extendByMissingEdges();
+			toView.extendByAllNodes();
+			toView.extendByMissingEdges();
+			fromView.reduce(fromView.getObject(fromView.getGraph().getNodes().get(0)));
+			fromView.removeDangling();
+
+			int numberOfMatches = collectMatches(ViewMatcher.getMatchIterator(fromView, toView)).size();
+			assertTrue(numberOfMatches > 1);
+
+			assertEquals(List.of(), collectMatches(ViewMatcher.getParallelMatchIterator(fromView, toView, Collections.emptyMap(), pool, 1, () -> true)));
+
+			Set<Thread> checkingThreads = ConcurrentHashMap.newKeySet();
+			AtomicBoolean stopped = new AtomicBoolean(false);
+			Iterator<Map<Node, Node>> matchIterator = ViewMatcher.getParallelMatchIterator(fromView, toView, Collections.emptyMap(), pool, 1, () -> {
+				checkingThreads.add(Thread.currentThread());
+				return stopped.get();
+			});
+
+			assertTrue(matchIterator.hasNext());
+			assertNotNull(matchIterator.next());
+			stopped.set(true);
+			assertFalse(matchIterator.hasNext());
+
+			// the workers end although the queue is full
+			assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+			checkingThreads.remove(Thread.currentThread());
+			assertFalse(checkingThreads.isEmpty());
+
+			try {
+				ViewMatcher.getParallelMatchIterator(fromView, toView, Collections.emptyMap(), pool, 1, null);
+				fail("Expected an IllegalArgumentException but no was thrown.");
+			} catch (IllegalArgumentException e) {
+				assertEquals("The stop must not be null.", e.getMessage());
+			}
+
+		} finally {
+			pool.shutdownNow();
+		}
+
+	}
+
+	private List<Map<Node, Node>> collectMatches (Iterator<Map<Node, Node>> matchIterator) {
+		List<Map<Node, Node>> matches = new ArrayList<>();
+		while (matchIterator.hasNext()) {
+			Map<Node, Node> match = matchIterator.next();
+			assertNotNull(match);
+			matches.add(match);
+		}
+		return matches;
+	}
+
+	/**
+	 * Asserts that the match is total, injective and preserves the types and the {@link Edge edges} of the {@link View fromView}.
+	 * @param match a match from the {@link View#graph graph} of the {@link View fromView} to that of the {@link View toView}
+	 * @param fromView the {@link View view} containing the pattern
+	 * @param toView the {@link View view} containing the images
+	 */
+	private void assertMatchIsValid (Map<Node, Node> match, View fromView, View toView) {
+
+		assertEquals(new HashSet<>(fromView.graph.getNodes()), match.keySet());
+		assertEquals(match.size(), new HashSet<>(match.values()).size());
+
+		match.forEach((origin, image) -> {
+			assertTrue(toView.contains(image));
+			assertTrue(origin.getType().isSuperTypeOf(image.getType()));
+		});
+
+		for (Edge edge : fromView.graph.getEdges()) {
+			EObject sourceEObject = toView.getObject(match.get(edge.getSource()));
+			EObject targetEObject = toView.getObject(match.get(edge.getTarget()));
+			assertTrue(toView.contains(sourceEObject, targetEObject, edge.getType(), false));
+		}
+
+	}
+
+}
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -65,6 +66,28 @@ class ViewTest extends TestResources {
 		
 	}
 
+	/**
+	 * Test method for {@link view.View#getRandomNode(SplittableRandom)}. Equally seeded generators must choose the same nodes.
+	 */
+	@Test
+	final void testGetRandomNodeWithSplittableRandom () {
+		
+		View viewOnScrumPlanningInstanceOne = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		assertNull(viewOnScrumPlanningInstanceOne.getRandomNode(new SplittableRandom(42)));
+		
+		viewOnScrumPlanningInstanceOne.extendByAllNodes();
+		
+		SplittableRandom randomOne = new SplittableRandom(42);
+		SplittableRandom randomTwo = new SplittableRandom(42);
+		
+		for (int i = 0; i < 20; i++) {
+			Node node = viewOnScrumPlanningInstanceOne.getRandomNode(randomOne);
+			assertTrue(viewOnScrumPlanningInstanceOne.graph.getNodes().contains(node));
+			assertEquals(node, viewOnScrumPlanningInstanceOne.getRandomNode(randomTwo));
+		}
+		
+	}
+	
 	/**
 	 * Test method for {@link view.View#getRandomNode()}.
 	 */
@@ -3633,9 +3656,63 @@ class ViewTest extends TestResources {
 		for (List<EObject> list : inResourceRemainingEdges) {
 			assertTrue(!view.contains(list.get(0)) || !view.contains(list.get(1)));
 		}
-		
+
 	}
-	
+
+	// extendByInducedEdges
+
+	/**
+	 * Test method for {@link view.View#extendByInducedEdges(View)}. Extending a {@link View view} by the induced edges of
+	 * a {@link View view} containing all edges of the {@link Resource resource} must yield the same {@link View view} as
+	 * {@link View#extendByMissingEdges()}.
+	 */
+	@Test
+	final void testExtendByInducedEdges() {
+
+		View completeView = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+		completeView.extendByAllNodes();
+		completeView.extendByMissingEdges();
+
+		EClass[] eClasses = getEClassFromResource(SCRUM_PLANNIG_ECORE, "Stakeholder", "Backlog", "WorkItem");
+		EReference stakeholderWorkitems = getEReferenceFromEClass(eClasses[0], "workitems");
+		EObject stakeholderEObject = getEObjectsFromResource(SCRUM_PLANNIG_INSTANCE_ONE,
+				eObject -> eObject.eClass().getName().equals("Stakeholder")).get(0).iterator().next();
+
+		for (EClass[] eClassesToExtend : List.of(new EClass[] {}, new EClass[] {eClasses[0]},
+				new EClass[] {eClasses[0], eClasses[2]}, new EClass[] {eClasses[1], eClasses[2]}, eClasses)) {
+
+			View view = new View(SCRUM_PLANNIG_INSTANCE_ONE);
+			for (EClass eClass : eClassesToExtend) view.extend(eClass);
+
+			// an already contained edge must not be added twice
+			if (view.contains(stakeholderEObject)) {
+				@SuppressWarnings("unchecked")
+				EList<EObject> workitemEObjects = (EList<EObject>) stakeholderEObject.eGet(stakeholderWorkitems);
+				view.extend(stakeholderEObject, workitemEObjects.get(0), stakeholderWorkitems);
+			}
+
+			View expectedView = view.copy();
+			expectedView.extendByMissingEdges();
+
+			view.extendByInducedEdges(completeView);
+			assertEquals(expectedView, view);
+			assertEquals(expectedView.graph.getEdges().size(), view.graph.getEdges().size());
+
+			// idempotence
+			view.extendByInducedEdges(completeView);
+			assertEquals(expectedView.graph.getEdges().size(), view.graph.getEdges().size());
+
+		}
+
+		try {
+			new View(SCRUM_PLANNIG_INSTANCE_TWO).extendByInducedEdges(completeView);
+			fail("Expected an IllegalArgumentException but no was thrown.");
+		} catch (IllegalArgumentException e) {
+			assertEquals("The resources are not identical.", e.getMessage());
+		}
+
+	}
+
 	// matchViewByMetamodel
 
 	/**